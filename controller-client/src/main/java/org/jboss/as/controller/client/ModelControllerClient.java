@@ -28,7 +28,10 @@ import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import javax.net.ssl.SSLContext;
 import javax.security.auth.callback.CallbackHandler;
@@ -178,6 +181,52 @@ public interface ModelControllerClient extends Closeable {
      */
     AsyncFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler);
 
+    /**
+     * Execute several operations without waiting for one to complete before sending the next, optionally
+     * receiving progress reports. The operations share the client's connection but may execute concurrently
+     * and in any order, so they should not depend on each other; use a composite operation if they do.
+     *
+     * @param operations the operations to execute
+     * @param messageHandler the message handler to use for operation progress reporting, or {@code null} for none
+     * @return the future results of the operations, in the same order as {@code operations}
+     */
+    default List<AsyncFuture<ModelNode>> executeAsync(List<Operation> operations, OperationMessageHandler messageHandler) {
+        final List<AsyncFuture<ModelNode>> results = new ArrayList<>(operations.size());
+        for (Operation operation : operations) {
+            results.add(executeAsync(operation, messageHandler));
+        }
+        return results;
+    }
+
+    /**
+     * Execute several operations synchronously, sending all of them before waiting for any result. The same
+     * restrictions as for {@link #executeAsync(List, OperationMessageHandler)} apply.
+     *
+     * @param operations the operations to execute
+     * @return the results of the operations, in the same order as {@code operations}
+     * @throws IOException if an I/O error occurs while executing the operations
+     */
+    default List<ModelNode> execute(List<Operation> operations) throws IOException {
+        final List<AsyncFuture<ModelNode>> futures = executeAsync(operations, OperationMessageHandler.DISCARD);
+        final List<ModelNode> results = new ArrayList<>(futures.size());
+        try {
+            for (AsyncFuture<ModelNode> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            // Don't leave operations running that nobody waits for
+            for (int i = results.size(); i < futures.size(); i++) {
+                futures.get(i).asyncCancel(true);
+            }
+        }
+        return results;
+    }
+
     /** Factory methods for creating a {@code ModelControllerClient}. */
     class Factory {
 
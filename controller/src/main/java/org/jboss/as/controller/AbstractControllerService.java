@@ -542,6 +542,17 @@ public abstract class AbstractControllerService implements Service<ModelControll
         return controller.getNotificationSupport();
     }
 
+    /**
+     * Gets the revision of the published management model. A new revision is assigned each time a changed
+     * resource tree is published, and revisions are never reused, even if the controller is restarted.
+     *
+     * @return the revision, or {@code 0} if the controller is not running
+     */
+    protected final long getModelRevision() {
+        final ModelControllerImpl controller = this.controller;
+        return controller == null ? 0 : controller.getModelRevision();
+    }
+
     protected final MutableRootResourceRegistrationProvider getMutableRootResourceRegistrationProvider() {
         return ModelControllerImpl.getMutableRootResourceRegistrationProvider();
     }
@@ -559,6 +570,12 @@ public abstract class AbstractControllerService implements Service<ModelControll
             @Override
             public void run() {
                 try {
+                    // Don't lose configuration changes that are still waiting to be written
+                    try {
+                        configurationPersister.flush();
+                    } catch (ConfigurationPersistenceException e) {
+                        ROOT_LOGGER.failedToFlushConfiguration(e);
+                    }
                     stopAsynchronous(context);
                 } finally {
                     try {
@@ -157,6 +157,11 @@ abstract class AbstractOperationContext implements OperationContext {
     private final Queue<String> missingNotificationDescriptionWarnings;
 
     Stage currentStage = Stage.MODEL;
+    /** Time spent executing each stage, indexed by ordinal; only modified by the controlling thread */
+    private final long[] stageTimes = new long[Stage.values().length];
+    /** The stage being timed in {@link #stageTimes}, and when it started */
+    private Stage timedStage;
+    private long timedStageStart;
 
     ResultAction resultAction;
     /** Tracks whether we've detected cancellation */
@@ -436,6 +441,8 @@ abstract class AbstractOperationContext implements OperationContext {
         try {
             /** Execution has begun */
             executing = true;
+            timedStage = currentStage;
+            timedStageStart = System.nanoTime();
 
             processStages();
 
@@ -448,6 +455,7 @@ abstract class AbstractOperationContext implements OperationContext {
             handleUncaughtException(e);
             ControllerLogger.MGMT_OP_LOGGER.unexpectedOperationExecutionException(e, controllerOperations);
         } finally {
+            stageTimes[timedStage.ordinal()] += System.nanoTime() - timedStageStart;
             // On failure close any attached response streams
             if (resultAction != ResultAction.KEEP && !isBooting()) {
                 synchronized (this) {
@@ -471,6 +479,15 @@ abstract class AbstractOperationContext implements OperationContext {
         return resultAction;
     }
 
+    /**
+     * Gets the time spent executing each stage of this context's operation.
+     *
+     * @return the times, in nanoseconds, indexed by {@link Stage#ordinal()}
+     */
+    long[] getStageTimes() {
+        return stageTimes;
+    }
+
     /** Opportunity to do required cleanup after an exception propagated all the way to {@link #executeOperation()}.*/
     void handleUncaughtException(RuntimeException e) {
     }
@@ -680,6 +697,10 @@ abstract class AbstractOperationContext implements OperationContext {
                 // Proceed to the next stage
                 if (currentStage.hasNext()) {
                     currentStage = currentStage.next();
+                    final long now = System.nanoTime();
+                    stageTimes[timedStage.ordinal()] += now - timedStageStart;
+                    timedStage = currentStage;
+                    timedStageStart = now;
                     if (currentStage == Stage.VERIFY) {
                         // a change was made to the runtime. Thus, we must wait
                         // for stability before resuming in to verify.
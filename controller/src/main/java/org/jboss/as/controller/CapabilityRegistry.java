@@ -40,6 +40,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.jboss.as.controller.capability.Capability;
@@ -67,22 +68,17 @@ import org.jboss.msc.service.ServiceName;
  */
 public final class CapabilityRegistry implements ImmutableCapabilityRegistry, PossibleCapabilityRegistry, RuntimeCapabilityRegistry {
 
-    private final Map<CapabilityId, RuntimeCapabilityRegistration> capabilities = new HashMap<>();
-    private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirements = new HashMap<>();
-    private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> runtimeOnlyRequirements = new HashMap<>();
     private final boolean forServer;
-    private final Set<CapabilityScope> knownContexts;
     private final ResolutionContextImpl resolutionContext = new ResolutionContextImpl();
-    private final Map<CapabilityId, CapabilityRegistration<?>> possibleCapabilities = new ConcurrentHashMap<>();
-    private final Set<CapabilityId> reloadCapabilities = new HashSet<>();
-    private final Set<CapabilityId> restartCapabilities = new HashSet<>();
 
     private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
     private final ReentrantReadWriteLock.ReadLock readLock = reentrantReadWriteLock.readLock();
     private final ReentrantReadWriteLock.WriteLock writeLock = reentrantReadWriteLock.writeLock();
     //holds reference to parent published registry
     private final CapabilityRegistry publishedFullRegistry;
-    private boolean modified = false;
+    // current contents; once frozen the state is shared and never modified, so it can be read without locking
+    private volatile State state;
+    private volatile boolean modified = false;
 
     public CapabilityRegistry(boolean forServer) {
         this(forServer, null);
@@ -90,52 +86,74 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     private CapabilityRegistry(boolean forServer, CapabilityRegistry parent) {//for published view
         this.forServer = forServer;
-        this.knownContexts = forServer ? null : new HashSet<>();
         this.publishedFullRegistry = parent;
+        this.state = new State(forServer);
     }
 
     /**
      * Creates updateable version of capability registry that on publish pushes all changes to main registry
-     * this is used to create context local registry that only on completion commits changes to main registry
+     * this is used to create context local registry that only on completion commits changes to main registry.
+     * The copy shares the current published state and only duplicates it on its first modification.
      *
      * @return writable registry
      */
     CapabilityRegistry createShadowCopy() {
         CapabilityRegistry result = new CapabilityRegistry(forServer, this);
-        readLock.lock();
-        try {
+        result.state = snapshot();
+        return result;
+    }
+
+    /**
+     * Freezes the current state so it can be shared with a shadow copy.
+     *
+     * @return the frozen state. Will not be {@code null}
+     */
+    private State snapshot() {
+        State current = state;
+        if (!current.frozen) {
+            writeLock.lock();
             try {
-                result.writeLock.lock();
-                copy(this, result);
+                current = state;
+                current.frozen = true;
             } finally {
-                result.writeLock.unlock();
+                writeLock.unlock();
             }
-        } finally {
-            readLock.unlock();
         }
-        return result;
+        return current;
     }
 
-    private static void copyCapabilities(final Map<CapabilityId, RuntimeCapabilityRegistration> source,
-                                         final Map<CapabilityId, RuntimeCapabilityRegistration> dest) {
-        for (Map.Entry<CapabilityId, RuntimeCapabilityRegistration> entry : source.entrySet()) {
-            dest.put(entry.getKey(), new RuntimeCapabilityRegistration(entry.getValue()));
+    /**
+     * Gets a state that may be modified, copying the current one if it is shared.
+     * This must be called with the write lock held.
+     *
+     * @return the modifiable state. Will not be {@code null}
+     */
+    private State writableState() {
+        assert writeLock.isHeldByCurrentThread();
+        State current = state;
+        if (current.frozen) {
+            current = current.copy();
+            state = current;
         }
+        return current;
     }
 
-    private static void copyRequirements(Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> source,
-                                         Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> dest) {
-        for (Map.Entry<CapabilityId, Map<String, RuntimeRequirementRegistration>> entry : source.entrySet()) {
-            Map<String, RuntimeRequirementRegistration> mapCopy = new HashMap<>();
-            for (Map.Entry<String, RuntimeRequirementRegistration> innerEntry : entry.getValue().entrySet()) {
-                mapCopy.put(innerEntry.getKey(), new RuntimeRequirementRegistration(innerEntry.getValue()));
-            }
-            dest.put(entry.getKey(), mapCopy);
+    /**
+     * Applies the given function to the current state. Frozen states are read without locking.
+     */
+    private <T> T read(Function<State, T> reader) {
+        State current = state;
+        if (current.frozen) {
+            return reader.apply(current);
+        }
+        readLock.lock();
+        try {
+            return reader.apply(state);
+        } finally {
+            readLock.unlock();
         }
-
     }
 
-
     /**
      * Registers a capability with the system. Any
      * {@link org.jboss.as.controller.capability.AbstractCapability#getRequirements() requirements}
@@ -147,9 +165,10 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public void registerCapability(RuntimeCapabilityRegistration capabilityRegistration) {
         writeLock.lock();
         try {
+            State s = writableState();
             CapabilityId capabilityId = capabilityRegistration.getCapabilityId();
             RegistrationPoint rp = capabilityRegistration.getOldestRegistrationPoint();
-            RuntimeCapabilityRegistration currentRegistration = capabilities.get(capabilityId);
+            RuntimeCapabilityRegistration currentRegistration = s.capabilities.get(capabilityId);
             if (currentRegistration != null) {
                 // The actual capability must be the same, the capability must allow multiple registrations
                 // and we must not already have a registration from this same resource
@@ -161,18 +180,18 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 }
                 // else it was ok, and we just recorded the additional registration point
             } else {
-                capabilities.put(capabilityId, capabilityRegistration);
+                s.capabilities.put(capabilityId, capabilityRegistration);
             }
 
             // Add any hard requirements
             for (String req : capabilityRegistration.getCapability().getRequirements()) {
-                registerRequirement(new RuntimeRequirementRegistration(req, capabilityId.getName(),
+                registerRequirement(s, new RuntimeRequirementRegistration(req, capabilityId.getName(),
                         capabilityId.getScope(), rp));
             }
 
             if (!forServer) {
                 CapabilityScope capContext = capabilityId.getScope();
-                knownContexts.add(capContext);
+                s.knownContexts.add(capContext);
             }
             modified = true;
         } finally {
@@ -195,7 +214,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public void registerAdditionalCapabilityRequirement(RuntimeRequirementRegistration requirement) {
         writeLock.lock();
         try {
-            registerRequirement(requirement);
+            registerRequirement(writableState(), requirement);
         } finally {
             writeLock.unlock();
         }
@@ -205,15 +224,15 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
      * This must be called with the write lock held.
      * @param requirement the requirement
      */
-    private void registerRequirement(RuntimeRequirementRegistration requirement) {
+    private void registerRequirement(State s, RuntimeRequirementRegistration requirement) {
         assert writeLock.isHeldByCurrentThread();
         CapabilityId dependentId = requirement.getDependentId();
-        if (!capabilities.containsKey(dependentId)) {
+        if (!s.capabilities.containsKey(dependentId)) {
             throw ControllerLogger.MGMT_OP_LOGGER.unknownCapabilityInContext(dependentId.getName(),
                     dependentId.getScope().getName());
         }
         Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirementMap =
-                requirement.isRuntimeOnly() ? runtimeOnlyRequirements : requirements;
+                requirement.isRuntimeOnly() ? s.runtimeOnlyRequirements : s.requirements;
 
         Map<String, RuntimeRequirementRegistration> dependents = requirementMap.get(dependentId);
         if (dependents == null) {
@@ -241,8 +260,9 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         // so clean it from both maps
         writeLock.lock();
         try {
-            removeRequirement(requirementRegistration, false);
-            removeRequirement(requirementRegistration, true);
+            State s = writableState();
+            removeRequirement(s, requirementRegistration, false);
+            removeRequirement(s, requirementRegistration, true);
         } finally {
             writeLock.unlock();
         }
@@ -262,31 +282,32 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                                                           PathAddress registrationPoint) {
         writeLock.lock();
         try {
+            State s = writableState();
             CapabilityId capabilityId = new CapabilityId(capabilityName, scope);
             RuntimeCapabilityRegistration removed = null;
-            RuntimeCapabilityRegistration candidate = capabilities.get(capabilityId);
+            RuntimeCapabilityRegistration candidate = s.capabilities.get(capabilityId);
             if (candidate != null) {
                 RegistrationPoint rp = new RegistrationPoint(registrationPoint, null);
                 if (candidate.removeRegistrationPoint(rp)) {
                     if (candidate.getRegistrationPointCount() == 0) {
-                        removed = capabilities.remove(capabilityId);
-                        requirements.remove(capabilityId);
-                        runtimeOnlyRequirements.remove(capabilityId);
+                        removed = s.capabilities.remove(capabilityId);
+                        s.requirements.remove(capabilityId);
+                        s.runtimeOnlyRequirements.remove(capabilityId);
                     } else {
                         // There are still registration points for this capability.
                         // So just remove the requirements for this registration point
-                        Map<String, RuntimeRequirementRegistration> candidateRequirements = requirements.get(capabilityId);
+                        Map<String, RuntimeRequirementRegistration> candidateRequirements = s.requirements.get(capabilityId);
                         if (candidateRequirements != null) {
                             // Iterate over array to avoid ConcurrentModificationException
                             for (String req : candidateRequirements.keySet().toArray(new String[candidateRequirements.size()])) {
-                                removeRequirement(new RuntimeRequirementRegistration(req, capabilityName, scope, rp), false);
+                                removeRequirement(s, new RuntimeRequirementRegistration(req, capabilityName, scope, rp), false);
                             }
                         }
-                        candidateRequirements = runtimeOnlyRequirements.get(capabilityId);
+                        candidateRequirements = s.runtimeOnlyRequirements.get(capabilityId);
                         if (candidateRequirements != null) {
                             // Iterate over array to avoid ConcurrentModificationException
                             for (String req : candidateRequirements.keySet().toArray(new String[candidateRequirements.size()])) {
-                                removeRequirement(new RuntimeRequirementRegistration(req, capabilityName, scope, rp), true);
+                                removeRequirement(s, new RuntimeRequirementRegistration(req, capabilityName, scope, rp), true);
                             }
                         }
                     }
@@ -302,9 +323,9 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         }
     }
 
-    private void removeRequirement(RuntimeRequirementRegistration requirementRegistration, boolean optional) {
+    private void removeRequirement(State s, RuntimeRequirementRegistration requirementRegistration, boolean optional) {
         assert writeLock.isHeldByCurrentThread();
-        Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirementMap = optional ? runtimeOnlyRequirements : requirements;
+        Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirementMap = optional ? s.runtimeOnlyRequirements : s.requirements;
         Map<String, RuntimeRequirementRegistration> dependents = requirementMap.get(requirementRegistration.getDependentId());
         if (dependents != null) {
             RuntimeRequirementRegistration rrr = dependents.get(requirementRegistration.getRequiredName());
@@ -323,10 +344,9 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     @Override
     public Map<CapabilityId, RuntimeStatus> getRuntimeStatus(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
-        readLock.lock();
-        try {
+        return read(s -> {
             Map<CapabilityId, RuntimeStatus> result;
-            Set<CapabilityId> ids = getCapabilitiesForAddress(address, resourceRegistration);
+            Set<CapabilityId> ids = getCapabilitiesForAddress(s, address, resourceRegistration);
             int size = ids.size();
             if (size == 0) {
                 result = Collections.emptyMap();
@@ -334,21 +354,19 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 Set<CapabilityId> examined = new HashSet<>();
                 if (size == 1) {
                     CapabilityId id = ids.iterator().next();
-                    result = Collections.singletonMap(id, getCapabilityStatus(id, examined));
+                    result = Collections.singletonMap(id, getCapabilityStatus(s, id, examined));
                 } else {
                     result = new HashMap<>(size);
                     for (CapabilityId id : ids) {
-                        result.put(id, getCapabilityStatus(id, examined));
+                        result.put(id, getCapabilityStatus(s, id, examined));
                     }
                 }
             }
             return result;
-        } finally {
-            readLock.unlock();
-        }
+        });
     }
 
-    private RuntimeStatus getCapabilityStatus(CapabilityId id, Set<CapabilityId> examined) {
+    private static RuntimeStatus getCapabilityStatus(State s, CapabilityId id, Set<CapabilityId> examined) {
         // This is meant for checking runtime stuff, which should only be for servers or
         // HC runtime stuff, both of which use CapabilityScope.GLOBAL or HostCapabilityScope. So this assert
         // is to check that assumption is valid, as further thought is needed if not (e.g. see WFCORE-1710).
@@ -356,19 +374,19 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         // internals, but oh well.
         assert id.getScope().equals(CapabilityScope.GLOBAL) || id.getScope().getName().equals(HOST);
 
-        if (restartCapabilities.contains(id)) {
+        if (s.restartCapabilities.contains(id)) {
             return RuntimeStatus.RESTART_REQUIRED;
         }
-        if (reloadCapabilities.contains(id)) {
+        if (s.reloadCapabilities.contains(id)) {
             return RuntimeStatus.RELOAD_REQUIRED;
         }
         examined.add(id);
 
-        Map<String, RuntimeRequirementRegistration> dependents = requirements.get(id);
-        return getDependentCapabilityStatus(dependents, id, examined);
+        Map<String, RuntimeRequirementRegistration> dependents = s.requirements.get(id);
+        return getDependentCapabilityStatus(s, dependents, id, examined);
     }
 
-    private RuntimeStatus getDependentCapabilityStatus(Map<String, RuntimeRequirementRegistration> dependents, CapabilityId requiror, Set<CapabilityId> examined) {
+    private static RuntimeStatus getDependentCapabilityStatus(State s, Map<String, RuntimeRequirementRegistration> dependents, CapabilityId requiror, Set<CapabilityId> examined) {
         RuntimeStatus result = RuntimeStatus.NORMAL;
         if (dependents != null) {
             for (String dependent : dependents.keySet()) {
@@ -379,7 +397,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 for (CapabilityScope scope : toCheck) {
                     CapabilityId dependentId = new CapabilityId(dependent, scope);
                     if (!examined.contains(dependentId)) {
-                        RuntimeStatus status = getCapabilityStatus(dependentId, examined);
+                        RuntimeStatus status = getCapabilityStatus(s, dependentId, examined);
                         if (status == RuntimeStatus.RESTART_REQUIRED) {
                             return status; // no need to check anything else
                         } else if (status == RuntimeStatus.RELOAD_REQUIRED) {
@@ -396,7 +414,8 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public void capabilityReloadRequired(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
         writeLock.lock();
         try {
-            reloadCapabilities.addAll(getCapabilitiesForAddress(address, resourceRegistration));
+            State s = writableState();
+            s.reloadCapabilities.addAll(getCapabilitiesForAddress(s, address, resourceRegistration));
         } finally {
             writeLock.unlock();
         }
@@ -406,13 +425,14 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public void capabilityRestartRequired(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
         writeLock.lock();
         try {
-            restartCapabilities.addAll(getCapabilitiesForAddress(address, resourceRegistration));
+            State s = writableState();
+            s.restartCapabilities.addAll(getCapabilitiesForAddress(s, address, resourceRegistration));
         } finally {
             writeLock.unlock();
         }
     }
 
-    private Set<CapabilityId> getCapabilitiesForAddress(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
+    private static Set<CapabilityId> getCapabilitiesForAddress(State s, PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
         Set<CapabilityId> result = null;
         PathAddress curAddress = address;
         ImmutableManagementResourceRegistration curReg = resourceRegistration;
@@ -440,7 +460,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
             // TODO this is inefficient. But it's only called for post-boot write ops
             // when the process is already reload-required
-            for (Map.Entry<CapabilityId, RuntimeCapabilityRegistration> entry : capabilities.entrySet()) {
+            for (Map.Entry<CapabilityId, RuntimeCapabilityRegistration> entry : s.capabilities.entrySet()) {
                 boolean checkIncorporating = false;
                 if (incorporatingFull != null) {
                     checkIncorporating = incorporatingFull.contains(entry.getKey().getName());
@@ -513,7 +533,8 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         CapabilityRegistration<?> capabilityRegistration = new CapabilityRegistration<>(capability, CapabilityScope.GLOBAL, point);
         writeLock.lock();
         try {
-            possibleCapabilities.computeIfPresent(capabilityId, (capabilityId1, currentRegistration) -> {
+            State s = writableState();
+            s.possibleCapabilities.computeIfPresent(capabilityId, (capabilityId1, currentRegistration) -> {
                 RegistrationPoint rp = capabilityRegistration.getOldestRegistrationPoint();
                 // The actual capability must be the same, and we must not already have a registration
                 // from this resource
@@ -524,7 +545,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 }
                 return currentRegistration;
             });
-            possibleCapabilities.putIfAbsent(capabilityId, capabilityRegistration);
+            s.possibleCapabilities.putIfAbsent(capabilityId, capabilityRegistration);
             modified = true;
         } finally {
             writeLock.unlock();
@@ -546,12 +567,13 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         CapabilityRegistration<?> removed = null;
         writeLock.lock();
         try {
-            CapabilityRegistration<?> candidate = possibleCapabilities.get(capabilityId);
+            State s = writableState();
+            CapabilityRegistration<?> candidate = s.possibleCapabilities.get(capabilityId);
             if (candidate != null) {
                 RegistrationPoint rp = new RegistrationPoint(registrationPoint, null);
                 if (candidate.removeRegistrationPoint(rp)) {
                     if (candidate.getRegistrationPointCount() == 0) {
-                        removed = possibleCapabilities.remove(capabilityId);
+                        removed = s.possibleCapabilities.remove(capabilityId);
                     } else {
                         removed = candidate;
                     }
@@ -572,98 +594,71 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     @Override
     public boolean hasCapability(String capabilityName, CapabilityScope scope) {
-        readLock.lock();
-        try {
-            return findSatisfactoryCapability(capabilityName, scope, !forServer) != null;
-        } finally {
-            readLock.unlock();
-        }
+        return read(s -> findSatisfactoryCapability(s, capabilityName, scope, !forServer) != null);
     }
 
     @Override
     public <T> T getCapabilityRuntimeAPI(String capabilityName, CapabilityScope scope, Class<T> apiType) {
         // Here we can't know the dependent name. So this can only be called when resolution is complete.
         assert resolutionContext.resolutionComplete;
-        readLock.lock();
-        try {
-            RuntimeCapabilityRegistration reg = getCapabilityRegistration(capabilityName, scope);
+        return read(s -> {
+            RuntimeCapabilityRegistration reg = getCapabilityRegistration(s, capabilityName, scope);
             Object api = reg.getCapability().getRuntimeAPI();
             if (api == null) {
                 throw ControllerLogger.MGMT_OP_LOGGER.capabilityDoesNotExposeRuntimeAPI(capabilityName);
             }
             return apiType.cast(api);
-        } finally {
-            readLock.unlock();
-        }
+        });
     }
 
     @Override
     public Set<CapabilityRegistration<?>> getCapabilities() {
-        readLock.lock();
-        try {
-            return Collections.unmodifiableSet(new TreeSet<>(capabilities.values()));
-        } finally {
-            readLock.unlock();
-        }
+        return read(s -> Collections.unmodifiableSet(new TreeSet<>(s.capabilities.values())));
     }
 
     @Override
     public Set<CapabilityRegistration<?>> getPossibleCapabilities() {
-        readLock.lock();
-        try {
-            return Collections.unmodifiableSet(new TreeSet<>(possibleCapabilities.values()));
-        } finally {
-            readLock.unlock();
-        }
+        return read(s -> Collections.unmodifiableSet(new TreeSet<>(s.possibleCapabilities.values())));
     }
 
     @Override
     public ServiceName getCapabilityServiceName(String capabilityName, CapabilityScope scope, Class<?> serviceType) {
         // Here we can't know the dependent name. So this can only be called when resolution is complete.
         assert resolutionContext.resolutionComplete;
-        readLock.lock();
-        try {
-            RuntimeCapabilityRegistration reg = getCapabilityRegistration(capabilityName, scope);
+        return read(s -> {
+            RuntimeCapabilityRegistration reg = getCapabilityRegistration(s, capabilityName, scope);
             RuntimeCapability<?> cap = reg.getCapability();
             return cap.getCapabilityServiceName(serviceType);
-        } finally {
-            readLock.unlock();
-        }
+        });
     }
 
     @Override
     public Set<PathAddress> getPossibleProviderPoints(CapabilityId capabilityId) {
-        Set<PathAddress> result = new LinkedHashSet<>();
-        readLock.lock();
-        try {
-            capabilityId = capabilityId.getScope() == CapabilityScope.GLOBAL ? capabilityId : new CapabilityId(capabilityId.getName(), CapabilityScope.GLOBAL); //possible registry is only in global scope
-            CapabilityRegistration<?> reg =  possibleCapabilities.get(capabilityId);
+        //possible registry is only in global scope
+        CapabilityId globalId = capabilityId.getScope() == CapabilityScope.GLOBAL ? capabilityId : new CapabilityId(capabilityId.getName(), CapabilityScope.GLOBAL);
+        return read(s -> {
+            Set<PathAddress> result = new LinkedHashSet<>();
+            CapabilityRegistration<?> reg = s.possibleCapabilities.get(globalId);
             if (reg != null) {
                 result.addAll(reg.getRegistrationPoints().stream().map(RegistrationPoint::getAddress).collect(Collectors.toList()));
             }
-
-        } finally {
-            readLock.unlock();
-        }
-        return result;
+            return result;
+        });
     }
 
     @Override
     public CapabilityRegistration<?> getCapability(CapabilityId capabilityId){
-        readLock.lock();
-        try {
-            CapabilityRegistration<?> reg = capabilities.get(capabilityId);
+        return read(s -> {
+            CapabilityRegistration<?> reg = s.capabilities.get(capabilityId);
             return reg != null ? new CapabilityRegistration<>(reg) : null;
-        } finally {
-            readLock.unlock();
-        }
-
+        });
     }
 
     //end ImmutableCapabilityRegistry methods
 
     /**
-     * Publish the changes to main registry
+     * Publish the changes to main registry. The current state is frozen and handed over to the
+     * main registry as is; this registry copies it again on its next modification.
      */
     void publish() {
         assert publishedFullRegistry != null : "Cannot write directly to main registry";
@@ -673,10 +668,11 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             if (!modified) {
                 return;
             }
+            State published = state;
+            published.frozen = true;
             publishedFullRegistry.writeLock.lock();
             try {
-                publishedFullRegistry.clear(true);
-                copy(this, publishedFullRegistry);
+                publishedFullRegistry.state = published;
                 modified = false;
             } finally {
                 publishedFullRegistry.writeLock.unlock();
@@ -695,61 +691,30 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         }
         writeLock.lock();
         try {
-            publishedFullRegistry.readLock.lock();
-            try {
-                clear(true);
-                copy(publishedFullRegistry, this);
-                modified = false;
-            } finally {
-                publishedFullRegistry.readLock.unlock();
-            }
+            state = publishedFullRegistry.snapshot();
+            modified = false;
         } finally {
             writeLock.unlock();
         }
     }
 
     boolean isModified() {
-        readLock.lock();
-        try {
-            return modified;
-        } finally {
-            readLock.unlock();
-        }
-    }
-
-    private void copy(CapabilityRegistry source, CapabilityRegistry target) {
-        assert target.writeLock.isHeldByCurrentThread();
-        copyCapabilities(source.capabilities, target.capabilities);
-        source.possibleCapabilities.entrySet().stream().forEach(entry -> {
-            target.possibleCapabilities.put(entry.getKey(), new CapabilityRegistration<>(entry.getValue()));
-        });
-        copyRequirements(source.requirements, target.requirements);
-        copyRequirements(source.runtimeOnlyRequirements, target.runtimeOnlyRequirements);
-        target.reloadCapabilities.addAll(source.reloadCapabilities);
-        target.restartCapabilities.addAll(source.restartCapabilities);
-        if (!forServer) {
-            target.knownContexts.addAll(source.knownContexts);
-        }
+        return modified;
     }
 
     /**
      * Clears capability registry
      */
     void clear() {
-        clear(false);
-    }
-
-    private void clear(boolean restartRequired) {
         writeLock.lock();
         try {
-            capabilities.clear();
-            possibleCapabilities.clear();
-            requirements.clear();
-            runtimeOnlyRequirements.clear();
-            reloadCapabilities.clear();
-            if (restartRequired) {
-                restartCapabilities.clear();
+            State cleared = new State(forServer);
+            cleared.restartCapabilities.addAll(state.restartCapabilities);
+            // knownContexts were never cleared
+            if (!forServer) {
+                cleared.knownContexts.addAll(state.knownContexts);
             }
+            state = cleared;
             modified = true;
         } finally {
             writeLock.unlock();
@@ -758,8 +723,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
 
     CapabilityValidation resolveCapabilities(Resource rootResource, boolean hostXmlOnly) {
-        readLock.lock();
-        try {
+        return read(s -> {
             resolutionContext.setRootResource(rootResource);
             assert resolutionContext.rootResource != null;
             Map<CapabilityId, Set<RuntimeRequirementRegistration>> missing = new HashMap<>();
@@ -769,13 +733,13 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             Map<CapabilityScope, Set<RuntimeRequirementRegistration>> requiresConsistency = null;
             Map<CapabilityScope, Set<CapabilityScope>> consistentSets = null;
 
-            for (Map.Entry<CapabilityId, Map<String, RuntimeRequirementRegistration>> entry : requirements.entrySet()) {
+            for (Map.Entry<CapabilityId, Map<String, RuntimeRequirementRegistration>> entry : s.requirements.entrySet()) {
                 CapabilityId dependentId = entry.getKey();
                 String dependentName = dependentId.getName();
                 CapabilityScope dependentContext = dependentId.getScope();
                 Set<CapabilityScope> consistentSet = consistentSets == null ? null : consistentSets.get(dependentContext);
                 for (RuntimeRequirementRegistration req : entry.getValue().values()) {
-                    SatisfactoryCapability satisfactory = findSatisfactoryCapability(req.getRequiredName(), dependentContext, !forServer);
+                    SatisfactoryCapability satisfactory = findSatisfactoryCapability(s, req.getRequiredName(), dependentContext, !forServer);
                     if (satisfactory == null) {
                         // Missing
                         if (hostXmlOnly && dependentName.startsWith("org.wildfly.domain.server-config.")
@@ -826,9 +790,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
 
             return CapabilityValidation.OK;
-        } finally {
-            readLock.unlock();
-        }
+        });
     }
 
     private void recordConsistentSets(Map<CapabilityScope, Set<RuntimeRequirementRegistration>> requiresConsistency, Map<CapabilityScope, Set<CapabilityScope>> consistentSets, CapabilityScope dependentContext, Set<CapabilityScope> consistentSet, RuntimeRequirementRegistration req, SatisfactoryCapability satisfactory, CapabilityScope reqDependent) {
@@ -861,8 +823,8 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         return result;
     }
 
-    private RuntimeCapabilityRegistration getCapabilityRegistration(String capabilityName, CapabilityScope capabilityScope) {
-        SatisfactoryCapability satisfactoryCapability = findSatisfactoryCapability(capabilityName, capabilityScope, false);
+    private RuntimeCapabilityRegistration getCapabilityRegistration(State s, String capabilityName, CapabilityScope capabilityScope) {
+        SatisfactoryCapability satisfactoryCapability = findSatisfactoryCapability(s, capabilityName, capabilityScope, false);
         if (satisfactoryCapability == null) {
             if (forServer) {
                 throw ControllerLogger.MGMT_OP_LOGGER.unknownCapability(capabilityName);
@@ -870,28 +832,28 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 throw ControllerLogger.MGMT_OP_LOGGER.unknownCapabilityInContext(capabilityName, capabilityScope.getName());
             }
         }
-        return capabilities.get(satisfactoryCapability.singleCapability);
+        return s.capabilities.get(satisfactoryCapability.singleCapability);
     }
 
-    private SatisfactoryCapability findSatisfactoryCapability(String capabilityName, CapabilityScope dependentContext,
+    private SatisfactoryCapability findSatisfactoryCapability(State s, String capabilityName, CapabilityScope dependentContext,
                                                               boolean requireConsistency) {
 
         // Check for a simple match
         CapabilityId requestedId = new CapabilityId(capabilityName, dependentContext);
-        if (capabilities.containsKey(requestedId)) {
+        if (s.capabilities.containsKey(requestedId)) {
             return new SatisfactoryCapability(requestedId);
         }
 
         if (!forServer) {
             // Try other contexts that satisfy the requested one
             Set<CapabilityScope> multiple = null;
-            for (CapabilityScope satisfies : knownContexts) {
+            for (CapabilityScope satisfies : s.knownContexts) {
                 if (satisfies.equals(dependentContext)) {
                     // We already know this one doesn't exist
                     continue;
                 }
                 CapabilityId satisfiesId = new CapabilityId(capabilityName, satisfies);
-                if (capabilities.containsKey(satisfiesId) && satisfies.canSatisfyRequirement(capabilityName, dependentContext, resolutionContext)) {
+                if (s.capabilities.containsKey(satisfiesId) && satisfies.canSatisfyRequirement(capabilityName, dependentContext, resolutionContext)) {
                     if (!requireConsistency || !satisfies.requiresConsistencyCheck()) {
                         return new SatisfactoryCapability(satisfiesId);
                     } else {
@@ -951,6 +913,59 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 collect(Collectors.toSet());
     }
 
+    /**
+     * The registrations held by a registry. A frozen state may be shared between a registry and its
+     * shadow copies and must not be modified; {@link #copy()} it instead.
+     */
+    private static final class State {
+        private final Map<CapabilityId, RuntimeCapabilityRegistration> capabilities = new HashMap<>();
+        private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirements = new HashMap<>();
+        private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> runtimeOnlyRequirements = new HashMap<>();
+        private final Set<CapabilityScope> knownContexts;
+        private final Map<CapabilityId, CapabilityRegistration<?>> possibleCapabilities = new ConcurrentHashMap<>();
+        private final Set<CapabilityId> reloadCapabilities = new HashSet<>();
+        private final Set<CapabilityId> restartCapabilities = new HashSet<>();
+        private volatile boolean frozen;
+
+        private State(boolean forServer) {
+            this.knownContexts = forServer ? null : new HashSet<>();
+        }
+
+        private State copy() {
+            State result = new State(knownContexts == null);
+            copyCapabilities(capabilities, result.capabilities);
+            possibleCapabilities.entrySet().stream().forEach(entry -> {
+                result.possibleCapabilities.put(entry.getKey(), new CapabilityRegistration<>(entry.getValue()));
+            });
+            copyRequirements(requirements, result.requirements);
+            copyRequirements(runtimeOnlyRequirements, result.runtimeOnlyRequirements);
+            result.reloadCapabilities.addAll(reloadCapabilities);
+            result.restartCapabilities.addAll(restartCapabilities);
+            if (knownContexts != null) {
+                result.knownContexts.addAll(knownContexts);
+            }
+            return result;
+        }
+
+        private static void copyCapabilities(final Map<CapabilityId, RuntimeCapabilityRegistration> source,
+                                             final Map<CapabilityId, RuntimeCapabilityRegistration> dest) {
+            for (Map.Entry<CapabilityId, RuntimeCapabilityRegistration> entry : source.entrySet()) {
+                dest.put(entry.getKey(), new RuntimeCapabilityRegistration(entry.getValue()));
+            }
+        }
+
+        private static void copyRequirements(Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> source,
+                                             Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> dest) {
+            for (Map.Entry<CapabilityId, Map<String, RuntimeRequirementRegistration>> entry : source.entrySet()) {
+                Map<String, RuntimeRequirementRegistration> mapCopy = new HashMap<>();
+                for (Map.Entry<String, RuntimeRequirementRegistration> innerEntry : entry.getValue().entrySet()) {
+                    mapCopy.put(innerEntry.getKey(), new RuntimeRequirementRegistration(innerEntry.getValue()));
+                }
+                dest.put(entry.getKey(), mapCopy);
+            }
+        }
+    }
+
     private static class ResolutionContextImpl extends CapabilityResolutionContext {
         private boolean resolutionComplete;
         private Resource rootResource;
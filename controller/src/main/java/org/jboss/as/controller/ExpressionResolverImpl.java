@@ -21,7 +21,11 @@
 */
 package org.jboss.as.controller;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.dmr.ModelNode;
@@ -40,7 +44,14 @@ public class ExpressionResolverImpl implements ExpressionResolver {
     private static final int GOT_DOLLAR = 1;
     private static final int GOT_OPEN_BRACE = 2;
 
+    /** Upper bound on the number of compiled expressions retained; the cache is simply dropped when exceeded */
+    private static final int MAX_COMPILED_EXPRESSIONS = 4096;
+    /** Compiled forms of expression strings, shared by all resolvers as compiling doesn't depend on resolver state */
+    private static final Map<String, CompiledExpression> compiledExpressions = new ConcurrentHashMap<>();
+
     private final boolean lenient;
+    /** Resolved values of expressions, only present while resolution is {@link #setStable(boolean) stable} */
+    private volatile Map<String, String> stableResolutions;
 
     /**
      * Creates a new {@code ExpressionResolverImpl} configured to throw an OFE
@@ -66,6 +77,19 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         return resolveExpressionsRecursively(node);
     }
 
+    /**
+     * Sets whether the sources expressions are resolved from (system properties, environment variables, vaults and
+     * any other {@link #resolvePluggableExpression(ModelNode) pluggable} source) can be considered unchanging. While
+     * stable, the value an expression resolves to is remembered and reused for later resolutions of the same expression
+     * string. Setting it back to {@code false} discards all remembered values.
+     *
+     * @param stable {@code true} if the caller guarantees that resolution sources will not change until this
+     *               is called again with {@code false}
+     */
+    public final void setStable(boolean stable) {
+        this.stableResolutions = stable ? new ConcurrentHashMap<>() : null;
+    }
+
     /**
      * Examine the given model node, resolving any expressions found within, including within child nodes.
      *
@@ -81,23 +105,24 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         ModelType type = node.getType();
         ModelNode resolved;
         if (type == ModelType.EXPRESSION) {
-            resolved = resolveExpressionStringRecursively(node.asExpression().getExpressionString(), lenient, true);
+            resolved = resolveExpression(node.asExpression().getExpressionString());
         } else if (type == ModelType.OBJECT) {
-            resolved = node.clone();
-            for (Property prop : resolved.asPropertyList()) {
+            // Build a new node rather than cloning and then overwriting every child
+            resolved = new ModelNode();
+            resolved.setEmptyObject();
+            for (Property prop : node.asPropertyList()) {
                 resolved.get(prop.getName()).set(resolveExpressionsRecursively(prop.getValue()));
             }
         } else if (type == ModelType.LIST) {
-            resolved = node.clone();
-            ModelNode list = new ModelNode();
-            list.setEmptyList();
-            for (ModelNode current : resolved.asList()) {
-                list.add(resolveExpressionsRecursively(current));
+            resolved = new ModelNode();
+            resolved.setEmptyList();
+            for (ModelNode current : node.asList()) {
+                resolved.add(resolveExpressionsRecursively(current));
             }
-            resolved = list;
         } else if (type == ModelType.PROPERTY) {
-            resolved = node.clone();
-            resolved.set(resolved.asProperty().getName(), resolveExpressionsRecursively(resolved.asProperty().getValue()));
+            Property prop = node.asProperty();
+            resolved = new ModelNode();
+            resolved.set(prop.getName(), resolveExpressionsRecursively(prop.getValue()));
         } else {
             resolved = node;
         }
@@ -105,6 +130,23 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         return resolved;
     }
 
+    private ModelNode resolveExpression(final String expressionString) throws OperationFailedException {
+        final Map<String, String> memo = stableResolutions;
+        if (memo == null) {
+            return resolveExpressionStringRecursively(expressionString, lenient, true);
+        }
+        String value = memo.get(expressionString);
+        if (value != null) {
+            return new ModelNode(value);
+        }
+        ModelNode resolved = resolveExpressionStringRecursively(expressionString, lenient, true);
+        // Only remember successful resolutions; a lenient failure may succeed later
+        if (resolved.getType() == ModelType.STRING) {
+            memo.put(expressionString, resolved.asString());
+        }
+        return resolved;
+    }
+
     /**
      * Attempt to resolve the expression {@link org.jboss.dmr.ModelNode#asString() encapsulated in the given node},
      * setting the value of {@code node} to the resolved string if successful, or leaving {@code node} unaltered
@@ -167,6 +209,10 @@ public class ExpressionResolverImpl implements ExpressionResolver {
 
     private ParseAndResolveResult parseAndResolve(final String initialValue, boolean lenient) throws OperationFailedException {
 
+        CompiledExpression compiled = compile(initialValue);
+        if (compiled != CompiledExpression.COMPLEX) {
+            return resolveCompiled(compiled, lenient);
+        }
 
         final StringBuilder builder = new StringBuilder();
         final int len = initialValue.length();
@@ -320,6 +366,51 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         return new ParseAndResolveResult(builder.toString(), modified, false);
     }
 
+    private static CompiledExpression compile(final String expression) {
+        CompiledExpression result = compiledExpressions.get(expression);
+        if (result == null) {
+            result = CompiledExpression.compile(expression);
+            if (compiledExpressions.size() >= MAX_COMPILED_EXPRESSIONS) {
+                compiledExpressions.clear();
+            }
+            compiledExpressions.put(expression, result);
+        }
+        return result;
+    }
+
+    /**
+     * Resolves a {@link CompiledExpression#compile(String) simple} expression, giving the same result
+     * {@link #parseAndResolve(String, boolean)} would but without parsing the string again.
+     */
+    private ParseAndResolveResult resolveCompiled(final CompiledExpression compiled, boolean lenient) throws OperationFailedException {
+        final String expression = compiled.expression;
+        final int count = compiled.tokens.length;
+        if (count == 0) {
+            return new ParseAndResolveResult(expression, false, false);
+        }
+        final StringBuilder builder = new StringBuilder(expression.length());
+        for (int i = 0; i < count; i++) {
+            builder.append(compiled.literals[i]);
+            final String toResolve = compiled.tokens[i];
+            final String resolved = resolveExpressionString(toResolve);
+            if (toResolve.equals(resolved)) {
+                if (lenient) {
+                    return new ParseAndResolveResult(expression, false, false);
+                }
+                throw ControllerLogger.ROOT_LOGGER.cannotResolveExpression(expression);
+            }
+            if (EXPRESSION_PATTERN.matcher(resolved).matches()) {
+                // Another pass is needed; as in createRecursiveResult discard anything resolved so far
+                int start = compiled.tokenStarts[i];
+                String result = expression.substring(0, start) + resolved + expression.substring(start + toResolve.length());
+                return new ParseAndResolveResult(result, true, true);
+            }
+            builder.append(resolved);
+        }
+        builder.append(compiled.literals[count]);
+        return new ParseAndResolveResult(builder.toString(), true, false);
+    }
+
     private static Stack<OpenExpression> addToStack(Stack<OpenExpression> stack, int startIndex) {
         Stack<OpenExpression> result = stack == null ? new Stack<OpenExpression>() : stack;
         result.push(new OpenExpression(startIndex));
@@ -471,6 +562,73 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         }
     }
 
+    /**
+     * Parsed form of an expression string consisting only of literal text and non-nested {@code ${...}}
+     * expressions. Anything else (nested expressions, {@code $} escapes, braces within an expression or
+     * incomplete expressions) is {@link #COMPLEX} and is handled by {@link #parseAndResolve(String, boolean)}.
+     */
+    private static final class CompiledExpression {
+
+        private static final CompiledExpression COMPLEX = new CompiledExpression(null, null, null, null);
+
+        private final String expression;
+        /** The literal text around the tokens; always one longer than {@code tokens} */
+        private final String[] literals;
+        /** The {@code ${...}} expressions to resolve */
+        private final String[] tokens;
+        private final int[] tokenStarts;
+
+        private CompiledExpression(String expression, String[] literals, String[] tokens, int[] tokenStarts) {
+            this.expression = expression;
+            this.literals = literals;
+            this.tokens = tokens;
+            this.tokenStarts = tokenStarts;
+        }
+
+        private static CompiledExpression compile(final String expression) {
+            final List<String> literals = new ArrayList<>();
+            final List<String> tokens = new ArrayList<>();
+            final List<Integer> starts = new ArrayList<>();
+            final int len = expression.length();
+            int literalStart = 0;
+            int i = 0;
+            while (i < len) {
+                if (expression.charAt(i) != '$') {
+                    i++;
+                    continue;
+                }
+                if (i + 1 == len || expression.charAt(i + 1) != '{') {
+                    return COMPLEX;
+                }
+                int end = i + 2;
+                while (end < len) {
+                    char ch = expression.charAt(end);
+                    if (ch == '}') {
+                        break;
+                    } else if (ch == '$' || ch == '{') {
+                        return COMPLEX;
+                    }
+                    end++;
+                }
+                if (end == len) {
+                    return COMPLEX;
+                }
+                literals.add(expression.substring(literalStart, i));
+                tokens.add(expression.substring(i, end + 1));
+                starts.add(i);
+                i = end + 1;
+                literalStart = i;
+            }
+            literals.add(expression.substring(literalStart));
+            int[] tokenStarts = new int[starts.size()];
+            for (int j = 0; j < tokenStarts.length; j++) {
+                tokenStarts[j] = starts.get(j);
+            }
+            return new CompiledExpression(expression, literals.toArray(new String[literals.size()]),
+                    tokens.toArray(new String[tokens.size()]), tokenStarts);
+        }
+    }
+
     private static class OpenExpression {
         private final int startIndex;
         private int endIndex = -1;
@@ -0,0 +1,137 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Fixed-size, log-linear histogram of latencies, recorded in microseconds. Each power of two range is split into
+ * {@link #SUB_BUCKETS} linear buckets, so reported percentiles are within 12.5% of the recorded values. Recording
+ * does not allocate and does not block.
+ */
+final class LatencyHistogram {
+
+    static final String COUNT = "count";
+    static final String TOTAL_TIME = "total-time";
+    static final String MAX_TIME = "max-time";
+    static final String P50 = "p50";
+    static final String P90 = "p90";
+    static final String P99 = "p99";
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Values below this are recorded exactly */
+    private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+    /** Largest power of two tracked; anything larger (over 12 days) is recorded in the last bucket */
+    private static final int MAX_EXPONENT = 40;
+    private static final int OVERFLOW_BUCKET = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+    private static final int BUCKET_COUNT = OVERFLOW_BUCKET + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency, in nanoseconds
+     */
+    void record(long nanos) {
+        final long micros = Math.max(0, nanos / 1000);
+        buckets.incrementAndGet(bucketIndex(micros));
+        total.add(micros);
+        long current;
+        while (micros > (current = max.get()) && !max.compareAndSet(current, micros)) {
+            // retry
+        }
+    }
+
+    /**
+     * Gets a summary of the recorded values, in microseconds.
+     *
+     * @return a node with the {@link #COUNT}, {@link #TOTAL_TIME}, {@link #MAX_TIME} and percentile fields
+     */
+    ModelNode toModelNode() {
+        final long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        final long maxValue = max.get();
+        final ModelNode result = new ModelNode();
+        result.get(COUNT).set(count);
+        result.get(TOTAL_TIME).set(total.sum());
+        result.get(MAX_TIME).set(maxValue);
+        result.get(P50).set(percentile(counts, count, 0.5, maxValue));
+        result.get(P90).set(percentile(counts, count, 0.9, maxValue));
+        result.get(P99).set(percentile(counts, count, 0.99, maxValue));
+        return result;
+    }
+
+    private static long percentile(long[] counts, long count, double fraction, long maxValue) {
+        if (count == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(count * fraction));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                // The bucket's upper bound, but never more than has actually been seen
+                return Math.min(bucketUpperBound(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent >= MAX_EXPONENT) {
+            return OVERFLOW_BUCKET;
+        }
+        final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        } else if (index == OVERFLOW_BUCKET) {
+            return Long.MAX_VALUE;
+        }
+        final int offset = index - LINEAR_LIMIT;
+        final int exponent = offset / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        final long subBucket = offset % SUB_BUCKETS;
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+}
@@ -24,11 +24,16 @@ package org.jboss.as.controller;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACTIVE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTACHED_STREAMS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_PHASE_TIMES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CALLER_TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LOCK_ACQUISITION_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LOCK_MAX_WAIT_TIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LOCK_TOTAL_WAIT_TIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MIME_TYPE;
@@ -62,7 +67,9 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.jboss.as.controller.access.Authorizer;
@@ -83,6 +90,7 @@ import org.jboss.as.controller.persistence.ConfigurationPersistenceException;
 import org.jboss.as.controller.persistence.ConfigurationPersister;
 import org.jboss.as.controller.registry.DelegatingResource;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
+import org.jboss.as.controller.registry.LazyResourceCopy;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.NotificationHandlerRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
@@ -116,8 +124,18 @@ class ModelControllerImpl implements ModelController {
     private final ServiceRegistry serviceRegistry;
     private final ServiceTarget serviceTarget;
     private final ModelControllerLock controllerLock = new ModelControllerLock();
+    /** Statistics on acquisition of {@link #controllerLock}, exposed via the {@link ModelControllerResource} */
+    private final LongAdder lockAcquisitionCount = new LongAdder();
+    private final LongAdder lockWaitTime = new LongAdder();
+    private final AtomicLong maxLockWaitTime = new AtomicLong();
+    private final OperationStatistics operationStatistics = new OperationStatistics();
+    /** Time in ms spent executing the boot operations, by phase and by parallel boot group; guarded by itself */
+    private final ModelNode bootTimes = new ModelNode();
     private final ContainerStateMonitor stateMonitor;
     private final AtomicReference<ManagementModelImpl> managementModel = new AtomicReference<>();
+    /** Source of model revisions, shared by all controllers so a revision is never reused when a controller is replaced */
+    private static final AtomicLong MODEL_REVISIONS = new AtomicLong();
+    private volatile long modelRevision;
     private final ConfigurationPersister persister;
     private final ProcessType processType;
     private final RunningModeControl runningModeControl;
@@ -415,7 +433,10 @@ class ModelControllerImpl implements ModelController {
 
                     context.addStep(responseNode, operation, prepareStep, OperationContext.Stage.MODEL);
                     ControllerLogger.MGMT_OP_LOGGER.tracef("Executing %s", operation);
+                    final long start = System.nanoTime();
                     context.executeOperation();
+                    operationStatistics.recordOperation(operation.get(OP).asString(), isRegisteredOperation(operation),
+                            operation.get(OP_ADDR), System.nanoTime() - start, context.getStageTimes());
                     responseStreams = context.getResponseStreams();
                 } catch (Error e) {
                     try {
@@ -487,7 +508,9 @@ class ModelControllerImpl implements ModelController {
             for (ParsedBootOp initialOp : bootOperations.initialOps) {
                 context.addBootStep(initialOp);
             }
+            final long start = System.nanoTime();
             resultAction = context.executeOperation();
+            recordBootTime(BOOT_PHASE_TIMES, "initial-operations", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         }
         if (resultAction == OperationContext.ResultAction.KEEP && bootOperations.postExtensionOps != null) {
             // Success. Now any extension handlers are registered. Continue with remaining ops
@@ -513,7 +536,9 @@ class ModelControllerImpl implements ModelController {
                 }
             }
 
+            final long start = System.nanoTime();
             resultAction = postExtContext.executeOperation();
+            recordBootTime(BOOT_PHASE_TIMES, "post-extension-operations", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 
             if (!skipModelValidation && resultAction == OperationContext.ResultAction.KEEP && bootOperations.postExtensionOps != null) {
                 //Get the modified resources from the initial operations and add to the resources to be validated by the post operations
@@ -527,13 +552,30 @@ class ModelControllerImpl implements ModelController {
                                 bootingFlag.get(), hostServerGroupTracker, null, notificationSupport, false,
                                 extraValidationStepHandler, partialModel, securityIdentitySupplier);
                 validateContext.addModifiedResourcesForModelValidation(validateAddresses);
+                final long validationStart = System.nanoTime();
                 resultAction = validateContext.executeOperation();
+                recordBootTime(BOOT_PHASE_TIMES, "model-validation", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - validationStart));
             }
         }
 
         return  resultAction == OperationContext.ResultAction.KEEP;
     }
 
+    /**
+     * Adds to the time recorded for part of the boot. Times are accumulated, as a boot can be made up of
+     * more than one call to {@link #boot}.
+     *
+     * @param attribute the attribute of the {@link ModelControllerResource} the time is reported under
+     * @param key the name of the phase or parallel boot group
+     * @param millis the elapsed time
+     */
+    void recordBootTime(String attribute, String key, long millis) {
+        synchronized (bootTimes) {
+            final ModelNode time = bootTimes.get(attribute, key);
+            time.set(time.isDefined() ? time.asLong() + millis : millis);
+        }
+    }
+
     private void addAllAddresses(ImmutableManagementResourceRegistration mrr, PathAddress current, Resource resource, Set<PathAddress> addresses) {
         addresses.add(current);
         for (String name : getNonIgnoredChildTypes(mrr)) {
@@ -576,7 +618,8 @@ class ModelControllerImpl implements ModelController {
      *      can be done in parallel by the executor service.
      *     </li>
      *     <li>If an executor service is available and the controller type is SERVER, organizes all subsystem ops so
-     *     they can be done in parallel by the executor service.
+     *     they can be done in parallel by the executor service. The ops of the first run of consecutive deployment
+     *     ops are executed in parallel the same way.
      *     </li>
      * </ol>
      *
@@ -596,9 +639,15 @@ class ModelControllerImpl implements ModelController {
         final MutableRootResourceRegistrationProvider parallellBRRRProvider = parallelBootRootResourceRegistrationProvider != null ?
                 parallelBootRootResourceRegistrationProvider : getMutableRootResourceRegistrationProvider();
         ParallelExtensionAddHandler parallelExtensionAddHandler = executorService == null ? null : new ParallelExtensionAddHandler(executorService, parallellBRRRProvider);
-        ParallelBootOperationStepHandler parallelSubsystemHandler = (executorService != null && processType.isServer() && runningModeControl.getRunningMode() == RunningMode.NORMAL)
+        final boolean parallelBoot = executorService != null && processType.isServer() && runningModeControl.getRunningMode() == RunningMode.NORMAL;
+        ParallelBootOperationStepHandler parallelSubsystemHandler = parallelBoot
                 ? new ParallelBootOperationStepHandler(executorService, rootRegistration, processState, this, lockPermit, extraValidationStepHandler) : null;
         boolean registeredParallelSubsystemHandler = false;
+        // A run of consecutive deployment ops can also be executed in parallel. Checks across deployments, e.g. that
+        // runtime names are unique, are deferred via ParallelBootOperationStepHandler.addModelStepAfterParallelBoot
+        ParallelBootOperationStepHandler parallelDeploymentHandler = parallelBoot
+                ? new ParallelBootOperationStepHandler(executorService, rootRegistration, processState, this, lockPermit, extraValidationStepHandler, DEPLOYMENT) : null;
+        boolean registeredParallelDeploymentHandler = false;
         int subsystemIndex = 0;
         for (ModelNode bootOp : bootList) {
             final ParsedBootOp parsedOp = new ParsedBootOp(bootOp);
@@ -611,8 +660,18 @@ class ModelControllerImpl implements ModelController {
                     } else {
                         initialOps.add(new ParsedBootOp(parsedOp, stepHandler));
                     }
+                } else if (parallelDeploymentHandler != null && parallelDeploymentHandler.addOperation(parsedOp)) {
+                    if (!registeredParallelDeploymentHandler) {
+                        postExtensionOps.add(parallelDeploymentHandler.getParsedBootOp());
+                        registeredParallelDeploymentHandler = true;
+                    }
                 } else {
-                    if (parallelSubsystemHandler == null || !parallelSubsystemHandler.addSubsystemOperation(parsedOp)) {
+                    if (registeredParallelDeploymentHandler) {
+                        // Something else came between the deployment ops. Any later ones execute serially
+                        // so they still see the effect of this op
+                        parallelDeploymentHandler = null;
+                    }
+                    if (parallelSubsystemHandler == null || !parallelSubsystemHandler.addOperation(parsedOp)) {
                         // Put any interface/socket op before the subsystem op
                         if (registeredParallelSubsystemHandler && (parsedOp.isInterfaceOperation() || parsedOp.isSocketOperation())) {
                             postExtensionOps.add(subsystemIndex++, parsedOp);
@@ -650,7 +709,10 @@ class ModelControllerImpl implements ModelController {
                 } else {
                     // Start the postExtension list
                     postExtensionOps = new ArrayList<ParsedBootOp>(32);
-                    if (parallelSubsystemHandler == null || !parallelSubsystemHandler.addSubsystemOperation(parsedOp)) {
+                    if (parallelDeploymentHandler != null && parallelDeploymentHandler.addOperation(parsedOp)) {
+                        postExtensionOps.add(parallelDeploymentHandler.getParsedBootOp());
+                        registeredParallelDeploymentHandler = true;
+                    } else if (parallelSubsystemHandler == null || !parallelSubsystemHandler.addOperation(parsedOp)) {
                         postExtensionOps.add(parsedOp);
                     } else {
                         // First subsystem op; register the parallel handler and add the op to it
@@ -675,6 +737,16 @@ class ModelControllerImpl implements ModelController {
         return managementModel.get();
     }
 
+    /**
+     * Gets the revision of the published management model. A new revision is assigned each time a changed
+     * resource tree is published, so two calls returning the same value saw the same resource tree.
+     *
+     * @return the revision
+     */
+    long getModelRevision() {
+        return modelRevision;
+    }
+
     Resource.ResourceEntry getModelControllerResource() {
         return modelControllerResource;
     }
@@ -688,13 +760,20 @@ class ModelControllerImpl implements ModelController {
                                                           final boolean resourceTreeModified, final boolean capabilityRegistryModified,
                                                           final boolean resourceRegistrationModified) throws ConfigurationPersistenceException {
         final ConfigurationPersister.PersistenceResource delegate;
+        final long storeTime;
         if (resourceTreeModified) {
             ControllerLogger.MGMT_OP_LOGGER.tracef("persisting %s from %s", model.rootResource, model);
+            // No further changes to the tree after this point, so reading it for persistence
+            // must not copy the parts still shared with the published model
+            model.freeze();
+            final long start = System.nanoTime();
             final ModelNode newModel = Resource.Tools.readModel(model.rootResource, model.resourceRegistration);
             delegate = persister.store(newModel, affectedAddresses);
+            storeTime = System.nanoTime() - start;
         } else {
             ControllerLogger.MGMT_OP_LOGGER.tracef("persisting with no resource tree changes to %s", model);
             delegate = null;
+            storeTime = 0;
         }
         return new ConfigurationPersister.PersistenceResource() {
 
@@ -714,7 +793,9 @@ class ModelControllerImpl implements ModelController {
                 }
                 if (resourceTreeModified) {
                     model.publish();
+                    final long start = System.nanoTime();
                     delegate.commit();
+                    operationStatistics.recordPersist(storeTime + System.nanoTime() - start);
                 }
             }
 
@@ -745,6 +826,7 @@ class ModelControllerImpl implements ModelController {
     }
 
     void acquireWriteLock(Integer permit, final boolean interruptibly) throws InterruptedException {
+        final long start = System.nanoTime();
         if (interruptibly) {
             //noinspection LockAcquiredButNotSafelyReleased
             controllerLock.lockInterruptibly(permit);
@@ -752,9 +834,11 @@ class ModelControllerImpl implements ModelController {
             //noinspection LockAcquiredButNotSafelyReleased
             controllerLock.lock(permit);
         }
+        recordLockWait(start);
     }
 
     void acquireReadLock(Integer permit, final boolean interruptibly) throws InterruptedException {
+        final long start = System.nanoTime();
         if (interruptibly) {
             //noinspection LockAcquiredButNotSafelyReleased
             controllerLock.lockSharedInterruptibly(permit);
@@ -762,15 +846,47 @@ class ModelControllerImpl implements ModelController {
             //noinspection LockAcquiredButNotSafelyReleased
             controllerLock.lockShared(permit);
         }
+        recordLockWait(start);
     }
 
     boolean acquireWriteLock(Integer permit, final boolean interruptibly, long timeout) throws InterruptedException {
+        final long start = System.nanoTime();
+        final boolean acquired;
         if (interruptibly) {
             //noinspection LockAcquiredButNotSafelyReleased
-            return controllerLock.lockInterruptibly(permit, timeout, TimeUnit.SECONDS);
+            acquired = controllerLock.lockInterruptibly(permit, timeout, TimeUnit.SECONDS);
         } else {
             //noinspection LockAcquiredButNotSafelyReleased
-            return controllerLock.lock(permit, timeout, TimeUnit.SECONDS);
+            acquired = controllerLock.lock(permit, timeout, TimeUnit.SECONDS);
+        }
+        if (acquired) {
+            recordLockWait(start);
+        }
+        return acquired;
+    }
+
+    /**
+     * Gets whether an operation resolves to a registered handler.
+     *
+     * @param operation the operation
+     * @return {@code false} if the operation's address is invalid or there is no handler for it
+     */
+    private boolean isRegisteredOperation(final ModelNode operation) {
+        try {
+            final PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
+            return managementModel.get().getRootResourceRegistration().getOperationEntry(address, operation.get(OP).asString()) != null;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void recordLockWait(final long start) {
+        final long wait = System.nanoTime() - start;
+        lockAcquisitionCount.increment();
+        lockWaitTime.add(wait);
+        long max;
+        while (wait > (max = maxLockWaitTime.get()) && !maxLockWaitTime.compareAndSet(max, wait)) {
+            // retry
         }
     }
 
@@ -982,6 +1098,28 @@ class ModelControllerImpl implements ModelController {
             super(SERVICE, MANAGEMENT_OPERATIONS);
         }
 
+        @Override
+        public boolean isModelDefined() {
+            return true;
+        }
+
+        @Override
+        public ModelNode getModel() {
+            final ModelNode model = new ModelNode();
+            model.get(LOCK_ACQUISITION_COUNT).set(lockAcquisitionCount.sum());
+            model.get(LOCK_TOTAL_WAIT_TIME).set(lockWaitTime.sum());
+            model.get(LOCK_MAX_WAIT_TIME).set(maxLockWaitTime.get());
+            operationStatistics.addToModel(model);
+            synchronized (bootTimes) {
+                if (bootTimes.isDefined()) {
+                    for (String attribute : bootTimes.keys()) {
+                        model.get(attribute).set(bootTimes.get(attribute));
+                    }
+                }
+            }
+            return model;
+        }
+
         @Override
         public boolean hasChild(PathElement element) {
             try {
@@ -1067,14 +1205,24 @@ class ModelControllerImpl implements ModelController {
         private final Resource delegatingResource;
         // The capability registry
         private final CapabilityRegistry capabilityRegistry;
+        // The lazy copy backing rootResource, if it was created by cloneRootResource()
+        private final LazyResourceCopy resourceCopy;
 
         private volatile boolean published;
 
         ManagementModelImpl(final ManagementResourceRegistration resourceRegistration,
                             final Resource rootResource,
                             final CapabilityRegistry capabilityRegistry) {
+            this(resourceRegistration, rootResource, capabilityRegistry, null);
+        }
+
+        private ManagementModelImpl(final ManagementResourceRegistration resourceRegistration,
+                                    final Resource rootResource,
+                                    final CapabilityRegistry capabilityRegistry,
+                                    final LazyResourceCopy resourceCopy) {
             this.resourceRegistration = resourceRegistration;
             this.rootResource = rootResource;
+            this.resourceCopy = resourceCopy;
             assert capabilityRegistry != null;
             this.capabilityRegistry = capabilityRegistry;
             // What we expose depends on the state of our 'published' field. If 'true' we've been published
@@ -1160,7 +1308,8 @@ class ModelControllerImpl implements ModelController {
         /**
          * Creates a new {@code ManagementModelImpl} that uses a clone of this one's root {@link Resource}.
          * The caller can safely modify that {@code Resource} without changes being exposed
-         * to other callers. Use {@link ModelControllerImpl#writeModel(ManagementModelImpl, Set, boolean, boolean, boolean)}
+         * to other callers. The clone is a {@link LazyResourceCopy}, so only resources the caller actually
+         * reaches are copied; the rest of the tree is shared with the current model. Use {@link ModelControllerImpl#writeModel(ManagementModelImpl, Set, boolean, boolean, boolean)}
          * to publish changes.
          *
          * @return the new {@code ManagementModelImpl}. Will not return {@code null}
@@ -1183,8 +1332,9 @@ class ModelControllerImpl implements ModelController {
                 currentResource = rootResource;
                 currentCaps = capabilityRegistry;
             }
-            Resource clone = currentResource.clone();
-            ManagementModelImpl result = new ManagementModelImpl(mrr, clone, currentCaps);
+            LazyResourceCopy copy = LazyResourceCopy.copy(currentResource);
+            Resource clone = copy.getRoot();
+            ManagementModelImpl result = new ManagementModelImpl(mrr, clone, currentCaps, copy);
             ControllerLogger.MGMT_OP_LOGGER.tracef("cloned to %s to create %s and %s", currentResource, clone, result);
             return result;
         }
@@ -1207,8 +1357,20 @@ class ModelControllerImpl implements ModelController {
                 return CapabilityRegistry.CapabilityValidation.OK;
             }
         }
+        /**
+         * Marks the root resource as complete, after which it will no longer be modified. Resources
+         * not yet copied from the previously published model remain shared with it.
+         */
+        private void freeze() {
+            if (resourceCopy != null) {
+                resourceCopy.freeze();
+            }
+        }
+
         private void publish() {
+            freeze();
             ModelControllerImpl.this.managementModel.set(this);
+            modelRevision = MODEL_REVISIONS.incrementAndGet();
             published = true;
             ControllerLogger.MGMT_OP_LOGGER.tracef("published %s", this);
         }
@@ -1221,6 +1383,7 @@ class ModelControllerImpl implements ModelController {
             published = true;
             // Don't roll back the capability registry here; let that happen via finally block calls to MCI.discardModel
             // capabilityRegistry.rollback();
+            freeze();
             ControllerLogger.MGMT_OP_LOGGER.tracef("discarded %s", this);
         }
     }
@@ -0,0 +1,149 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_LATENCIES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PERSIST_LATENCY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STAGE_LATENCIES;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Latency statistics for the operations executed by a {@link ModelControllerImpl}, by operation name and by
+ * {@link OperationContext.Stage}, along with the time spent persisting the configuration. Operations that take
+ * longer than the threshold set by the {@link #SLOW_OPERATION_THRESHOLD_PROPERTY} system property are logged.
+ * <p>
+ * Only operations with a registered handler are recorded by name, and at most {@link #MAX_OPERATION_NAMES} names
+ * are kept, so a client sending arbitrary operation names cannot grow the statistics without bound. Any
+ * further names are recorded together under {@link #OTHER_OPERATIONS}.
+ * </p>
+ */
+final class OperationStatistics {
+
+    /** System property holding the execution time, in milliseconds, above which an operation is logged. 0 disables it. */
+    static final String SLOW_OPERATION_THRESHOLD_PROPERTY = "jboss.as.management.slow.operation.threshold";
+    /** The maximum number of operation names statistics are kept for */
+    static final int MAX_OPERATION_NAMES = 512;
+    /** The key the operations beyond {@link #MAX_OPERATION_NAMES} are recorded under */
+    static final String OTHER_OPERATIONS = "other";
+
+    private final ConcurrentMap<String, LatencyHistogram> operations = new ConcurrentHashMap<>();
+    private final Map<OperationContext.Stage, LatencyHistogram> stages = new EnumMap<>(OperationContext.Stage.class);
+    private final LatencyHistogram otherOperations = new LatencyHistogram();
+    private final LatencyHistogram persist = new LatencyHistogram();
+    private final long slowOperationThreshold;
+
+    OperationStatistics() {
+        for (OperationContext.Stage stage : OperationContext.Stage.values()) {
+            stages.put(stage, new LatencyHistogram());
+        }
+        long threshold = 0;
+        final String value = WildFlySecurityManager.getPropertyPrivileged(SLOW_OPERATION_THRESHOLD_PROPERTY, null);
+        if (value != null) {
+            try {
+                threshold = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                ControllerLogger.MGMT_OP_LOGGER.invalidSlowOperationThreshold(value, SLOW_OPERATION_THRESHOLD_PROPERTY);
+            }
+        }
+        this.slowOperationThreshold = threshold;
+    }
+
+    void recordPersist(long nanos) {
+        persist.record(nanos);
+    }
+
+    /**
+     * Records the execution of an operation.
+     *
+     * @param operationName the name of the operation
+     * @param registered {@code true} if the operation resolved to a registered handler
+     * @param address the address of the operation, only used if the operation is logged as slow
+     * @param nanos the total execution time
+     * @param stageTimes time spent in each stage, indexed by {@link OperationContext.Stage#ordinal()}
+     */
+    void recordOperation(String operationName, boolean registered, ModelNode address, long nanos, long[] stageTimes) {
+        if (registered) {
+            LatencyHistogram histogram = operations.get(operationName);
+            if (histogram == null) {
+                // The size check races with other threads adding names, so the bound may be exceeded slightly
+                histogram = operations.size() < MAX_OPERATION_NAMES
+                        ? operations.computeIfAbsent(operationName, name -> new LatencyHistogram())
+                        : otherOperations;
+            }
+            histogram.record(nanos);
+        }
+        for (OperationContext.Stage stage : OperationContext.Stage.values()) {
+            final long time = stageTimes[stage.ordinal()];
+            if (time > 0) {
+                stages.get(stage).record(time);
+            }
+        }
+        if (slowOperationThreshold > 0 && nanos >= slowOperationThreshold) {
+            final StringBuilder sb = new StringBuilder();
+            for (OperationContext.Stage stage : OperationContext.Stage.values()) {
+                if (stageTimes[stage.ordinal()] > 0) {
+                    if (sb.length() > 0) {
+                        sb.append(", ");
+                    }
+                    sb.append(stageName(stage)).append('=').append(TimeUnit.NANOSECONDS.toMillis(stageTimes[stage.ordinal()]));
+                }
+            }
+            ControllerLogger.MGMT_OP_LOGGER.slowOperation(operationName, address, TimeUnit.NANOSECONDS.toMillis(nanos), sb);
+        }
+    }
+
+    /**
+     * Adds the current statistics to the model of the controller's resource.
+     *
+     * @param model the model. Cannot be {@code null}
+     */
+    void addToModel(ModelNode model) {
+        final ModelNode ops = model.get(OPERATION_LATENCIES).setEmptyObject();
+        for (Map.Entry<String, LatencyHistogram> entry : operations.entrySet()) {
+            ops.get(entry.getKey()).set(entry.getValue().toModelNode());
+        }
+        if (operations.size() >= MAX_OPERATION_NAMES) {
+            ops.get(OTHER_OPERATIONS).set(otherOperations.toModelNode());
+        }
+        final ModelNode stageNode = model.get(STAGE_LATENCIES).setEmptyObject();
+        for (Map.Entry<OperationContext.Stage, LatencyHistogram> entry : stages.entrySet()) {
+            stageNode.get(stageName(entry.getKey())).set(entry.getValue().toModelNode());
+        }
+        model.get(PERSIST_LATENCY).set(persist.toModelNode());
+    }
+
+    private static String stageName(OperationContext.Stage stage) {
+        return stage.name().toLowerCase(Locale.ENGLISH);
+    }
+}
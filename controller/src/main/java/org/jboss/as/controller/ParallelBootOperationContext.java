@@ -48,7 +48,8 @@ import org.jboss.msc.service.ServiceRegistry;
 import org.wildfly.security.auth.server.SecurityIdentity;
 
 /**
- * {@link OperationContext} implementation for parallel handling of subsystem operations during boot.
+ * {@link OperationContext} implementation for parallel handling of the subsystem or deployment operations of a
+ * {@link ParallelBootOperationStepHandler} group during boot.
  *
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  */
@@ -28,9 +28,12 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.client.OperationResponse;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
@@ -43,12 +46,22 @@ import org.wildfly.security.auth.server.SecurityDomain;
 import org.wildfly.security.auth.server.SecurityRealm;
 
 /**
- * Special handler that executes subsystem boot operations in parallel.
+ * Special handler that executes boot operations in parallel. Operations are grouped by the value of the first
+ * element of their address, which must be of a given type, and each group's operations are executed in their own
+ * thread. The controller uses one handler for the {@code subsystem} operations, where each subsystem is a group, and
+ * one for a run of consecutive {@code deployment} operations, where each deployment is a group. Model stage steps
+ * that need to see the resources of other groups, such as the check that deployment runtime names are unique, are
+ * added with {@link #addModelStepAfterParallelBoot(OperationContext, ModelNode, OperationStepHandler)}.
  *
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  */
 public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
+    /**
+     * Model stage steps which must not run until every group executing in parallel has completed its model stage
+     */
+    private static final OperationContext.AttachmentKey<Queue<ParsedBootOp>> DEFERRED_MODEL_STEPS = OperationContext.AttachmentKey.create(Queue.class);
+
     private final Executor executor;
     private final ImmutableManagementResourceRegistration rootRegistration;
     private final ControlledProcessState processState;
@@ -56,13 +69,22 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
     private final ModelControllerImpl controller;
     private final int operationId;
+    private final String childType;
+    private final String timingAttribute;
 
-    private final Map<String, List<ParsedBootOp>> opsBySubsystem = new LinkedHashMap<String, List<ParsedBootOp>>();
+    private final Map<String, List<ParsedBootOp>> opsByGroup = new LinkedHashMap<String, List<ParsedBootOp>>();
     private ParsedBootOp ourOp;
 
     ParallelBootOperationStepHandler(final ExecutorService executorService, final ImmutableManagementResourceRegistration rootRegistration,
                                      final ControlledProcessState processState, final ModelControllerImpl controller,
                                      final int operationId, final OperationStepHandler extraValidationStepHandler) {
+        this(executorService, rootRegistration, processState, controller, operationId, extraValidationStepHandler, ModelDescriptionConstants.SUBSYSTEM);
+    }
+
+    ParallelBootOperationStepHandler(final ExecutorService executorService, final ImmutableManagementResourceRegistration rootRegistration,
+                                     final ControlledProcessState processState, final ModelControllerImpl controller,
+                                     final int operationId, final OperationStepHandler extraValidationStepHandler,
+                                     final String childType) {
         this.executor = executorService;
         this.rootRegistration = rootRegistration;
         this.processState = processState;
@@ -70,33 +92,56 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         this.controller = controller;
         this.operationId = operationId;
         this.extraValidationStepHandler = extraValidationStepHandler;
+        this.childType = childType;
+        this.timingAttribute = ModelDescriptionConstants.DEPLOYMENT.equals(childType)
+                ? ModelDescriptionConstants.BOOT_DEPLOYMENT_TIMES : ModelDescriptionConstants.BOOT_SUBSYSTEM_TIMES;
     }
 
-    boolean addSubsystemOperation(final ParsedBootOp parsedOp) {
-        final String subsystemName = getSubsystemName(parsedOp.address);
-        if (subsystemName != null) {
-            List<ParsedBootOp> list = opsBySubsystem.get(subsystemName);
+    boolean addOperation(final ParsedBootOp parsedOp) {
+        final String groupName = getGroupName(parsedOp.address);
+        if (groupName != null) {
+            List<ParsedBootOp> list = opsByGroup.get(groupName);
             if (list == null) {
                 list = new ArrayList<ParsedBootOp>();
-                opsBySubsystem.put(subsystemName, list);
+                opsByGroup.put(groupName, list);
             }
             list.add(parsedOp);
             getParsedBootOp().addChildOperation(parsedOp);
         }
-        return subsystemName != null;
+        return groupName != null;
     }
 
     ParsedBootOp getParsedBootOp() {
         if (ourOp == null) {
-            ModelNode op = Util.getEmptyOperation("parallel-subsystem-boot", new ModelNode().setEmptyList());
+            ModelNode op = Util.getEmptyOperation("parallel-" + childType + "-boot", new ModelNode().setEmptyList());
             ourOp = new ParsedBootOp(op, this);
         }
         return ourOp;
     }
 
-    private String getSubsystemName(final PathAddress address) {
+    /**
+     * Adds a {@link OperationContext.Stage#MODEL} step which reads resources other boot operations may add, for
+     * example to check a value is unique across siblings. If the calling operation is executing as part of a
+     * parallel boot group the step is deferred until all groups have completed their model stage, and is then
+     * executed by the controlling thread. Otherwise this is the same as
+     * {@link OperationContext#addStep(ModelNode, OperationStepHandler, OperationContext.Stage)}.
+     *
+     * @param context   the operation context
+     * @param operation the operation the step executes for
+     * @param step      the step
+     */
+    public static void addModelStepAfterParallelBoot(final OperationContext context, final ModelNode operation, final OperationStepHandler step) {
+        final Queue<ParsedBootOp> deferred = context.isBooting() ? context.getAttachment(DEFERRED_MODEL_STEPS) : null;
+        if (deferred == null) {
+            context.addStep(operation, step, OperationContext.Stage.MODEL);
+        } else {
+            deferred.add(new ParsedBootOp(operation, step, new ModelNode()));
+        }
+    }
+
+    private String getGroupName(final PathAddress address) {
         String key = null;
-        if (address.size() > 0 && ModelDescriptionConstants.SUBSYSTEM.equals(address.getElement(0).getKey())) {
+        if (address.size() > 0 && childType.equals(address.getElement(0).getKey())) {
             key = address.getElement(0).getValue();
         }
         return key;
@@ -116,41 +161,59 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         final Resource rootResource = context.readResourceForUpdate(PathAddress.EMPTY_ADDRESS);
         context.acquireControllerLock();
 
-        final Map<String, List<ParsedBootOp>> runtimeOpsBySubsystem = new LinkedHashMap<String, List<ParsedBootOp>>();
+        final Map<String, List<ParsedBootOp>> runtimeOpsByGroup = new LinkedHashMap<String, List<ParsedBootOp>>();
         final Map<String, ParallelBootTransactionControl> transactionControls = new LinkedHashMap<String, ParallelBootTransactionControl>();
 
-        final CountDownLatch preparedLatch = new CountDownLatch(opsBySubsystem.size());
+        final CountDownLatch preparedLatch = new CountDownLatch(opsByGroup.size());
         final CountDownLatch committedLatch = new CountDownLatch(1);
-        final CountDownLatch completeLatch = new CountDownLatch(opsBySubsystem.size());
+        final CountDownLatch completeLatch = new CountDownLatch(opsByGroup.size());
         final Thread controllingThread = Thread.currentThread();
 
         if (!(context instanceof AbstractOperationContext)) {
             throw ControllerLogger.ROOT_LOGGER.operationContextIsNotAbstractOperationContext();
         }
 
-        for (Map.Entry<String, List<ParsedBootOp>> entry : opsBySubsystem.entrySet()) {
-            String subsystemName = entry.getKey();
-            List<ParsedBootOp> subsystemRuntimeOps = new ArrayList<ParsedBootOp>();
-            runtimeOpsBySubsystem.put(subsystemName, subsystemRuntimeOps);
+        final Queue<ParsedBootOp> deferredModelOps = new ConcurrentLinkedQueue<ParsedBootOp>();
+        context.attach(DEFERRED_MODEL_STEPS, deferredModelOps);
+
+        for (Map.Entry<String, List<ParsedBootOp>> entry : opsByGroup.entrySet()) {
+            String groupName = entry.getKey();
+            List<ParsedBootOp> groupRuntimeOps = new ArrayList<ParsedBootOp>();
+            runtimeOpsByGroup.put(groupName, groupRuntimeOps);
 
             final ParallelBootTransactionControl txControl = new ParallelBootTransactionControl(preparedLatch, committedLatch, completeLatch);
             transactionControls.put(entry.getKey(), txControl);
 
-            // Execute the subsystem's ops in another thread
-            ParallelBootTask subsystemTask = new ParallelBootTask(subsystemName, entry.getValue(), (OperationContextImpl)context, txControl,
-                    subsystemRuntimeOps, controllingThread, controller, operationId);
-            executor.execute(subsystemTask);
+            // Execute the group's ops in another thread
+            ParallelBootTask task = new ParallelBootTask(groupName, entry.getValue(), (OperationContextImpl)context, txControl,
+                    groupRuntimeOps, controllingThread, controller, operationId);
+            executor.execute(task);
         }
 
-        // Wait for all subsystem ops to complete
+        // Wait for all groups' ops to complete
         try {
-            preparedLatch.await();
+            try {
+                preparedLatch.await();
+            } finally {
+                context.detach(DEFERRED_MODEL_STEPS);
+            }
 
-            // See if all subsystems succeeded; if not report a failure to context
-            checkForSubsystemFailures(context, transactionControls, OperationContext.Stage.MODEL);
+            // See if all groups succeeded; if not report a failure to context
+            checkForGroupFailures(context, transactionControls, OperationContext.Stage.MODEL);
+            recordBootTimes(transactionControls);
+
+            // Now that no other thread is modifying the model, run the steps which read resources added by
+            // other groups right after this one, in the order they were added
+            if (!context.isRollbackOnly()) {
+                final List<ParsedBootOp> deferred = new ArrayList<ParsedBootOp>(deferredModelOps);
+                for (int i = deferred.size() - 1; i >= 0; i--) {
+                    final ParsedBootOp deferredOp = deferred.get(i);
+                    context.addStep(deferredOp.response, deferredOp.operation, deferredOp.handler, OperationContext.Stage.MODEL, true);
+                }
+            }
 
             // Add any logging subsystem steps so we get logging early in the boot
-            List<ParsedBootOp> loggingOps = runtimeOpsBySubsystem.remove("logging");
+            List<ParsedBootOp> loggingOps = ModelDescriptionConstants.SUBSYSTEM.equals(childType) ? runtimeOpsByGroup.remove("logging") : null;
             if (loggingOps != null) {
                 for (ParsedBootOp loggingOp : loggingOps) {
                     context.addStep(loggingOp.response, loggingOp.operation, loggingOp.handler, OperationContext.Stage.RUNTIME);
@@ -158,30 +221,30 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
             }
 
             // AS7-2561
-            // The parallel execution will have added the subsystems to their parent resource in random order.
+            // The parallel execution will have added the resources to their parent resource in random order.
             // We need to restore the order that came in the XML.
-            final Map<String, Resource> subsystemResources = new LinkedHashMap<String, Resource>();
-            for (String subsystemName : opsBySubsystem.keySet()) {
-                final Resource resource = rootResource.removeChild(PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, subsystemName));
+            final Map<String, Resource> groupResources = new LinkedHashMap<String, Resource>();
+            for (String groupName : opsByGroup.keySet()) {
+                final Resource resource = rootResource.removeChild(PathElement.pathElement(childType, groupName));
                 if (resource != null) {
-                    subsystemResources.put(subsystemName, resource);
+                    groupResources.put(groupName, resource);
                 }
             }
-            for (Map.Entry<String, Resource> entry : subsystemResources.entrySet()) {
-                rootResource.registerChild(PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, entry.getKey()), entry.getValue());
+            for (Map.Entry<String, Resource> entry : groupResources.entrySet()) {
+                rootResource.registerChild(PathElement.pathElement(childType, entry.getKey()), entry.getValue());
             }
 
-            // Add step to execute all the runtime ops recorded by the other subsystem tasks
-            context.addStep(getRuntimeStep(runtimeOpsBySubsystem), OperationContext.Stage.RUNTIME);
+            // Add step to execute all the runtime ops recorded by the other group tasks
+            context.addStep(getRuntimeStep(runtimeOpsByGroup), OperationContext.Stage.RUNTIME);
 
         } catch (InterruptedException e) {
-            context.getFailureDescription().set(new ModelNode().set(ControllerLogger.ROOT_LOGGER.subsystemBootInterrupted()));
+            context.getFailureDescription().set(new ModelNode().set(ControllerLogger.ROOT_LOGGER.parallelBootInterrupted(childType)));
             Thread.currentThread().interrupt();
         }
 
         if (MGMT_OP_LOGGER.isDebugEnabled()) {
             long elapsed = System.currentTimeMillis() - start;
-            MGMT_OP_LOGGER.debugf("Ran subsystem model operations in [%d] ms", elapsed);
+            MGMT_OP_LOGGER.debugf("Ran %s model operations in [%d] ms", childType, elapsed);
         }
 
         // Continue boot
@@ -189,10 +252,10 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
             @Override
             public void handleResult(OperationContext.ResultAction resultAction, OperationContext context, ModelNode operation) {
 
-                // Tell all the subsystem tasks the result of the operations
-                notifySubsystemTransactions(transactionControls, resultAction == OperationContext.ResultAction.ROLLBACK, committedLatch, OperationContext.Stage.RUNTIME);
+                // Tell all the group tasks the result of the operations
+                notifyGroupTransactions(transactionControls, resultAction == OperationContext.ResultAction.ROLLBACK, committedLatch, OperationContext.Stage.RUNTIME);
 
-                // Make sure all the subsystems have completed the out path before we return
+                // Make sure all the groups have completed the out path before we return
                 try {
                     completeLatch.await();
                 } catch (InterruptedException e) {
@@ -203,17 +266,17 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
     }
 
-    private void checkForSubsystemFailures(OperationContext context, Map<String, ParallelBootTransactionControl> transactionControls, OperationContext.Stage stage) {
+    private void checkForGroupFailures(OperationContext context, Map<String, ParallelBootTransactionControl> transactionControls, OperationContext.Stage stage) {
         boolean failureRecorded = false;
         for (Map.Entry<String, ParallelBootTransactionControl> entry : transactionControls.entrySet()) {
             ParallelBootTransactionControl txControl = entry.getValue();
             if (txControl.transaction == null) {
-                // This means a set of subsystem steps didn't complete and rolled back
+                // This means a group's steps didn't complete and rolled back
                 String failureDesc;
                 if (txControl.response.getResponseNode().hasDefined(ModelDescriptionConstants.FAILURE_DESCRIPTION)) {
                     failureDesc = txControl.response.getResponseNode().get(ModelDescriptionConstants.FAILURE_DESCRIPTION).toString();
                 } else {
-                    failureDesc = ControllerLogger.ROOT_LOGGER.subsystemBootOperationFailed(entry.getKey());
+                    failureDesc = ControllerLogger.ROOT_LOGGER.parallelBootOperationFailed(childType, entry.getKey());
                 }
                 MGMT_OP_LOGGER.error(failureDesc);
                 if (!failureRecorded) {
@@ -224,12 +287,22 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                     context.setRollbackOnly();
                 }
             } else {
-                MGMT_OP_LOGGER.debugf("Stage %s boot ops for subsystem %s succeeded", stage, entry.getKey());
+                MGMT_OP_LOGGER.debugf("Stage %s boot ops for %s %s succeeded", stage, childType, entry.getKey());
             }
         }
     }
 
-    private void notifySubsystemTransactions(final Map<String, ParallelBootTransactionControl> transactionControls,
+    /**
+     * Records how long each group's operations took to reach the prepared (or failed) state. Model and runtime
+     * stage times are added together by the controller.
+     */
+    private void recordBootTimes(Map<String, ParallelBootTransactionControl> transactionControls) {
+        for (Map.Entry<String, ParallelBootTransactionControl> entry : transactionControls.entrySet()) {
+            controller.recordBootTime(timingAttribute, entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue().elapsed));
+        }
+    }
+
+    private void notifyGroupTransactions(final Map<String, ParallelBootTransactionControl> transactionControls,
                                              final boolean rollback,
                                              final CountDownLatch committedLatch,
                                              final OperationContext.Stage stage) {
@@ -238,17 +311,17 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
             if (txControl.transaction != null) {
                 if (!rollback) {
                     txControl.transaction.commit();
-                    MGMT_OP_LOGGER.debugf("Committed transaction for %s subsystem %s stage boot operations", entry.getKey(), stage);
+                    MGMT_OP_LOGGER.debugf("Committed transaction for %s %s %s stage boot operations", childType, entry.getKey(), stage);
                 } else {
                     txControl.transaction.rollback();
-                    MGMT_OP_LOGGER.debugf("Rolled back transaction for %s subsystem %s stage boot operations", entry.getKey(), stage);
+                    MGMT_OP_LOGGER.debugf("Rolled back transaction for %s %s %s stage boot operations", childType, entry.getKey(), stage);
                 }
             }
         }
         committedLatch.countDown();
     }
 
-    private OperationStepHandler getRuntimeStep(final Map<String, List<ParsedBootOp>> runtimeOpsBySubsystem) {
+    private OperationStepHandler getRuntimeStep(final Map<String, List<ParsedBootOp>> runtimeOpsByGroup) {
 
         return new OperationStepHandler() {
             @Override
@@ -260,9 +333,9 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
                 final Map<String, ParallelBootTransactionControl> transactionControls = new LinkedHashMap<String, ParallelBootTransactionControl>();
 
-                final CountDownLatch preparedLatch = new CountDownLatch(runtimeOpsBySubsystem.size());
+                final CountDownLatch preparedLatch = new CountDownLatch(runtimeOpsByGroup.size());
                 final CountDownLatch committedLatch = new CountDownLatch(1);
-                final CountDownLatch completeLatch = new CountDownLatch(runtimeOpsBySubsystem.size());
+                final CountDownLatch completeLatch = new CountDownLatch(runtimeOpsByGroup.size());
                 final Thread controllingThread = Thread.currentThread();
 
                 if (!(context instanceof AbstractOperationContext)) {
@@ -270,31 +343,32 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                 }
 
 
-                for (Map.Entry<String, List<ParsedBootOp>> entry : runtimeOpsBySubsystem.entrySet()) {
-                    String subsystemName = entry.getKey();
+                for (Map.Entry<String, List<ParsedBootOp>> entry : runtimeOpsByGroup.entrySet()) {
+                    String groupName = entry.getKey();
                     final ParallelBootTransactionControl txControl = new ParallelBootTransactionControl(preparedLatch, committedLatch, completeLatch);
-                    transactionControls.put(subsystemName, txControl);
+                    transactionControls.put(groupName, txControl);
 
-                    // Execute the subsystem's ops in another thread
-                    ParallelBootTask subsystemTask = new ParallelBootTask(subsystemName, entry.getValue(), (OperationContextImpl)context, txControl, null, controllingThread, controller, operationId);
-                    executor.execute(subsystemTask);
+                    // Execute the group's ops in another thread
+                    ParallelBootTask task = new ParallelBootTask(groupName, entry.getValue(), (OperationContextImpl)context, txControl, null, controllingThread, controller, operationId);
+                    executor.execute(task);
                 }
 
-                // Wait for all subsystem ops to complete
+                // Wait for all groups' ops to complete
                 try {
                     preparedLatch.await();
 
-                    // See if all subsystems succeeded; if not report a failure to context
-                    checkForSubsystemFailures(context, transactionControls, OperationContext.Stage.RUNTIME);
+                    // See if all groups succeeded; if not report a failure to context
+                    checkForGroupFailures(context, transactionControls, OperationContext.Stage.RUNTIME);
+                    recordBootTimes(transactionControls);
 
                 } catch (InterruptedException e) {
-                    context.getFailureDescription().set(new ModelNode().set(ControllerLogger.ROOT_LOGGER.subsystemBootInterrupted()));
+                    context.getFailureDescription().set(new ModelNode().set(ControllerLogger.ROOT_LOGGER.parallelBootInterrupted(childType)));
                     Thread.currentThread().interrupt();
                 }
 
                 if (MGMT_OP_LOGGER.isDebugEnabled()) {
                     long elapsed = System.currentTimeMillis() - start;
-                    MGMT_OP_LOGGER.debugf("Ran subsystem runtime operations in [%d] ms", elapsed);
+                    MGMT_OP_LOGGER.debugf("Ran %s runtime operations in [%d] ms", childType, elapsed);
                 }
 
 
@@ -303,10 +377,10 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                     @Override
                     public void handleResult(OperationContext.ResultAction resultAction, OperationContext context, ModelNode operation) {
 
-                        // Tell all the subsystem tasks the result of the operations
-                        notifySubsystemTransactions(transactionControls, resultAction == OperationContext.ResultAction.ROLLBACK, committedLatch, OperationContext.Stage.MODEL);
+                        // Tell all the group tasks the result of the operations
+                        notifyGroupTransactions(transactionControls, resultAction == OperationContext.ResultAction.ROLLBACK, committedLatch, OperationContext.Stage.MODEL);
 
-                        // Make sure all the subsystems have completed the out path before we return
+                        // Make sure all the groups have completed the out path before we return
                         try {
                             completeLatch.await();
                         } catch (InterruptedException e) {
@@ -320,7 +394,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
     private class ParallelBootTask implements Runnable {
 
-        private final String subsystemName;
+        private final String groupName;
         private final List<ParsedBootOp> bootOperations;
         private final OperationContextImpl primaryContext;
         private final OperationContext.Stage executionStage;
@@ -330,7 +404,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         private final ModelControllerImpl controller;
         private final int lockId;
 
-        public ParallelBootTask(final String subsystemName,
+        public ParallelBootTask(final String groupName,
                                 final List<ParsedBootOp> bootOperations,
                                 final OperationContextImpl primaryContext,
                                 final ParallelBootTransactionControl transactionControl,
@@ -338,7 +412,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                                 final Thread controllingThread,
                                 final ModelControllerImpl controller,
                                 final int lockId) {
-            this.subsystemName = subsystemName;
+            this.groupName = groupName;
             this.bootOperations = bootOperations;
             this.primaryContext = primaryContext;
             this.executionStage = primaryContext.getCurrentStage();
@@ -351,6 +425,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
         @Override
         public void run() {
+            transactionControl.start = System.nanoTime();
             boolean interrupted = false;
             ParallelBootOperationContext operationContext = null;
             try {
@@ -381,7 +456,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                 operationContext.executeOperation();
             } catch (Throwable t) {
                 interrupted = (t instanceof InterruptedException);
-                MGMT_OP_LOGGER.failedSubsystemBootOperations(t, subsystemName);
+                MGMT_OP_LOGGER.failedParallelBootOperations(t, childType, groupName);
                 if (!transactionControl.signalled) {
                     ModelNode failure = new ModelNode();
                     failure.get(ModelDescriptionConstants.SUCCESS).set(false);
@@ -400,7 +475,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                     if (!transactionControl.signalled) {
                         ModelNode failure = new ModelNode();
                         failure.get(ModelDescriptionConstants.SUCCESS).set(false);
-                        failure.get(ModelDescriptionConstants.FAILURE_DESCRIPTION).set(ControllerLogger.ROOT_LOGGER.subsystemBootOperationFailedExecuting(subsystemName));
+                        failure.get(ModelDescriptionConstants.FAILURE_DESCRIPTION).set(ControllerLogger.ROOT_LOGGER.parallelBootOperationFailedExecuting(childType, groupName));
                         transactionControl.operationFailed(failure);
                     }
                 } else {
@@ -427,6 +502,8 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         private OperationResponse response;
         private ModelController.OperationTransaction transaction;
         private boolean signalled;
+        private long start;
+        private long elapsed;
 
         public ParallelBootTransactionControl(CountDownLatch preparedLatch, CountDownLatch committedLatch, CountDownLatch completeLatch) {
             this.preparedLatch = preparedLatch;
@@ -438,6 +515,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         public void operationFailed(ModelNode response) {
             if (!signalled) {
                 this.response = OperationResponse.Factory.createSimple(response);
+                this.elapsed = System.nanoTime() - start;
                 preparedLatch.countDown();
                 completeLatch.countDown();
                 signalled = true;
@@ -448,6 +526,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         public void operationPrepared(ModelController.OperationTransaction transaction, ModelNode result) {
             if (!signalled) {
                 this.transaction = transaction;
+                this.elapsed = System.nanoTime() - start;
                 preparedLatch.countDown();
                 signalled = true;
 
@@ -27,22 +27,41 @@ import java.security.PermissionCollection;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.constraint.Constraint;
 
 /**
 * {@link PermissionCollection} for use with {@link ManagementPermission}. It's homogeneous.
+* <p>
+* If the collection holds {@link SimpleManagementPermission}s, i.e. the permissions of a standard role, decisions
+* are cached. The constraints of the required permissions are shared instances for most targets, so the same few
+* combinations get checked over and over, e.g. for every attribute of every resource in a recursive read. The cache
+* lives as long as this collection, which is replaced whenever the access control configuration changes. It only
+* keeps the most recently used decisions, so decisions for targets with their own constraint instances, which never
+* produce a cache hit, don't crowd out the shared ones. Collections of combined permissions are not cached, as the
+* constraints of scoped roles can be updated in place.
 *
 * @author Brian Stansberry (c) 2013 Red Hat Inc.
 */
 public class ManagementPermissionCollection extends PermissionCollection {
 
+    /** Upper bound for the cached decisions; the least recently used decision is evicted once it is reached */
+    static final int MAX_CACHED_DECISIONS = 1024;
+
     private final Class<? extends ManagementPermission> type;
 
     private final String name;
     private final Map<Action.ActionEffect, ManagementPermission> permissions = new HashMap<Action.ActionEffect, ManagementPermission>();
+    private final Map<DecisionKey, Boolean> decisions = new LinkedHashMap<DecisionKey, Boolean>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DecisionKey, Boolean> eldest) {
+            return size() > MAX_CACHED_DECISIONS;
+        }
+    };
 
     public ManagementPermissionCollection(Class<? extends ManagementPermission> type) {
         this(null, type);
@@ -64,6 +83,9 @@ public class ManagementPermissionCollection extends PermissionCollection {
             synchronized (permissions) {
                 permissions.put(mperm.getActionEffect(), mperm);
             }
+            synchronized (decisions) {
+                decisions.clear();
+            }
         } else {
             throw ControllerLogger.ROOT_LOGGER.incompatiblePermissionType(permission.getClass());
         }
@@ -71,6 +93,25 @@ public class ManagementPermissionCollection extends PermissionCollection {
 
     @Override
     public boolean implies(Permission permission) {
+        if (type == SimpleManagementPermission.class && permission instanceof SimpleManagementPermission) {
+            final DecisionKey key = new DecisionKey((SimpleManagementPermission) permission);
+            final Boolean cached;
+            synchronized (decisions) {
+                cached = decisions.get(key);
+            }
+            if (cached != null) {
+                return cached;
+            }
+            final boolean result = impliesManagementPermission(permission);
+            synchronized (decisions) {
+                decisions.put(key, result);
+            }
+            return result;
+        }
+        return impliesManagementPermission(permission);
+    }
+
+    private boolean impliesManagementPermission(Permission permission) {
         if (permission instanceof ManagementPermission) {
             ManagementPermission mperm = (ManagementPermission) permission;
             Action.ActionEffect actionEffect = mperm.getActionEffect();
@@ -116,4 +157,46 @@ public class ManagementPermissionCollection extends PermissionCollection {
             return permissions.values().iterator();
         }
     }
+
+    /**
+     * Key for a cached decision. Constraints are compared by identity; they are immutable, so the same instances
+     * always lead to the same decision.
+     */
+    private static final class DecisionKey {
+
+        private final Action.ActionEffect actionEffect;
+        private final Constraint[] constraints;
+        private final int hashCode;
+
+        private DecisionKey(SimpleManagementPermission permission) {
+            this.actionEffect = permission.getActionEffect();
+            this.constraints = permission.getConstraints();
+            int result = actionEffect.hashCode();
+            for (Constraint constraint : constraints) {
+                result = 31 * result + System.identityHashCode(constraint);
+            }
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DecisionKey)) return false;
+            DecisionKey that = (DecisionKey) o;
+            if (hashCode != that.hashCode || actionEffect != that.actionEffect || constraints.length != that.constraints.length) {
+                return false;
+            }
+            for (int i = 0; i < constraints.length; i++) {
+                if (constraints[i] != that.constraints[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -92,6 +92,10 @@ public class SimpleManagementPermission extends ManagementPermission {
         return getActionEffect().toString();
     }
 
+    Constraint[] getConstraints() {
+        return constraints;
+    }
+
     public ManagementPermission createScopedPermission(Constraint constraint, int constraintIndex) {
         Constraint[] altered;
         if (constraintIndex == constraints.length) {
@@ -24,7 +24,6 @@ package org.jboss.as.controller.access.rbac;
 
 import java.security.Permission;
 import java.security.PermissionCollection;
-import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,6 +34,7 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.access.Action;
 import org.jboss.as.controller.access.AuthorizerConfiguration;
@@ -78,8 +78,8 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
     private final Map<String, ManagementPermissionCollection> permissionsByRole = new HashMap<String, ManagementPermissionCollection>();
     private final Map<String, ScopedBase> scopedBaseMap = new HashMap<String, ScopedBase>();
     private final AuthorizerConfiguration authorizerConfiguration;
-    private PermsHolder permsHolder;
-    private boolean rolePermissionsConfigured;
+    private volatile PermsHolder permsHolder;
+    private volatile boolean rolePermissionsConfigured;
 
     /**
      * Creates a new {@code DefaultPermissionFactory}
@@ -279,7 +279,15 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
         }
     }
 
-    private synchronized PermsHolder configureRolePermissions() {
+    private PermsHolder configureRolePermissions() {
+        // Avoid locking for every permission check; the holder is replaced as a whole when the configuration changes
+        if (rolePermissionsConfigured) {
+            return permsHolder;
+        }
+        return configureRolePermissionsLocked();
+    }
+
+    private synchronized PermsHolder configureRolePermissionsLocked() {
         if (!rolePermissionsConfigured) {
             this.permissionsByRole.clear();
             this.permissionsByRole.putAll(configureDefaultPermissions());
@@ -432,7 +440,7 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
 
     private static class PermsHolder {
         private final Map<Set<String>, PermissionCollection> permsByRoleSet =
-                Collections.synchronizedMap(new HashMap<Set<String>, PermissionCollection>());
+                new ConcurrentHashMap<Set<String>, PermissionCollection>();
         private final Map<String, ManagementPermissionCollection> permsByRole =
                 new HashMap<String, ManagementPermissionCollection>();
         private final ConstraintFactory[] constraintFactories;
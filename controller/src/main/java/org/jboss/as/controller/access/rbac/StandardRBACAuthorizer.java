@@ -22,13 +22,12 @@
 
 package org.jboss.as.controller.access.rbac;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.access.AuthorizerConfiguration;
 import org.jboss.as.controller.access.Caller;
@@ -84,7 +83,7 @@ public final class StandardRBACAuthorizer extends ManagementPermissionAuthorizer
     private final AuthorizerConfiguration configuration;
     private final DefaultPermissionFactory permissionFactory;
     private final RoleMapper roleMapper;
-    private final Map<String, String> mappedToOfficialForm = Collections.synchronizedMap(new HashMap<String, String>());
+    private final Map<String, String> mappedToOfficialForm = new ConcurrentHashMap<String, String>();
 
     private StandardRBACAuthorizer(final AuthorizerConfiguration configuration,
                                    final DefaultPermissionFactory permissionFactory, final RoleMapper roleMapper) {
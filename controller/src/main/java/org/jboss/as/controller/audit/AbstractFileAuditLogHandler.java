@@ -24,6 +24,7 @@ package org.jboss.as.controller.audit;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.services.path.PathManagerService;
 import org.jboss.as.protocol.StreamUtils;
+import org.wildfly.security.manager.WildFlySecurityManager;
 import org.xnio.IoUtils;
 
 import java.io.BufferedInputStream;
@@ -33,27 +34,76 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  *  All methods on this class should be called with {@link org.jboss.as.controller.audit.ManagedAuditLoggerImpl}'s lock taken.
+ * <p>
+ *  The log file is kept open between items, and reopened if it has been deleted or replaced, e.g. by an external
+ *  rotation tool. By default each item is synced to disk before {@link #writeLogItem(String)}
+ *  returns. If the {@link #MAX_SYNC_DELAY_PROPERTY} system property is set to a positive number of milliseconds, items
+ *  are instead queued and written by a background thread, which syncs the file once for all the items that arrived
+ *  within that delay. A failure to write queued items is reported by the next call to {@link #writeLogItem(String)},
+ *  once the item passed to that call has been queued.
  *
  * @author <a href="kabir.khan@jboss.com">Kabir Khan</a>
  * @author <a href="mailto:istudens@redhat.com">Ivo Studensky</a>
  */
 public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
     protected static final byte[] LINE_TERMINATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    /** System property holding the longest time, in milliseconds, a written item may wait before the file is synced */
+    public static final String MAX_SYNC_DELAY_PROPERTY = "jboss.as.management.audit.file.max-sync-delay";
+
     private final PathManagerService pathManager;
     private final String path;
     private final String relativeTo;
+    private final long maxSyncDelay;
 
     private volatile File file;
 
+    /** Guards {@link #channel} and {@link #channelFileKey} */
+    private final Object channelLock = new Object();
+    private FileChannel channel;
+    /** The key of the file {@link #channel} was opened for, used to detect that the file has been replaced */
+    private Object channelFileKey;
+
+    /** Items waiting to be written by the {@link #writer}, and the number of them */
+    private final Queue<ByteBuffer> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private Thread writer;
+    private volatile boolean writerStopped;
+    private volatile IOException writeFailure;
+
     public AbstractFileAuditLogHandler(String name, String formatterName, int maxFailureCount, PathManagerService pathManager, String path, String relativeTo) {
         super(name, formatterName, maxFailureCount);
         this.pathManager = pathManager;
         this.path = path;
         this.relativeTo = relativeTo;
+        this.maxSyncDelay = getMaxSyncDelay();
+    }
+
+    private static long getMaxSyncDelay() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(MAX_SYNC_DELAY_PROPERTY, "0");
+        try {
+            return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            ControllerLogger.MGMT_OP_LOGGER.invalidAuditLogMaxSyncDelay(value, MAX_SYNC_DELAY_PROPERTY);
+            return 0;
+        }
     }
 
     @Override
@@ -86,22 +136,157 @@ public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
 
     @Override
     void stop() {
+        stopWriter();
+        closeChannel();
+        writeFailure = null;
         file = null;
     }
 
     @Override
     void writeLogItem(String formattedItem) throws IOException {
-        final FileOutputStream fos = new FileOutputStream(file, true);
-        final BufferedOutputStream output = new BufferedOutputStream(fos);
+        final byte[] bytes = formattedItem.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + LINE_TERMINATOR.length);
+        buffer.put(bytes).put(LINE_TERMINATOR).flip();
+        if (maxSyncDelay > 0) {
+            if (writer == null) {
+                startWriter();
+            }
+            pending.add(buffer);
+            if (pendingCount.incrementAndGet() == 1) {
+                LockSupport.unpark(writer);
+            }
+            // Report an earlier failure only now, so this item is still written
+            final IOException failure = writeFailure;
+            if (failure != null) {
+                writeFailure = null;
+                throw failure;
+            }
+        } else {
+            synchronized (channelLock) {
+                final FileChannel channel = getChannel();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        }
+    }
+
+    private FileChannel getChannel() throws IOException {
+        assert Thread.holdsLock(channelLock);
+        final Path path = file.toPath();
+        if (channel != null && !isChannelFile(path)) {
+            // The file was deleted or replaced since it was opened, so writing to the channel would lose the items
+            IoUtils.safeClose(channel);
+            channel = null;
+        }
+        if (channel == null) {
+            final boolean created = !Files.exists(path);
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND, StandardOpenOption.CREATE);
+            if (created) {
+                setFileNotWorldReadablePermissions(file);
+            }
+            channelFileKey = readFileKey(path);
+        }
+        return channel;
+    }
+
+    private boolean isChannelFile(final Path path) {
+        final Object fileKey = readFileKey(path);
+        if (fileKey == null) {
+            // Either the file is gone, or the platform has no file keys and only a deleted file can be detected
+            return Files.exists(path);
+        }
+        return channelFileKey == null || channelFileKey.equals(fileKey);
+    }
+
+    private static Object readFileKey(final Path path) {
         try {
-            output.write(formattedItem.getBytes(StandardCharsets.UTF_8));
-            output.write(LINE_TERMINATOR);
+            return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+        } catch (IOException e) {
+            return null;
+        }
+    }
 
-            //Flush and force the file to sync
-            output.flush();
-            fos.getFD().sync();
-        } finally {
-            IoUtils.safeClose(output);
+    /**
+     * Writes any queued items and closes the log file, so it can be moved or replaced. It is reopened
+     * by the next write.
+     */
+    private void closeChannel() {
+        synchronized (channelLock) {
+            writePending();
+            if (channel != null) {
+                IoUtils.safeClose(channel);
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Writes all queued items and syncs the file once for all of them.
+     */
+    private void writePending() {
+        synchronized (channelLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            final List<ByteBuffer> batch = new ArrayList<>();
+            ByteBuffer buffer;
+            while ((buffer = pending.poll()) != null) {
+                batch.add(buffer);
+            }
+            pendingCount.addAndGet(-batch.size());
+            try {
+                final FileChannel channel = getChannel();
+                final ByteBuffer[] buffers = batch.toArray(new ByteBuffer[batch.size()]);
+                final ByteBuffer last = buffers[buffers.length - 1];
+                while (last.hasRemaining()) {
+                    channel.write(buffers);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                writeFailure = e;
+                IoUtils.safeClose(channel);
+                channel = null;
+            }
+        }
+    }
+
+    private void startWriter() {
+        writerStopped = false;
+        writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (!writerStopped) {
+                    if (pendingCount.get() <= 0) {
+                        LockSupport.park(this);
+                        continue;
+                    }
+                    // Give more items the chance to arrive, so they share the sync
+                    final long deadline = System.nanoTime() + maxSyncDelay;
+                    long remaining;
+                    while (!writerStopped && (remaining = deadline - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(this, remaining);
+                    }
+                    writePending();
+                }
+            }
+        }, "Management audit log writer " + name);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void stopWriter() {
+        final Thread writer = this.writer;
+        if (writer != null) {
+            this.writer = null;
+            writerStopped = true;
+            LockSupport.unpark(writer);
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 
@@ -160,6 +345,9 @@ public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
     }
 
     protected void rename(File file, File to) throws IOException {
+        if (file.equals(this.file)) {
+            closeChannel();
+        }
         if (!file.renameTo(to) && file.exists()) {
             copyFile(file, to);
             file.delete();
@@ -172,6 +360,9 @@ public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
      * @param file File to create
      */
     protected void createNewFile(final File file) {
+        if (file.equals(this.file)) {
+            closeChannel();
+        }
         try {
             file.createNewFile();
             setFileNotWorldReadablePermissions(file);
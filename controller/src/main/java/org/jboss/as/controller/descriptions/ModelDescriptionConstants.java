@@ -86,6 +86,9 @@ public class ModelDescriptionConstants {
     public static final String BOOT_ERROR = "boot-error";
     public static final String BOOT_ERRORS = "boot-errors";
     public static final String BOOT_COMPLETE_NOTIFICATION = "boot-complete";
+    public static final String BOOT_DEPLOYMENT_TIMES = "boot-deployment-times";
+    public static final String BOOT_PHASE_TIMES = "boot-phase-times";
+    public static final String BOOT_SUBSYSTEM_TIMES = "boot-subsystem-times";
     public static final String BROWSE_CONTENT = "browse-content";
     public static final String BYTES = "bytes";
     public static final String CALLER_THREAD = "caller-thread";
@@ -263,10 +266,14 @@ public class ModelDescriptionConstants {
     public static final String LEVEL = "level";
     public static final String LDAP = "ldap";
     public static final String LDAP_CONNECTION = "ldap-connection";
+    public static final String LIMIT = "limit";
     public static final String LOCAL = "local";
     public static final String LOCAL_DESTINATION_OUTBOUND_SOCKET_BINDING = "local-destination-outbound-socket-binding";
     public static final String LOCAL_HOST_NAME = "local-host-name";
     public static final String LOCALE = "locale";
+    public static final String LOCK_ACQUISITION_COUNT = "lock-acquisition-count";
+    public static final String LOCK_MAX_WAIT_TIME = "lock-max-wait-time";
+    public static final String LOCK_TOTAL_WAIT_TIME = "lock-total-wait-time";
     public static final String LOGGER = "logger";
     public static final String LOG_BOOT = "log-boot";
     public static final String LOG_READ_ONLY = "log-read-only";
@@ -319,6 +326,7 @@ public class ModelDescriptionConstants {
     public static final String NOTIFICATION_DATA_TYPE = "data-type";
     public static final String NOTIFICATION_TYPE = "notification-type";
     public static final String NOTIFICATIONS = "notifications";
+    public static final String OFFSET = "offset";
     /** Use this as the standard operation name field in the operation *request* ModelNode */
     public static final String OP = "operation";
     /** Use this standard operation address field in the operation *request* ModelNode */
@@ -326,6 +334,7 @@ public class ModelDescriptionConstants {
     public static final String ORGANIZATION = "organization";
     public static final String OPERATION_DATE = "operation-date";
     public static final String OPERATION_HEADERS = "operation-headers";
+    public static final String OPERATION_LATENCIES = "operation-latencies";
     public static final String OPERATION_NAME = "operation-name";
     public static final String OPERATIONS = "operations";
     public static final String OPTIONS = "options";
@@ -342,6 +351,7 @@ public class ModelDescriptionConstants {
     public static final String PERIODIC_ROTATING_FILE_HANDLER = "periodic-rotating-file-handler";
     public static final String PERMISSION_COMBINATION_POLICY = "permission-combination-policy";
     public static final String PATTERN = "pattern";
+    public static final String PERSIST_LATENCY = "persist-latency";
     public static final String PERSISTENT = "persistent";
     public static final String PLAIN_TEXT = "plain-text";
     public static final String PLATFORM_MBEAN = "platform-mbean";
@@ -494,8 +504,10 @@ public class ModelDescriptionConstants {
     public static final String SOURCE_PORT = "source-port";
     public static final String SSL = "ssl";
     public static final String SSL_CONTEXT = "ssl-context";
+    public static final String STAGE_LATENCIES = "stage-latencies";
     public static final String STANDARD_ROLE_NAMES = "standard-role-names";
     public static final String START = "start";
+    public static final String START_AFTER = "start-after";
     public static final String START_MODE = "start-mode";
     public static final String START_SERVERS = "start-servers";
     public static final String STATIC_DISCOVERY = "static-discovery";
@@ -166,15 +166,16 @@ public interface ControllerLogger extends BasicLogger {
     void failedExecutingOperation(@Cause Throwable cause, ModelNode op, PathAddress path);
 
     /**
-     * Logs an error message indicating a failure executing the subsystem, represented by the {@code name} parameter,
-     * boot operations.
+     * Logs an error message indicating a failure executing the boot operations of the subsystem, deployment or other
+     * resource executed in parallel, represented by the {@code type} and {@code name} parameters.
      *
      * @param cause the cause of the error.
-     * @param name  the name of subsystem.
+     * @param type  the type of the resource, e.g. {@code subsystem} or {@code deployment}.
+     * @param name  the name of the resource.
      */
     @LogMessage(level = ERROR)
-    @Message(id = 6, value = "Failed executing subsystem %s boot operations")
-    void failedSubsystemBootOperations(@Cause Throwable cause, String name);
+    @Message(id = 6, value = "Failed executing %s %s boot operations")
+    void failedParallelBootOperations(@Cause Throwable cause, String type, String name);
 
     /**
      * Logs an error message indicating to failure to close the resource represented by the {@code closeable} parameter.
@@ -2188,31 +2189,39 @@ public interface ControllerLogger extends BasicLogger {
     String stepHandlerFailedRollback(OperationStepHandler handler, String op, PathAddress address, Throwable cause);
 
     /**
-     * A message indicating an interruption awaiting subsystem boot operation execution.
+     * A message indicating an interruption awaiting the parallel execution of boot operations.
+     *
+     * @param type the type of the resources whose boot operations are executed in parallel, e.g. {@code subsystem}
+     *             or {@code deployment}.
      *
      * @return the message.
      */
-    @Message(id = 191, value = "Interrupted awaiting subsystem boot operation execution")
-    String subsystemBootInterrupted();
+    @Message(id = 191, value = "Interrupted awaiting %s boot operation execution")
+    String parallelBootInterrupted(String type);
 
     /**
-     * A message indicating the boot operations for the subsystem, represented by the {@code name} parameter, failed
-     * without explanation.
+     * A message indicating the boot operations for the resource, represented by the {@code type} and {@code name}
+     * parameters, failed without explanation.
      *
-     * @param name the name of the subsystem.
+     * @param type the type of the resource, e.g. {@code subsystem} or {@code deployment}.
+     * @param name the name of the resource.
      *
      * @return the message.
      */
-    @Message(id = 192, value = "Boot operations for subsystem %s failed without explanation")
-    String subsystemBootOperationFailed(String name);
+    @Message(id = 192, value = "Boot operations for %s %s failed without explanation")
+    String parallelBootOperationFailed(String type, String name);
 
     /**
-     * A message indicating a failure executing subsystem boot operations.
+     * A message indicating a failure executing the boot operations for the resource, represented by the
+     * {@code type} and {@code name} parameters.
+     *
+     * @param type the type of the resource, e.g. {@code subsystem} or {@code deployment}.
+     * @param name the name of the resource.
      *
      * @return the message.
      */
-    @Message(id = 193, value = "Failed executing subsystem %s boot operations")
-    String subsystemBootOperationFailedExecuting(String name);
+    @Message(id = 193, value = "Failed executing %s %s boot operations")
+    String parallelBootOperationFailedExecuting(String type, String name);
 
     /**
      * Creates an exception indicating the table is full.
@@ -3489,4 +3498,24 @@ public interface ControllerLogger extends BasicLogger {
     @LogMessage(level = Level.WARN)
     @Message(id = 440, value = "Cannot delete file or directory %s")
     void cannotDeleteFileOrDirectory(File file);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 441, value = "Operation '%s' at address '%s' took %d ms (time per stage in ms: %s)")
+    void slowOperation(String operationName, ModelNode address, long millis, CharSequence stageTimes);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 442, value = "Invalid value '%s' for system property '%s'; slow operations will not be logged")
+    void invalidSlowOperationThreshold(String value, String property);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 443, value = "Invalid value '%s' for system property '%s'; audit log items will be synced to disk as they are written")
+    void invalidAuditLogMaxSyncDelay(String value, String property);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 444, value = "Invalid value '%s' for system property '%s'; configuration changes will be written as they are made")
+    void invalidWriteBehindDelay(String value, String property);
+
+    @LogMessage(level = Level.ERROR)
+    @Message(id = 445, value = "Configuration changes committed before the controller stopped could not be written")
+    void failedToFlushConfiguration(@Cause Throwable cause);
 }
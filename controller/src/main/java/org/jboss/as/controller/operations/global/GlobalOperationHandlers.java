@@ -29,6 +29,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOS
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
@@ -39,8 +40,11 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REA
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESPONSE_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNNING_SERVER;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.LIMIT;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.OFFSET;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE_DEPTH;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.START_AFTER;
 
 import java.util.Collections;
 import java.util.EnumSet;
@@ -50,6 +54,7 @@ import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -1104,6 +1109,52 @@ public class GlobalOperationHandlers {
         }
     }
 
+    /**
+     * Sorts the given child names, drops those the caller may not address and narrows the rest to the page
+     * selected by the optional {@code start-after}, {@code offset} and {@code limit} parameters of {@code op}.
+     * Paging is applied after access filtering, so a page holds {@code limit} names unless the collection is
+     * exhausted, and the last name of one page can be passed as {@code start-after} to read the next one.
+     *
+     * @param context      the operation context
+     * @param op           the operation carrying the paging parameters
+     * @param childType    the type of the children
+     * @param childNames   the names of all the children of the requested type
+     * @param filteredData record of the children the caller may not address
+     * @return the names on the requested page, in sorted order
+     */
+    static Set<String> getChildNamesPage(OperationContext context, ModelNode op, String childType, Set<String> childNames,
+                                         FilteredData filteredData) throws OperationFailedException {
+        final ModelNode startAfter = START_AFTER.resolveModelAttribute(context, op);
+        final int offset = OFFSET.resolveModelAttribute(context, op).asInt(0);
+        final int limit = LIMIT.resolveModelAttribute(context, op).asInt(-1);
+        final TreeSet<String> sorted = new TreeSet<>(childNames);
+        final Set<String> candidates = startAfter.isDefined() ? sorted.tailSet(startAfter.asString(), false) : sorted;
+
+        final PathAddress address = context.getCurrentAddress();
+        final PathAddress childAddress = address.append(PathElement.pathElement(childType));
+        final ModelNode readOp = Util.createEmptyOperation(READ_RESOURCE_OPERATION, childAddress);
+        readOp.get(OPERATION_HEADERS).set(op.get(OPERATION_HEADERS));
+        final ModelNode childProperty = readOp.get(OP_ADDR).require(address.size());
+        final Set<Action.ActionEffect> actionEffects = EnumSet.of(Action.ActionEffect.ADDRESS);
+
+        final Set<String> page = new LinkedHashSet<>();
+        int skipped = 0;
+        for (String childName : candidates) {
+            if (limit >= 0 && page.size() >= limit) {
+                break;
+            }
+            childProperty.set(childType, new ModelNode(childName));
+            if (context.authorize(readOp, actionEffects).getDecision() != AuthorizationResult.Decision.PERMIT) {
+                filteredData.addAccessRestrictedResource(address.append(childType, childName));
+            } else if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(childName);
+            }
+        }
+        return page;
+    }
+
     private static String normalizeLocale(String toNormalize) {
         return ("zh_Hans".equalsIgnoreCase(toNormalize) || "zh-Hans".equalsIgnoreCase(toNormalize)) ? "zh_CN" : toNormalize;
     }
@@ -23,6 +23,7 @@
 package org.jboss.as.controller.operations.global;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES_ONLY;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
@@ -32,7 +33,9 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RES
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ExpressionResolver;
@@ -52,6 +55,7 @@ import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.transform.OperationResultTransformer;
 import org.jboss.as.controller.transform.OperationTransformer;
@@ -119,7 +123,7 @@ public final class QueryOperationHandler extends GlobalOperationHandlers.Abstrac
         final ModelNode readResourceOp = new ModelNode();
         readResourceOp.get(ADDRESS).set(operation.get(ADDRESS));
         readResourceOp.get(OP).set(READ_RESOURCE_OPERATION);
-        readResourceOp.get(INCLUDE_RUNTIME).set(true);
+        pushDownProjection(mrr, where, select, readResourceOp);
 
         // filter/reduce phase
         parentContext.addStep(operation, new FilterReduceHandler(where, operator, select), OperationContext.Stage.MODEL);
@@ -129,6 +133,43 @@ public final class QueryOperationHandler extends GlobalOperationHandlers.Abstrac
 
     }
 
+    /**
+     * Narrows the read-resource used for the map phase to what the query actually needs. If there is
+     * a {@code select} and every name in it and in the {@code where} clause is a registered attribute,
+     * children are not read, and runtime attributes are only read if one of those names is a runtime
+     * attribute. Otherwise the full resource, including runtime attributes, is read as before.
+     */
+    private static void pushDownProjection(ImmutableManagementResourceRegistration mrr, ModelNode where,
+                                           ModelNode select, ModelNode readResourceOp) {
+        boolean includeRuntime = true;
+        if (select.isDefined()) {
+            Set<String> names = new HashSet<>();
+            for (ModelNode attribute : select.asList()) {
+                names.add(attribute.asString());
+            }
+            if (where.isDefined()) {
+                for (Property property : where.asPropertyList()) {
+                    names.add(property.getName());
+                }
+            }
+            boolean allAttributes = true;
+            boolean needsRuntime = false;
+            for (String name : names) {
+                AttributeAccess access = mrr.getAttributeAccess(PathAddress.EMPTY_ADDRESS, name);
+                if (access == null) {
+                    allAttributes = false;
+                    break;
+                }
+                needsRuntime |= access.getStorageType() == AttributeAccess.Storage.RUNTIME;
+            }
+            if (allAttributes) {
+                readResourceOp.get(ATTRIBUTES_ONLY).set(true);
+                includeRuntime = needsRuntime;
+            }
+        }
+        readResourceOp.get(INCLUDE_RUNTIME).set(includeRuntime);
+    }
+
     static class FilterReduceHandler implements OperationStepHandler {
 
         private static final String UNDEFINED = "undefined";
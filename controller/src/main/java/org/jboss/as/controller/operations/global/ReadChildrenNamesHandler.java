@@ -23,17 +23,15 @@
 package org.jboss.as.controller.operations.global;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_CONTROL;
-import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
-import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
-import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.CHILD_TYPE;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.INCLUDE_SINGLETONS;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.LIMIT;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.OFFSET;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.START_AFTER;
 
-import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationDefinition;
@@ -42,11 +40,8 @@ import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
-import org.jboss.as.controller.access.Action;
-import org.jboss.as.controller.access.AuthorizationResult;
 import org.jboss.as.controller.descriptions.common.ControllerResolver;
 import org.jboss.as.controller.logging.ControllerLogger;
-import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
@@ -60,7 +55,7 @@ import org.jboss.dmr.ModelType;
 public class ReadChildrenNamesHandler implements OperationStepHandler {
 
     static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(READ_CHILDREN_NAMES_OPERATION, ControllerResolver.getResolver("global"))
-            .setParameters(CHILD_TYPE, INCLUDE_SINGLETONS)
+            .setParameters(CHILD_TYPE, INCLUDE_SINGLETONS, START_AFTER, OFFSET, LIMIT)
             .setReadOnly()
             .setRuntimeOnly()
             .setReplyType(ModelType.LIST)
@@ -90,30 +85,16 @@ public class ReadChildrenNamesHandler implements OperationStepHandler {
                 }
             }
         }
-        // Sort the result
-        childNames = new TreeSet<String>(childNames);
+        // Sort the result, filter out the children that cannot be addressed and restrict it to the requested page
+        FilteredData fd = new FilteredData(address);
+        childNames = GlobalOperationHandlers.getChildNamesPage(context, operation, childType, childNames, fd);
         ModelNode result = context.getResult();
         result.setEmptyList();
-        PathAddress childAddress = address.append(PathElement.pathElement(childType));
-        ModelNode op = Util.createEmptyOperation(READ_RESOURCE_OPERATION, childAddress);
-        op.get(OPERATION_HEADERS).set(operation.get(OPERATION_HEADERS));
-        ModelNode opAddr = op.get(OP_ADDR);
-        ModelNode childProperty = opAddr.require(address.size());
-        Set<Action.ActionEffect> actionEffects = EnumSet.of(Action.ActionEffect.ADDRESS);
-        FilteredData fd = null;
         for (String childName : childNames) {
-            childProperty.set(childType, new ModelNode(childName));
-            if (context.authorize(op, actionEffects).getDecision() == AuthorizationResult.Decision.PERMIT) {
-                result.add(childName);
-            } else {
-                if (fd == null) {
-                    fd = new FilteredData(address);
-                }
-                fd.addAccessRestrictedResource(childAddress);
-            }
+            result.add(childName);
         }
 
-        if (fd != null) {
+        if (fd.hasFilteredData()) {
             context.getResponseHeaders().get(ACCESS_CONTROL).set(fd.toModelNode());
         }
     }
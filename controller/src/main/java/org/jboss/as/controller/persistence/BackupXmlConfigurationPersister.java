@@ -29,9 +29,11 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import javax.xml.namespace.QName;
 
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.dmr.ModelNode;
 import org.jboss.staxmapper.XMLElementReader;
 import org.jboss.staxmapper.XMLElementWriter;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * An XML configuration persister which backs up the old file before overwriting it.
@@ -40,8 +42,15 @@ import org.jboss.staxmapper.XMLElementWriter;
  */
 public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
 
+    /**
+     * System property holding how long, in milliseconds, to wait for further changes before writing a changed
+     * configuration. If not positive, the default, changes are written as part of the operation that makes them.
+     */
+    public static final String WRITE_BEHIND_DELAY_PROPERTY = "jboss.as.management.config.write-behind-delay";
+
     ConfigurationFile configurationFile;
     private final AtomicBoolean successfulBoot = new AtomicBoolean();
+    private final WriteBehindConfigurationWriter writeBehindWriter;
 
     /**
      * Construct a new instance.
@@ -54,6 +63,7 @@ public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
     public BackupXmlConfigurationPersister(final ConfigurationFile file, final QName rootElement, final XMLElementReader<List<ModelNode>> rootParser, final XMLElementWriter<ModelMarshallingContext> rootDeparser) {
         super(file.getBootFile(), rootElement, rootParser, rootDeparser, false);
         this.configurationFile = file;
+        this.writeBehindWriter = createWriteBehindWriter(file, this);
     }
 
     /**
@@ -69,6 +79,22 @@ public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
                                            final XMLElementWriter<ModelMarshallingContext> rootDeparser, boolean reload, boolean allowEmpty) {
         super(file.getBootFile(), rootElement, rootParser, rootDeparser, isSuppressLoad(file, reload, allowEmpty));
         this.configurationFile = file;
+        this.writeBehindWriter = createWriteBehindWriter(file, this);
+    }
+
+    private static WriteBehindConfigurationWriter createWriteBehindWriter(ConfigurationFile file, BackupXmlConfigurationPersister persister) {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(WRITE_BEHIND_DELAY_PROPERTY, null);
+        if (value != null) {
+            try {
+                final long delay = Long.parseLong(value.trim());
+                if (delay > 0) {
+                    return new WriteBehindConfigurationWriter(file, persister, delay);
+                }
+            } catch (NumberFormatException e) {
+                ControllerLogger.MGMT_OP_LOGGER.invalidWriteBehindDelay(value, WRITE_BEHIND_DELAY_PROPERTY);
+            }
+        }
+        return null;
     }
 
     private static boolean isSuppressLoad(ConfigurationFile configurationFile, boolean reload, boolean allowEmpty) {
@@ -106,11 +132,23 @@ public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
                 }
             };
         }
+        if (writeBehindWriter != null) {
+            return writeBehindWriter.store(model);
+        }
         return new ConfigurationFilePersistenceResource(model, configurationFile, this);
     }
 
+    @Override
+    public void flush() throws ConfigurationPersistenceException {
+        if (writeBehindWriter != null) {
+            writeBehindWriter.flush();
+        }
+    }
+
     @Override
     public String snapshot() throws ConfigurationPersistenceException {
+        // The snapshot must include changes that have already been committed
+        flush();
         return configurationFile.snapshot();
     }
 
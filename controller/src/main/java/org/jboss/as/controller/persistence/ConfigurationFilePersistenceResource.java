@@ -23,6 +23,7 @@
 package org.jboss.as.controller.persistence;
 
 import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
+import static org.jboss.as.controller.logging.ControllerLogger.ROOT_LOGGER;
 
 import java.io.File;
 
@@ -49,6 +50,22 @@ public class ConfigurationFilePersistenceResource extends AbstractFilePersistenc
 
     @Override
     public void doCommit(ExposedByteArrayOutputStream marshalled) {
+        try {
+            write(marshalled, configurationFile);
+        } catch (ConfigurationPersistenceException e) {
+            MGMT_OP_LOGGER.failedToStoreConfiguration(e, fileName.getName());
+        }
+    }
+
+    /**
+     * Writes a marshalled model to a configuration file, backing up the previous content first.
+     *
+     * @param marshalled the marshalled model
+     * @param configurationFile the file to write to
+     * @throws ConfigurationPersistenceException if the file could not be written
+     */
+    static void write(ExposedByteArrayOutputStream marshalled, ConfigurationFile configurationFile) throws ConfigurationPersistenceException {
+        final File fileName = configurationFile.getMainFile();
         final File tempFileName;
 
         if ( FilePersistenceUtils.isParentFolderWritable(fileName) ){
@@ -61,8 +78,7 @@ public class ConfigurationFilePersistenceResource extends AbstractFilePersistenc
             try {
                 FilePersistenceUtils.writeToTempFile(marshalled, tempFileName, fileName);
             } catch (Exception e) {
-                MGMT_OP_LOGGER.failedToStoreConfiguration(e, fileName.getName());
-                return;
+                throw ROOT_LOGGER.failedToStoreConfiguration(e);
             }
             try {
                 configurationFile.backup();
@@ -70,8 +86,6 @@ public class ConfigurationFilePersistenceResource extends AbstractFilePersistenc
                 configurationFile.commitTempFile(tempFileName);
             }
             configurationFile.fileWritten();
-        } catch (ConfigurationPersistenceException e) {
-           MGMT_OP_LOGGER.errorf(e, e.toString());
         } finally {
             if (tempFileName.exists() && !tempFileName.delete()) {
                 MGMT_OP_LOGGER.cannotDeleteTempFile(tempFileName.getName());
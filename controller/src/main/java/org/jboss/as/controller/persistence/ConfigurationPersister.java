@@ -85,6 +85,15 @@ public interface ConfigurationPersister {
      */
     void successfulBoot() throws ConfigurationPersistenceException;
 
+    /**
+     * Completes the storage of any configuration model that has been committed but not yet written to persistent
+     * storage. Called when the controller using this persister stops. This default implementation does nothing.
+     *
+     * @throws ConfigurationPersistenceException if a committed model could not be written
+     */
+    default void flush() throws ConfigurationPersistenceException {
+    }
+
     /**
      * Take a snapshot of the current configuration
      *
@@ -0,0 +1,227 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
+import static org.jboss.as.controller.logging.ControllerLogger.ROOT_LOGGER;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Writes committed configuration models to a {@link ConfigurationFile} on a background thread. A model is written
+ * no sooner than the configured delay after it was committed; if further models are committed in that time only
+ * the latest one is written, so a burst of operations results in a single write.
+ * <p>
+ * A model that could not be written is kept for the next attempt, and the failure is reported to the next caller of
+ * {@link #store(ModelNode)} or {@link #flush()}.
+ */
+final class WriteBehindConfigurationWriter {
+
+    private final ConfigurationFile configurationFile;
+    private final AbstractConfigurationPersister persister;
+    private final long delay;
+
+    /** The latest committed model not yet written; guarded by this */
+    private ModelNode pending;
+    /** Whether a writer thread is running; guarded by this */
+    private boolean scheduled;
+    /** Whether a model is being written; guarded by this */
+    private boolean writing;
+    /** The failure of the last background write, if not yet reported; guarded by this */
+    private ConfigurationPersistenceException failure;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param configurationFile the file to write to
+     * @param persister the persister to marshal the models with
+     * @param delay how long to wait for further changes before writing, in milliseconds
+     */
+    WriteBehindConfigurationWriter(ConfigurationFile configurationFile, AbstractConfigurationPersister persister, long delay) {
+        this.configurationFile = configurationFile;
+        this.persister = persister;
+        this.delay = TimeUnit.MILLISECONDS.toNanos(delay);
+    }
+
+    /**
+     * Creates a persistence resource that schedules the model to be written when it is committed.
+     *
+     * @param model the model to persist
+     * @return the persistence resource
+     * @throws ConfigurationPersistenceException if a model committed earlier could not be written
+     */
+    ConfigurationPersister.PersistenceResource store(final ModelNode model) throws ConfigurationPersistenceException {
+        synchronized (this) {
+            reportFailure();
+        }
+        return new ConfigurationPersister.PersistenceResource() {
+            @Override
+            public void commit() {
+                schedule(model);
+            }
+
+            @Override
+            public void rollback() {
+            }
+        };
+    }
+
+    private synchronized void schedule(ModelNode model) {
+        pending = model;
+        if (!scheduled) {
+            scheduled = true;
+            final Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    writeLoop();
+                }
+            }, "Configuration writer " + configurationFile.getMainFile().getName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Writes any model that has been committed but not yet written, waiting for a write in progress to complete first.
+     * Called before the configuration file is read or copied, and when the controller stops.
+     *
+     * @throws ConfigurationPersistenceException if the model could not be written, or if a model committed earlier
+     *                                           could not be written and nothing has been written since
+     */
+    void flush() throws ConfigurationPersistenceException {
+        final ModelNode model;
+        synchronized (this) {
+            awaitWriteComplete();
+            model = takePending();
+            if (model == null) {
+                reportFailure();
+                return;
+            }
+        }
+        final ConfigurationPersistenceException failure = write(model);
+        if (failure != null) {
+            synchronized (this) {
+                // Reported here rather than to the next store
+                if (this.failure == failure) {
+                    this.failure = null;
+                }
+            }
+            throw failure;
+        }
+    }
+
+    private void writeLoop() {
+        for (;;) {
+            final long deadline = System.nanoTime() + delay;
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                } catch (InterruptedException e) {
+                    // Write without waiting any longer
+                    break;
+                }
+            }
+            final ModelNode model;
+            synchronized (this) {
+                awaitWriteComplete();
+                model = takePending();
+                if (model == null) {
+                    scheduled = false;
+                    return;
+                }
+            }
+            if (write(model) != null) {
+                // Leave the model for the next commit or flush rather than retrying a failing write indefinitely
+                synchronized (this) {
+                    scheduled = false;
+                }
+                return;
+            }
+        }
+    }
+
+    private ModelNode takePending() {
+        assert Thread.holdsLock(this);
+        final ModelNode model = pending;
+        if (model != null) {
+            pending = null;
+            writing = true;
+        }
+        return model;
+    }
+
+    private void awaitWriteComplete() {
+        assert Thread.holdsLock(this);
+        boolean interrupted = false;
+        while (writing) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reportFailure() throws ConfigurationPersistenceException {
+        assert Thread.holdsLock(this);
+        final ConfigurationPersistenceException failure = this.failure;
+        if (failure != null) {
+            this.failure = null;
+            throw failure;
+        }
+    }
+
+    private ConfigurationPersistenceException write(ModelNode model) {
+        ConfigurationPersistenceException failure = null;
+        try {
+            final long start = System.nanoTime();
+            ConfigurationFilePersistenceResource.write(FilePersistenceUtils.marshalXml(persister, model), configurationFile);
+            MGMT_OP_LOGGER.debugf("Wrote %s in %d ms", configurationFile.getMainFile().getName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (ConfigurationPersistenceException e) {
+            MGMT_OP_LOGGER.failedToStoreConfiguration(e, configurationFile.getMainFile().getName());
+            failure = e;
+        } catch (RuntimeException e) {
+            MGMT_OP_LOGGER.failedToStoreConfiguration(e, configurationFile.getMainFile().getName());
+            failure = ROOT_LOGGER.failedToStoreConfiguration(e);
+        } finally {
+            synchronized (this) {
+                writing = false;
+                // A later successful write supersedes an earlier failure; a failed model is kept unless a newer one is pending
+                this.failure = failure;
+                if (failure != null && pending == null) {
+                    pending = model;
+                }
+                notifyAll();
+            }
+        }
+        return failure;
+    }
+}
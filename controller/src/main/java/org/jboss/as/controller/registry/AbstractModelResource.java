@@ -229,6 +229,18 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
         }
     }
 
+    @Override
+    protected boolean hasCustomResourceProviders() {
+        synchronized (children) {
+            for (ResourceProvider provider : children.values()) {
+                if (!(provider instanceof DefaultResourceProvider)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     protected final ResourceProvider getProvider(final String type) {
         synchronized (children) {
             return children.get(type);
@@ -259,11 +271,32 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
         }
     }
 
+    void lazyCopyProviders(AbstractModelResource copy, LazyResourceCopy scope) {
+        synchronized (children) {
+            for (final Map.Entry<String, ResourceProvider> entry : children.entrySet()) {
+                final ResourceProvider provider = entry.getValue();
+                copy.registerResourceProvider(entry.getKey(), provider instanceof DefaultResourceProvider
+                        ? ((DefaultResourceProvider) provider).lazyCopy(scope)
+                        : provider.clone());
+            }
+        }
+    }
+
     private static class DefaultResourceProvider implements ResourceProvider {
 
         private final Map<String, Resource> children = new LinkedHashMap<String, Resource>();
+        /** The lazy copy this provider belongs to, if any */
+        private final LazyResourceCopy scope;
+        /** Names of children still shared with the source tree of {@code scope} */
+        private final Set<String> shared;
 
         protected DefaultResourceProvider() {
+            this(null);
+        }
+
+        private DefaultResourceProvider(LazyResourceCopy scope) {
+            this.scope = scope;
+            this.shared = scope == null ? null : new HashSet<String>();
         }
 
         @Override
@@ -283,7 +316,13 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
         @Override
         public Resource get(String name) {
             synchronized (children) {
-                return children.get(name);
+                Resource resource = children.get(name);
+                if (resource != null && shared != null && shared.remove(name) && scope.isOpen()) {
+                    // First access through an open lazy copy; replace the shared resource with our own copy
+                    resource = scope.copy(resource);
+                    children.put(name, resource);
+                }
+                return resource;
             }
         }
 
@@ -336,6 +375,8 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
         @Override
         public Resource remove(String name) {
             synchronized (children) {
+                // Don't hand out a resource that is still shared with the source tree
+                get(name);
                 return children.remove(name);
             }
         }
@@ -350,6 +391,15 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
             }
             return provider;
         }
+
+        private ResourceProvider lazyCopy(LazyResourceCopy scope) {
+            final DefaultResourceProvider provider = new DefaultResourceProvider(scope);
+            synchronized (children) {
+                provider.children.putAll(children);
+                provider.shared.addAll(children.keySet());
+            }
+            return provider;
+        }
     }
 
     abstract static class DelegateResource implements ResourceEntry {
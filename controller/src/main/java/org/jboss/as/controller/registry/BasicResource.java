@@ -90,4 +90,24 @@ class BasicResource extends AbstractModelResource implements Resource {
         return clone;
     }
 
+    /**
+     * Creates a copy of this resource whose children are only copied once they are accessed.
+     *
+     * @param scope the lazy copy this resource is being copied into
+     * @return the copy
+     */
+    Resource lazyCopy(LazyResourceCopy scope) {
+        final BasicResource copy = new BasicResource(isRuntime(), getOrderedChildTypes(), true);
+        for (;;) {
+            try {
+                copy.writeModel(model);
+                break;
+            } catch (ConcurrentModificationException ignore) {
+                // see clone()
+            }
+        }
+        lazyCopyProviders(copy, scope);
+        return copy;
+    }
+
 }
@@ -158,6 +158,11 @@ public class DelegatingResource extends ResourceProvider.ResourceProviderRegistr
         ResourceProvider.Tool.addResourceProvider(type, provider, getDelegate());
     }
 
+    @Override
+    protected boolean hasCustomResourceProviders() {
+        return ResourceProvider.Tool.hasResourceProviders(getDelegate());
+    }
+
     @Override
     public Set<String> getOrderedChildTypes() {
         return getDelegate().getOrderedChildTypes();
@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.registry;
+
+/**
+ * A copy of a {@link Resource} tree where descendant resources are only copied when they are first reached
+ * through the copy. Resources that are never navigated to remain shared with the source tree, so the cost of
+ * creating the copy is proportional to the part of the tree the caller actually touches rather than to the
+ * size of the tree.
+ *
+ * <p>While the copy is {@link #isOpen() open} any resource reached through it is a private copy that can safely
+ * be modified. Once {@link #freeze() frozen} the copy must be treated as read-only; resources not copied before
+ * that point are then simply returned from the source tree. The source tree must not be modified for as long as
+ * the copy is in use, which is the contract the management model already follows for published resource trees.</p>
+ *
+ * <p>Resources that are not default {@link Resource.Factory#create() resource implementations} are copied
+ * eagerly using {@link Resource#clone()}.</p>
+ *
+ * <p>This class is intended for use by the management kernel and is not part of the public API.</p>
+ */
+public final class LazyResourceCopy {
+
+    private final Resource root;
+    private volatile boolean open = true;
+
+    private LazyResourceCopy(final Resource source) {
+        this.root = copy(source);
+    }
+
+    /**
+     * Creates a lazily populated copy of the given resource tree.
+     *
+     * @param source the root of the tree to copy. Cannot be {@code null}
+     * @return the copy. Will not return {@code null}
+     */
+    public static LazyResourceCopy copy(final Resource source) {
+        assert source != null;
+        return new LazyResourceCopy(source);
+    }
+
+    /**
+     * Gets the root of the copied tree.
+     *
+     * @return the root resource. Will not return {@code null}
+     */
+    public Resource getRoot() {
+        return root;
+    }
+
+    /**
+     * Marks the copy as read-only. Resources not yet copied will from now on be served directly from the source tree.
+     */
+    public void freeze() {
+        open = false;
+    }
+
+    /**
+     * Gets whether resources reached through the copy are still being copied on access.
+     *
+     * @return {@code true} if the copy has not been {@link #freeze() frozen}
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    Resource copy(final Resource resource) {
+        // Only the exact default implementation knows how to copy lazily; subclasses may override clone()
+        if (resource.getClass() == BasicResource.class) {
+            return ((BasicResource) resource).lazyCopy(this);
+        }
+        return resource.clone();
+    }
+}
@@ -42,6 +42,16 @@ public interface ResourceProvider extends Cloneable {
 
         protected abstract void registerResourceProvider(final String type, final ResourceProvider provider);
 
+        /**
+         * Gets whether a provider other than the default one has been registered for any child type, in which case
+         * the children may change without the resource itself being modified.
+         *
+         * @return {@code true} if a custom provider may have been registered
+         */
+        protected boolean hasCustomResourceProviders() {
+            return true;
+        }
+
     }
 
     public static class Tool {
@@ -54,5 +64,17 @@ public interface ResourceProvider extends Cloneable {
             }
         }
 
+        /**
+         * Gets whether some of a resource's children are supplied by a provider registered with
+         * {@link #addResourceProvider(String, ResourceProvider, Resource)}, and so may change without the resource
+         * itself being modified.
+         *
+         * @param resource the resource
+         * @return {@code true} if the resource has children supplied by a custom provider
+         */
+        public static boolean hasResourceProviders(final Resource resource) {
+            return resource instanceof ResourceProviderRegistry && ((ResourceProviderRegistry) resource).hasCustomResourceProviders();
+        }
+
     }
 }
@@ -32,6 +32,9 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.as.controller.capability.Capability;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.capability.registry.CapabilityScope;
+import org.jboss.as.controller.capability.registry.RegistrationPoint;
+import org.jboss.as.controller.capability.registry.RuntimeCapabilityRegistration;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
 import org.jboss.as.controller.operations.common.Util;
@@ -472,6 +475,32 @@ public class CapabilityRegistryTestCase extends AbstractControllerTestBase {
         Assert.assertEquals(expectedCaps(0), capabilityRegistry.getCapabilities().size());
     }
 
+    @Test
+    public void testShadowCopyIsolation() {
+        CapabilityRegistry published = new CapabilityRegistry(true);
+        published.registerCapability(new RuntimeCapabilityRegistration(TEST_CAPABILITY1, CapabilityScope.GLOBAL,
+                new RegistrationPoint(TEST_ADDRESS1, null)));
+        CapabilityRegistry shadow = published.createShadowCopy();
+        Assert.assertTrue(shadow.hasCapability(TEST_CAPABILITY1.getName(), CapabilityScope.GLOBAL));
+
+        // Changes to the shadow are not visible until published
+        shadow.registerCapability(new RuntimeCapabilityRegistration(TEST_CAPABILITY2, CapabilityScope.GLOBAL,
+                new RegistrationPoint(TEST_ADDRESS2, null)));
+        Assert.assertTrue(shadow.hasCapability(TEST_CAPABILITY2.getName(), CapabilityScope.GLOBAL));
+        Assert.assertFalse(published.hasCapability(TEST_CAPABILITY2.getName(), CapabilityScope.GLOBAL));
+        shadow.publish();
+        Assert.assertTrue(published.hasCapability(TEST_CAPABILITY2.getName(), CapabilityScope.GLOBAL));
+
+        // Changes after a publish do not leak into the previously published state
+        shadow.removeCapability(TEST_CAPABILITY2.getName(), CapabilityScope.GLOBAL, TEST_ADDRESS2);
+        Assert.assertFalse(shadow.hasCapability(TEST_CAPABILITY2.getName(), CapabilityScope.GLOBAL));
+        Assert.assertTrue(published.hasCapability(TEST_CAPABILITY2.getName(), CapabilityScope.GLOBAL));
+        shadow.rollback();
+        Assert.assertTrue(shadow.hasCapability(TEST_CAPABILITY2.getName(), CapabilityScope.GLOBAL));
+        Assert.assertEquals(2, shadow.getCapabilities().size());
+        Assert.assertFalse(shadow.isModified());
+    }
+
     // Check that subsystem=reload requiring reload prevents runtime execution of
     // subsystem=reload/child=test, since it is incorporated by the parent resource cap
     @Test
@@ -444,6 +444,39 @@ public class ExpressionResolverUnitTestCase {
         }
     }
 
+    @Test
+    public void testMultipleSimpleExpressions() throws OperationFailedException {
+        System.setProperty("test.property1", "one");
+        System.setProperty("test.property2", "two");
+        try {
+            // Resolve twice so the second resolution uses the compiled form
+            for (int i = 0; i < 2; i++) {
+                assertEquals("a-one-b-two-c}", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression("a-${test.property1}-b-${test.property2}-c}")).asString());
+            }
+            System.setProperty("test.property2", "${test.property1}");
+            assertEquals("one-one", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression("${test.property1}-${test.property2}")).asString());
+        } finally {
+            System.clearProperty("test.property1");
+            System.clearProperty("test.property2");
+        }
+    }
+
+    @Test
+    public void testStableResolution() throws OperationFailedException {
+        ExpressionResolverImpl resolver = new ExpressionResolverImpl() {};
+        System.setProperty("test.property1", "one");
+        try {
+            resolver.setStable(true);
+            assertEquals("one", resolver.resolveExpressions(expression("${test.property1}")).asString());
+            System.setProperty("test.property1", "changed");
+            assertEquals("one", resolver.resolveExpressions(expression("${test.property1}")).asString());
+            resolver.setStable(false);
+            assertEquals("changed", resolver.resolveExpressions(expression("${test.property1}")).asString());
+        } finally {
+            System.clearProperty("test.property1");
+        }
+    }
+
     private ModelNode expression(String str) {
         return new ModelNode(new ValueExpression(str));
     }
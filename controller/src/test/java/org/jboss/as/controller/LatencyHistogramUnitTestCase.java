@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.controller;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link LatencyHistogram}.
+ */
+public class LatencyHistogramUnitTestCase {
+
+    @Test
+    public void testBucketsCoverValues() {
+        int last = -1;
+        for (long micros = 0; micros < 1_000_000; micros++) {
+            final int index = LatencyHistogram.bucketIndex(micros);
+            Assert.assertTrue("buckets out of order at " + micros, index >= last);
+            Assert.assertTrue("value " + micros + " above bucket bound", micros <= LatencyHistogram.bucketUpperBound(index));
+            if (index > 0) {
+                Assert.assertTrue("value " + micros + " below bucket bound", micros > LatencyHistogram.bucketUpperBound(index - 1));
+            }
+            last = index;
+        }
+        Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE / 1000)));
+    }
+
+    @Test
+    public void testSummary() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        ModelNode summary = histogram.toModelNode();
+        Assert.assertEquals(0, summary.get(LatencyHistogram.COUNT).asLong());
+        Assert.assertEquals(0, summary.get(LatencyHistogram.P99).asLong());
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000_000L); // i ms
+        }
+        summary = histogram.toModelNode();
+        Assert.assertEquals(100, summary.get(LatencyHistogram.COUNT).asLong());
+        Assert.assertEquals(5050_000, summary.get(LatencyHistogram.TOTAL_TIME).asLong());
+        Assert.assertEquals(100_000, summary.get(LatencyHistogram.MAX_TIME).asLong());
+        assertWithin(50_000, summary.get(LatencyHistogram.P50).asLong());
+        assertWithin(90_000, summary.get(LatencyHistogram.P90).asLong());
+        assertWithin(99_000, summary.get(LatencyHistogram.P99).asLong());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        Assert.assertTrue(actual + " is less than " + expected, actual >= expected);
+        Assert.assertTrue(actual + " is not within 12.5% of " + expected, actual <= expected + expected / 8);
+    }
+}
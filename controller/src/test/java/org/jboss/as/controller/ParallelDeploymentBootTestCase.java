@@ -0,0 +1,230 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.extension.NoopExtensionAddHandler;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.global.GlobalNotifications;
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.persistence.ConfigurationPersistenceException;
+import org.jboss.as.controller.persistence.NullConfigurationPersister;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceName;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests that checks across deployments added by boot operations executed in parallel only run once all the
+ * deployments have been added, and so give the same result as when the boot operations execute serially.
+ */
+public class ParallelDeploymentBootTestCase {
+
+    private static final int DEPLOYMENT_COUNT = 8;
+    /** Runtime name which makes the deployment add handler fail */
+    private static final String FAILING_RUNTIME_NAME = "failing";
+    private static final AttributeDefinition RUNTIME_NAME = new SimpleAttributeDefinition("runtime-name", ModelType.STRING, false);
+    private static final AttributeDefinition MODULE = new SimpleAttributeDefinition("module", ModelType.STRING, true);
+
+    private ServiceContainer container;
+    private ExecutorService executor;
+
+    @After
+    public void shutdown() throws InterruptedException {
+        if (container != null) {
+            container.shutdown();
+            container.awaitTermination(5, TimeUnit.SECONDS);
+            container = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Test
+    public void testUniqueRuntimeNamesParallel() throws Exception {
+        executor = Executors.newCachedThreadPool();
+        final DeploymentModelControllerService svc = boot(getBootOperations(false), executor);
+        assertTrue(svc.bootSuccess);
+        // Every check must have seen all the deployments
+        assertEquals(DEPLOYMENT_COUNT, svc.checks.get());
+        assertEquals(DEPLOYMENT_COUNT, svc.minimumDeploymentsSeen.get());
+
+        final ModelNode op = Util.createEmptyOperation(READ_CHILDREN_NAMES_OPERATION, PathAddress.EMPTY_ADDRESS);
+        op.get(CHILD_TYPE).set(DEPLOYMENT);
+        final ModelNode result = svc.getValue().execute(op, null, null, null);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(DEPLOYMENT_COUNT, result.get(RESULT).asList().size());
+    }
+
+    @Test
+    public void testDuplicateRuntimeNameParallel() throws Exception {
+        executor = Executors.newCachedThreadPool();
+        final DeploymentModelControllerService svc = boot(getBootOperations(true), executor);
+        assertFalse(svc.bootSuccess);
+    }
+
+    @Test
+    public void testFailingDeploymentParallel() throws Exception {
+        executor = Executors.newCachedThreadPool();
+        final List<ModelNode> bootOperations = getBootOperations(false);
+        bootOperations.get(DEPLOYMENT_COUNT / 2).get(RUNTIME_NAME.getName()).set(FAILING_RUNTIME_NAME);
+        final DeploymentModelControllerService svc = boot(bootOperations, executor);
+        assertFalse(svc.bootSuccess);
+        // The checks across deployments don't run once a deployment has failed
+        assertEquals(0, svc.checks.get());
+    }
+
+    @Test
+    public void testDuplicateRuntimeNameSerial() throws Exception {
+        final DeploymentModelControllerService svc = boot(getBootOperations(true), null);
+        assertFalse(svc.bootSuccess);
+    }
+
+    private DeploymentModelControllerService boot(final List<ModelNode> bootOperations, final ExecutorService executor) throws InterruptedException {
+        container = ServiceContainer.Factory.create("test");
+        final DeploymentModelControllerService svc = new DeploymentModelControllerService(bootOperations);
+        if (executor != null) {
+            svc.getExecutorServiceInjector().inject(executor);
+        }
+        container.subTarget().addService(ServiceName.of("ModelController"), svc).install();
+        svc.awaitStartup(30, TimeUnit.SECONDS);
+        return svc;
+    }
+
+    private static List<ModelNode> getBootOperations(final boolean duplicate) {
+        final List<ModelNode> ops = new ArrayList<>();
+        ops.add(Util.createAddOperation(PathAddress.pathAddress(EXTENSION, "test")));
+        for (int i = 0; i < DEPLOYMENT_COUNT; i++) {
+            final ModelNode op = Util.createAddOperation(PathAddress.pathAddress(DEPLOYMENT, "deployment" + i));
+            // Make the first and last deployment clash
+            op.get(RUNTIME_NAME.getName()).set(duplicate && i == DEPLOYMENT_COUNT - 1 ? "runtime0" : "runtime" + i);
+            ops.add(op);
+        }
+        return ops;
+    }
+
+    private static class DeploymentModelControllerService extends TestModelControllerService {
+
+        private final List<ModelNode> bootOperations;
+        private final AtomicInteger checks = new AtomicInteger();
+        private final AtomicInteger minimumDeploymentsSeen = new AtomicInteger(Integer.MAX_VALUE);
+        private volatile boolean bootSuccess;
+
+        DeploymentModelControllerService(final List<ModelNode> bootOperations) {
+            super(new NullConfigurationPersister(), new ControlledProcessState(true));
+            this.bootOperations = bootOperations;
+        }
+
+        @Override
+        protected void boot(BootContext context) throws ConfigurationPersistenceException {
+            bootSuccess = boot(bootOperations, false);
+            finishBoot();
+        }
+
+        @Override
+        protected void initModel(ManagementModel managementModel, Resource modelControllerResource) {
+            final ManagementResourceRegistration rootRegistration = managementModel.getRootResourceRegistration();
+            GlobalOperationHandlers.registerGlobalOperations(rootRegistration, processType);
+            GlobalNotifications.registerGlobalNotifications(rootRegistration, processType);
+
+            rootRegistration.registerSubModel(new SimpleResourceDefinition(PathElement.pathElement(EXTENSION),
+                    new NonResolvingResourceDescriptionResolver(),
+                    new NoopExtensionAddHandler(getMutableRootResourceRegistrationProvider()),
+                    ReloadRequiredRemoveStepHandler.INSTANCE) {
+                @Override
+                public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+                    resourceRegistration.registerReadOnlyAttribute(MODULE, null);
+                }
+            });
+            rootRegistration.registerSubModel(new SimpleResourceDefinition(PathElement.pathElement(DEPLOYMENT),
+                    new NonResolvingResourceDescriptionResolver(),
+                    new DeploymentAddHandler(),
+                    ReloadRequiredRemoveStepHandler.INSTANCE) {
+                @Override
+                public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+                    resourceRegistration.registerReadOnlyAttribute(RUNTIME_NAME, null);
+                }
+            });
+        }
+
+        /**
+         * Adds the deployment and checks its runtime name is unique, the same way the server's deployment add
+         * handler does.
+         */
+        private class DeploymentAddHandler implements OperationStepHandler {
+
+            @Override
+            public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                final Resource resource = context.createResource(PathAddress.EMPTY_ADDRESS);
+                RUNTIME_NAME.validateAndSet(operation, resource.getModel());
+                final String name = context.getCurrentAddressValue();
+                if (FAILING_RUNTIME_NAME.equals(operation.get(RUNTIME_NAME.getName()).asString())) {
+                    throw new OperationFailedException("Failed adding " + name);
+                }
+                ParallelBootOperationStepHandler.addModelStepAfterParallelBoot(context, operation, new OperationStepHandler() {
+                    @Override
+                    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                        final String runtimeName = context.readResource(PathAddress.EMPTY_ADDRESS).getModel().get(RUNTIME_NAME.getName()).asString();
+                        final Resource root = context.readResourceFromRoot(PathAddress.EMPTY_ADDRESS);
+                        checks.incrementAndGet();
+                        final int seen = root.getChildren(DEPLOYMENT).size();
+                        int min;
+                        while (seen < (min = minimumDeploymentsSeen.get()) && !minimumDeploymentsSeen.compareAndSet(min, seen)) {
+                            // retry
+                        }
+                        for (Resource.ResourceEntry entry : root.getChildren(DEPLOYMENT)) {
+                            if (!name.equals(entry.getName()) && runtimeName.equals(entry.getModel().get(RUNTIME_NAME.getName()).asString())) {
+                                throw new OperationFailedException("Duplicate runtime name " + runtimeName);
+                            }
+                        }
+                    }
+                });
+            }
+        }
+    }
+}
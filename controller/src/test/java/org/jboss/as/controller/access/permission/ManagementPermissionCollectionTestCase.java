@@ -22,6 +22,7 @@
 
 package org.jboss.as.controller.access.permission;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -30,6 +31,8 @@ import java.security.Permission;
 import java.util.Enumeration;
 
 import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.constraint.AbstractConstraint;
+import org.jboss.as.controller.access.constraint.Constraint;
 import org.jboss.as.controller.security.ControllerPermission;
 import org.junit.Before;
 import org.junit.Test;
@@ -92,6 +95,53 @@ public class ManagementPermissionCollectionTestCase {
         assertFalse(permissionCollection.implies(new TestManagementPermission(Action.ActionEffect.READ_RUNTIME)));
     }
 
+    @Test
+    public void testCachedDecisions() {
+        CountingConstraint user = new CountingConstraint(false);
+        CountingConstraint allowed = new CountingConstraint(false);
+        CountingConstraint denied = new CountingConstraint(true);
+        ManagementPermissionCollection collection = new ManagementPermissionCollection("cached", SimpleManagementPermission.class);
+        collection.add(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, user));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(collection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, allowed)));
+            assertFalse(collection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, denied)));
+            assertFalse(collection.implies(new SimpleManagementPermission(Action.ActionEffect.WRITE_CONFIG, allowed)));
+        }
+        // Only the first check of each combination evaluates the constraints
+        assertEquals(2, user.checks);
+
+        // Adding a permission discards the cached decisions
+        collection.add(new SimpleManagementPermission(Action.ActionEffect.WRITE_CONFIG, user));
+        assertTrue(collection.implies(new SimpleManagementPermission(Action.ActionEffect.WRITE_CONFIG, allowed)));
+        assertEquals(3, user.checks);
+    }
+
+    @Test
+    public void testCachedDecisionsEviction() {
+        CountingConstraint user = new CountingConstraint(false);
+        CountingConstraint shared = new CountingConstraint(false);
+        ManagementPermissionCollection collection = new ManagementPermissionCollection("cached", SimpleManagementPermission.class);
+        collection.add(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, user));
+
+        assertTrue(collection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, shared)));
+        assertEquals(1, user.checks);
+        // Checks with their own constraint instances, e.g. those of a scoped role, fill up the cache while the
+        // decision for the shared constraint keeps being used
+        int checks = 1;
+        for (int i = 0; i < 2 * ManagementPermissionCollection.MAX_CACHED_DECISIONS; i++) {
+            assertTrue(collection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, new CountingConstraint(false))));
+            assertTrue(collection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, shared)));
+            assertEquals(++checks, user.checks);
+        }
+
+        // New decisions are still cached once the limit is reached
+        CountingConstraint other = new CountingConstraint(false);
+        assertTrue(collection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, other)));
+        assertTrue(collection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, other)));
+        assertEquals(checks + 1, user.checks);
+    }
+
     @Test
     public void testReadOnly() {
         assertFalse(permissionCollection.isReadOnly());
@@ -124,6 +174,21 @@ public class ManagementPermissionCollectionTestCase {
         }
     }
 
+    private static final class CountingConstraint extends AbstractConstraint {
+        private final boolean violatedBy;
+        private int checks;
+
+        private CountingConstraint(boolean violatedBy) {
+            this.violatedBy = violatedBy;
+        }
+
+        @Override
+        public boolean violates(Constraint other, Action.ActionEffect actionEffect) {
+            checks++;
+            return ((CountingConstraint) other).violatedBy;
+        }
+    }
+
     private static final class AnotherTestManagementPermission extends ManagementPermission {
         private AnotherTestManagementPermission(Action.ActionEffect actionEffect) {
             super("test2", actionEffect);
@@ -28,10 +28,12 @@ import static org.jboss.as.controller.PathElement.pathElement;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_CONTROL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LIMIT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESPONSE_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.START_AFTER;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -142,6 +144,36 @@ public class FilteredReadChildrenNamesTestCase extends AbstractRbacTestBase {
                 .get("filtered-children-types").get(0).asString().equals(SENSITIVE_CONSTRAINED_RESOURCE));
     }
 
+    @Test
+    public void testPagingAfterFiltering() {
+        ModelNode operation = Util.createOperation(READ_CHILDREN_NAMES_OPERATION, EMPTY_ADDRESS);
+        operation.get(CHILD_TYPE).set(UNCONSTRAINED_RESOURCE);
+        operation.get(LIMIT).set(1);
+        ModelNode result = executeWithRoles(operation, StandardRole.MONITOR);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(1, result.get(RESULT).asInt());
+        assertTrue(has(BAR, result.get(RESULT)));
+
+        operation.get(START_AFTER).set(BAR);
+        result = executeWithRoles(operation, StandardRole.MONITOR);
+        assertEquals(1, result.get(RESULT).asInt());
+        assertTrue(has(FOO, result.get(RESULT)));
+
+        // Children that cannot be addressed do not take up room on a page
+        operation = Util.createOperation(READ_CHILDREN_NAMES_OPERATION, EMPTY_ADDRESS);
+        operation.get(CHILD_TYPE).set(SENSITIVE_CONSTRAINED_RESOURCE);
+        operation.get(LIMIT).set(1);
+        result = executeWithRoles(operation, StandardRole.MONITOR);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(0, result.get(RESULT).asInt());
+        assertEquals(SENSITIVE_CONSTRAINED_RESOURCE, result.get(RESPONSE_HEADERS, ACCESS_CONTROL).get(0)
+                .get("filtered-children-types").get(0).asString());
+
+        result = executeWithRoles(operation, StandardRole.SUPERUSER);
+        assertEquals(1, result.get(RESULT).asInt());
+        assertTrue(has(BAR, result.get(RESULT)));
+    }
+
     private boolean has(String content, ModelNode list) {
         if (list.isDefined()) {
             for (ModelNode node : list.asList()) {
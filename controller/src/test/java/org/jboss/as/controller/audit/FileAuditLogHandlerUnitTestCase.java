@@ -25,6 +25,9 @@ package org.jboss.as.controller.audit;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
 
 import org.jboss.as.controller.services.path.PathManagerService;
 import org.junit.After;
@@ -65,10 +68,113 @@ public class FileAuditLogHandlerUnitTestCase {
         Assert.assertEquals("Log file was rotated but shouldn't have been", 1, confDir.list().length);
     }
 
-    private void initializeHandler(boolean rotateAtStartup) {
+    @Test
+    public void testItemsAppended() throws IOException {
+        FileAuditLogHandler auditLogHandler = initializeHandler(false);
+        writeItems(auditLogHandler, 0, 3);
+        assertItems(logFile, 0, 3);
+        auditLogHandler.stop();
+    }
+
+    @Test
+    public void testLogFileDeletedOrReplaced() throws IOException {
+        FileAuditLogHandler auditLogHandler = initializeHandler(false);
+        writeItems(auditLogHandler, 0, 1);
+
+        // deleted, e.g. by an external tool
+        Assert.assertTrue(logFile.delete());
+        writeItems(auditLogHandler, 1, 2);
+        assertItems(logFile, 1, 2);
+
+        // moved aside and replaced by a new file
+        File moved = new File(confDir, "audit-log.log.old");
+        Assert.assertTrue(logFile.renameTo(moved));
+        Assert.assertTrue(logFile.createNewFile());
+        writeItems(auditLogHandler, 2, 3);
+        assertItems(moved, 1, 2);
+        assertItems(logFile, 2, 3);
+        auditLogHandler.stop();
+    }
+
+    @Test
+    public void testGroupCommit() throws IOException {
+        System.setProperty(AbstractFileAuditLogHandler.MAX_SYNC_DELAY_PROPERTY, "50");
+        try {
+            FileAuditLogHandler auditLogHandler = initializeHandler(false);
+            writeItems(auditLogHandler, 0, 100);
+            // stopping writes whatever is still queued
+            auditLogHandler.stop();
+            assertItems(logFile, 0, 100);
+        } finally {
+            System.clearProperty(AbstractFileAuditLogHandler.MAX_SYNC_DELAY_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testGroupCommitWithRotation() throws IOException {
+        System.setProperty(AbstractFileAuditLogHandler.MAX_SYNC_DELAY_PROPERTY, "50");
+        try {
+            SizeRotatingFileAuditLogHandler auditLogHandler =
+                    new SizeRotatingFileAuditLogHandler("name", "formatter", 0, pathManager, logFile.getPath(), null, 1, 1);
+            auditLogHandler.initialize();
+            writeItems(auditLogHandler, 0, 10);
+            // the file is over the rotate size, so initializing before the next item moves it aside
+            auditLogHandler.initialize();
+            writeItems(auditLogHandler, 10, 15);
+            auditLogHandler.stop();
+            assertItems(new File(logFile.getPath() + ".1"), 0, 10);
+            assertItems(logFile, 10, 15);
+        } finally {
+            System.clearProperty(AbstractFileAuditLogHandler.MAX_SYNC_DELAY_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testGroupCommitWriteFailure() throws IOException {
+        System.setProperty(AbstractFileAuditLogHandler.MAX_SYNC_DELAY_PROPERTY, "50");
+        try {
+            FileAuditLogHandler auditLogHandler = initializeHandler(false);
+            // replace the log file with a directory, so writing the queued item fails
+            Assert.assertTrue(logFile.delete());
+            Assert.assertTrue(logFile.mkdir());
+            auditLogHandler.writeLogItem("item0");
+            // closing the file writes out the queued item
+            auditLogHandler.createNewFile(logFile);
+
+            Assert.assertTrue(logFile.delete());
+            Assert.assertTrue(logFile.createNewFile());
+            try {
+                auditLogHandler.writeLogItem("item1");
+                Assert.fail("The failure to write item0 should have been reported");
+            } catch (IOException expected) {
+                // expected
+            }
+            auditLogHandler.stop();
+            assertItems(logFile, 1, 2);
+        } finally {
+            System.clearProperty(AbstractFileAuditLogHandler.MAX_SYNC_DELAY_PROPERTY);
+        }
+    }
+
+    private static void writeItems(AbstractFileAuditLogHandler auditLogHandler, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            auditLogHandler.writeLogItem("item" + i);
+        }
+    }
+
+    private static void assertItems(File file, int from, int to) throws IOException {
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals(to - from, lines.size());
+        for (int i = from; i < to; i++) {
+            Assert.assertEquals("item" + i, lines.get(i - from));
+        }
+    }
+
+    private FileAuditLogHandler initializeHandler(boolean rotateAtStartup) {
         FileAuditLogHandler auditLogHandler =
                 new FileAuditLogHandler("name", "formatter", 0, pathManager, logFile.getPath(), null, rotateAtStartup);
         auditLogHandler.initialize();
+        return auditLogHandler;
     }
 
     private static File createTempDir() {
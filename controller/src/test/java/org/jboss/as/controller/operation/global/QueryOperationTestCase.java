@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.controller.operation.global;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.QUERY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SELECT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WHERE;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ManagementModel;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ResourceBuilder;
+import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.operations.global.GlobalNotifications;
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.test.AbstractControllerTestBase;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@code query} operation only reads what its {@code select} and {@code where} parameters need.
+ */
+public class QueryOperationTestCase extends AbstractControllerTestBase {
+
+    private static final PathAddress TEST_ADDRESS = PathAddress.pathAddress("subsystem", "test");
+
+    private static final AttributeDefinition CONFIG = new SimpleAttributeDefinitionBuilder("config", ModelType.STRING, true)
+            .build();
+    private static final AttributeDefinition OTHER = new SimpleAttributeDefinitionBuilder("other", ModelType.STRING, true)
+            .build();
+    private static final AttributeDefinition METRIC = new SimpleAttributeDefinitionBuilder("metric", ModelType.INT, true)
+            .setStorageRuntime()
+            .build();
+    private static final AttributeDefinition OTHER_METRIC = new SimpleAttributeDefinitionBuilder("other-metric", ModelType.INT, true)
+            .setStorageRuntime()
+            .build();
+
+    private final AtomicInteger metricReads = new AtomicInteger();
+    private final AtomicInteger otherMetricReads = new AtomicInteger();
+
+    @Override
+    protected void initModel(ManagementModel managementModel) {
+        ManagementResourceRegistration rootRegistration = managementModel.getRootResourceRegistration();
+        GlobalOperationHandlers.registerGlobalOperations(rootRegistration, processType);
+        GlobalNotifications.registerGlobalNotifications(rootRegistration, processType);
+        rootRegistration.registerSubModel(createResourceDefinition());
+    }
+
+    private ResourceDefinition createResourceDefinition() {
+        return ResourceBuilder.Factory.create(TEST_ADDRESS.getElement(0), new NonResolvingResourceDescriptionResolver())
+                .setAddOperation(new AbstractAddStepHandler(CONFIG, OTHER))
+                .setRemoveOperation(ReloadRequiredRemoveStepHandler.INSTANCE)
+                .addReadOnlyAttribute(CONFIG)
+                .addReadOnlyAttribute(OTHER)
+                .addMetric(METRIC, new CountingMetricHandler(metricReads))
+                .addMetric(OTHER_METRIC, new CountingMetricHandler(otherMetricReads))
+                .build();
+    }
+
+    @Before
+    public void addResource() throws OperationFailedException {
+        ModelNode add = createOperation("add", TEST_ADDRESS);
+        add.get(CONFIG.getName()).set("a");
+        add.get(OTHER.getName()).set("b");
+        executeCheckNoFailure(add);
+    }
+
+    @Test
+    public void testSelectConfigurationDoesNotReadRuntime() throws OperationFailedException {
+        ModelNode query = createOperation(QUERY, TEST_ADDRESS);
+        query.get(SELECT).add(CONFIG.getName());
+        query.get(WHERE, OTHER.getName()).set("b");
+        ModelNode result = executeForResult(query);
+
+        Assert.assertEquals(1, result.keys().size());
+        Assert.assertEquals("a", result.get(CONFIG.getName()).asString());
+        Assert.assertEquals(0, metricReads.get());
+        Assert.assertEquals(0, otherMetricReads.get());
+    }
+
+    @Test
+    public void testSelectMetricReadsRuntime() throws OperationFailedException {
+        ModelNode query = createOperation(QUERY, TEST_ADDRESS);
+        query.get(SELECT).add(CONFIG.getName()).add(METRIC.getName());
+        ModelNode result = executeForResult(query);
+
+        Assert.assertEquals(2, result.keys().size());
+        Assert.assertEquals("a", result.get(CONFIG.getName()).asString());
+        Assert.assertEquals(1, result.get(METRIC.getName()).asInt());
+        Assert.assertEquals(1, metricReads.get());
+    }
+
+    @Test
+    public void testWhereMetricReadsRuntime() throws OperationFailedException {
+        ModelNode query = createOperation(QUERY, TEST_ADDRESS);
+        query.get(SELECT).add(CONFIG.getName());
+        query.get(WHERE, METRIC.getName()).set(1);
+        ModelNode result = executeForResult(query);
+
+        Assert.assertEquals(1, result.keys().size());
+        Assert.assertEquals("a", result.get(CONFIG.getName()).asString());
+        Assert.assertEquals(1, metricReads.get());
+    }
+
+    @Test
+    public void testUnknownSelectReadsFullResource() throws OperationFailedException {
+        ModelNode query = createOperation(QUERY, TEST_ADDRESS);
+        query.get(SELECT).add(CONFIG.getName()).add("unknown");
+        ModelNode result = executeForResult(query);
+
+        Assert.assertEquals("a", result.get(CONFIG.getName()).asString());
+        Assert.assertEquals(1, metricReads.get());
+        Assert.assertEquals(1, otherMetricReads.get());
+    }
+
+    private static class CountingMetricHandler implements OperationStepHandler {
+
+        private final AtomicInteger reads;
+
+        private CountingMetricHandler(AtomicInteger reads) {
+            this.reads = reads;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            context.getResult().set(reads.incrementAndGet());
+        }
+    }
+}
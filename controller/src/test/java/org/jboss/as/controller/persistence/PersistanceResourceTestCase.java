@@ -33,6 +33,7 @@ import static org.junit.Assert.assertThat;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -51,6 +52,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.jboss.as.controller.PathAddress;
@@ -152,6 +154,81 @@ public class PersistanceResourceTestCase {
         checkFiles(null, "Four", "std", "Three", "Four", "Three");
     }
 
+    @Test
+    public void testWriteBehindConfigurationFile() throws Exception {
+        ConfigurationFile configurationFile = new ConfigurationFile(standardDir, "standard.xml", null, true);
+        TestConfigurationFilePersister persister = new TestConfigurationFilePersister(configurationFile);
+        configurationFile.successfulBoot();
+
+        // Long enough that only the flush writes the file
+        WriteBehindConfigurationWriter writer = new WriteBehindConfigurationWriter(configurationFile, persister, 60000);
+        writer.store(new ModelNode("One")).commit();
+        writer.store(new ModelNode("Two")).commit();
+        writer.store(new ModelNode("Three")).rollback();
+        assertFileContents(standardFile, "std");
+
+        writer.flush();
+        assertFileContents(standardFile, "Two");
+        // Only the latest change was written
+        Assert.assertEquals(1, currentHistoryDir.list().length);
+
+        writer.flush();
+        assertFileContents(standardFile, "Two");
+        Assert.assertEquals(1, currentHistoryDir.list().length);
+    }
+
+    @Test
+    public void testWriteBehindConfigurationFileFailure() throws Exception {
+        ConfigurationFile configurationFile = new ConfigurationFile(standardDir, "standard.xml", null, true);
+        final AtomicBoolean fail = new AtomicBoolean(true);
+        TestConfigurationFilePersister persister = new TestConfigurationFilePersister(configurationFile) {
+            @Override
+            public void marshallAsXml(ModelNode model, OutputStream output) throws ConfigurationPersistenceException {
+                if (fail.get()) {
+                    throw new ConfigurationPersistenceException("Cannot marshal " + model.asString());
+                }
+                super.marshallAsXml(model, output);
+            }
+        };
+        configurationFile.successfulBoot();
+
+        // Write in the background straight away
+        WriteBehindConfigurationWriter writer = new WriteBehindConfigurationWriter(configurationFile, persister, 0);
+        writer.store(new ModelNode("One")).commit();
+
+        // The failed background write is reported by the next store
+        ConfigurationPersistenceException failure = null;
+        long deadline = System.currentTimeMillis() + 10000;
+        while (failure == null && System.currentTimeMillis() < deadline) {
+            try {
+                writer.store(new ModelNode("Two"));
+                Thread.sleep(10);
+            } catch (ConfigurationPersistenceException e) {
+                failure = e;
+            }
+        }
+        Assert.assertNotNull(failure);
+        assertFileContents(standardFile, "std");
+
+        // The failed model is kept, and writing it again on flush fails too
+        try {
+            writer.flush();
+            Assert.fail("Flush should have failed");
+        } catch (ConfigurationPersistenceException expected) {
+            // expected
+        }
+        assertFileContents(standardFile, "std");
+
+        fail.set(false);
+        writer.flush();
+        assertFileContents(standardFile, "One");
+
+        // The failure has been reported, so further changes are accepted
+        writer.store(new ModelNode("Two")).commit();
+        writer.flush();
+        assertFileContents(standardFile, "Two");
+    }
+
     @Test
     public void testOtherPersistentConfigurationFile() throws Exception {
         assertFileContents(standardFile, "std");
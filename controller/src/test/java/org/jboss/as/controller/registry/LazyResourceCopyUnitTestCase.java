@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link LazyResourceCopy}.
+ */
+public class LazyResourceCopyUnitTestCase {
+
+    private static final PathElement A = PathElement.pathElement("type", "a");
+    private static final PathElement B = PathElement.pathElement("type", "b");
+    private static final PathElement CHILD = PathElement.pathElement("child", "one");
+
+    private Resource source;
+
+    @Before
+    public void setup() {
+        source = Resource.Factory.create();
+        source.getModel().get("attr").set("root");
+        Resource a = Resource.Factory.create();
+        a.getModel().get("attr").set("a");
+        a.registerChild(CHILD, Resource.Factory.create());
+        source.registerChild(A, a);
+        Resource b = Resource.Factory.create();
+        b.getModel().get("attr").set("b");
+        source.registerChild(B, b);
+    }
+
+    @Test
+    public void testChangesAreNotVisibleInSource() {
+        LazyResourceCopy copy = LazyResourceCopy.copy(source);
+        Resource root = copy.getRoot();
+
+        root.getModel().get("attr").set("changed");
+        root.navigate(PathAddress.pathAddress(A, CHILD)).getModel().get("attr").set("changed");
+        root.removeChild(B);
+        root.registerChild(PathElement.pathElement("type", "c"), Resource.Factory.create());
+
+        assertEquals("root", source.getModel().get("attr").asString());
+        assertTrue(source.hasChild(B));
+        assertTrue(!source.hasChild(PathElement.pathElement("type", "c")));
+        assertTrue(!source.navigate(PathAddress.pathAddress(A, CHILD)).getModel().hasDefined("attr"));
+        assertEquals(new ModelNode("changed"), root.navigate(PathAddress.pathAddress(A, CHILD)).getModel().get("attr"));
+    }
+
+    @Test
+    public void testAccessedResourcesAreCopied() {
+        LazyResourceCopy copy = LazyResourceCopy.copy(source);
+        Resource copiedA = copy.getRoot().getChild(A);
+        assertNotSame(source.getChild(A), copiedA);
+        assertSame(copiedA, copy.getRoot().getChild(A));
+        assertEquals("a", copiedA.getModel().get("attr").asString());
+    }
+
+    @Test
+    public void testFrozenCopySharesUntouchedResources() {
+        LazyResourceCopy copy = LazyResourceCopy.copy(source);
+        Resource copiedA = copy.getRoot().getChild(A);
+        copy.freeze();
+
+        assertSame(copiedA, copy.getRoot().getChild(A));
+        assertSame(source.getChild(B), copy.getRoot().getChild(B));
+        assertSame(source.navigate(PathAddress.pathAddress(A, CHILD)), copiedA.getChild(CHILD));
+        assertNull(copy.getRoot().getChild(PathElement.pathElement("type", "c")));
+    }
+
+    @Test
+    public void testCopyOfFrozenCopy() {
+        LazyResourceCopy first = LazyResourceCopy.copy(source);
+        first.getRoot().getChild(A).getModel().get("attr").set("first");
+        first.freeze();
+
+        LazyResourceCopy second = LazyResourceCopy.copy(first.getRoot());
+        second.getRoot().getChild(A).getModel().get("attr").set("second");
+        second.getRoot().getChild(B).getModel().get("attr").set("second");
+
+        assertEquals("a", source.getChild(A).getModel().get("attr").asString());
+        assertEquals("b", source.getChild(B).getModel().get("attr").asString());
+        assertEquals("first", first.getRoot().getChild(A).getModel().get("attr").asString());
+        assertEquals("b", first.getRoot().getChild(B).getModel().get("attr").asString());
+        assertEquals(Resource.Tools.readModel(source).keys(), Resource.Tools.readModel(second.getRoot()).keys());
+    }
+}
@@ -27,9 +27,11 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHI
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_DEFAULTS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INHERITED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LIMIT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATION_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OFFSET;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
@@ -46,6 +48,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQ
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_ADDED_NOTIFICATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_ONLY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.START_AFTER;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
@@ -549,6 +552,50 @@ public class GlobalOperationsTestCase extends AbstractGlobalOperationsTestCase {
         assertTrue(result.asList().isEmpty());
     }
 
+    @Test
+    public void testReadChildrenPaging() throws Exception {
+        ModelNode operation = createOperation(READ_CHILDREN_NAMES_OPERATION, "profile", "profileA");
+        operation.get(CHILD_TYPE).set("subsystem");
+        operation.get(LIMIT).set(1);
+        List<String> names = modelNodeListToStringList(executeForResult(operation).asList());
+        assertEquals(Arrays.asList("subsystem1"), names);
+
+        operation.get(OFFSET).set(1);
+        names = modelNodeListToStringList(executeForResult(operation).asList());
+        assertEquals(Arrays.asList("subsystem2"), names);
+
+        operation.get(OFFSET).set(2);
+        assertTrue(executeForResult(operation).asList().isEmpty());
+
+        // The last name of a page is the cursor for the next one
+        operation.get(OFFSET).set(0);
+        operation.get(START_AFTER).set("subsystem1");
+        names = modelNodeListToStringList(executeForResult(operation).asList());
+        assertEquals(Arrays.asList("subsystem2"), names);
+
+        operation.get(START_AFTER).set("subsystem2");
+        assertTrue(executeForResult(operation).asList().isEmpty());
+
+        operation = createOperation(READ_CHILDREN_RESOURCES_OPERATION, "profile", "profileA");
+        operation.get(CHILD_TYPE).set("subsystem");
+        operation.get(OFFSET).set(1);
+        ModelNode result = executeForResult(operation);
+        assertEquals(ModelType.OBJECT, result.getType());
+        assertEquals(1, result.asList().size());
+        assertTrue(result.has("subsystem2"));
+
+        operation.get(LIMIT).set(0);
+        result = executeForResult(operation);
+        assertTrue(result.keys().isEmpty());
+
+        operation = createOperation(READ_CHILDREN_RESOURCES_OPERATION, "profile", "profileA");
+        operation.get(CHILD_TYPE).set("subsystem");
+        operation.get(START_AFTER).set("subsystem1");
+        result = executeForResult(operation);
+        assertEquals(1, result.asList().size());
+        assertTrue(result.has("subsystem2"));
+    }
+
     @Test
     public void testReadOperationNamesOperation() throws Exception {
         ModelNode operation = createOperation(READ_OPERATION_NAMES_OPERATION, "profile", "profileA", "subsystem", "subsystem1");
@@ -43,6 +43,8 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -119,6 +121,22 @@ public class StandaloneDeploymentTestCase extends AbstractCoreModelTest {
         Assert.assertEquals(bytes1, bytes2);
     }
 
+    @Test
+    public void testCantBootTwoDeploymentsWithSameRuntimeName() throws Exception {
+        List<ModelNode> bootOps = new ArrayList<ModelNode>();
+        for (String name : new String[] {"Test1", "Test2"}) {
+            ModelNode op = Util.createOperation(DeploymentAddHandler.OPERATION_NAME, getPathAddress(name));
+            op.get(RUNTIME_NAME).set("abc.war");
+            op.get(ENABLED).set(true);
+            op.get(CONTENT).add(getByteContent(1, 2, 3, 4, 5));
+            bootOps.add(op);
+        }
+        KernelServices kernelServices = createKernelServicesBuilder()
+                .setBootOperations(bootOps)
+                .build();
+        Assert.assertFalse(kernelServices.isSuccessfulBoot());
+    }
+
     @Test
     public void testDeploymentWithDifferentEnabledRuntimeNameAndPersistentSettings() throws Exception {
         KernelServices kernelServices = createKernelServices();
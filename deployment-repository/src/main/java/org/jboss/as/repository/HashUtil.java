@@ -18,17 +18,15 @@
  */
 package org.jboss.as.repository;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.util.Arrays;
-import java.util.Vector;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.jboss.as.repository.logging.DeploymentRepositoryLogger;
@@ -103,37 +101,42 @@ class HashUtil {
 
     /**
      * Hashes a path, if the path points to a directory then hashes the contents recursively.
+     * The content is fed directly to the digest, one file at a time, in the same order
+     * as a stream of each name followed by the file content or the sorted children would be.
      * @param messageDigest the digest used to hash.
      * @param path the file/directory we want to hash.
      * @return the resulting hash.
      * @throws IOException
      */
     public static byte[] hashPath(MessageDigest messageDigest, Path path) throws IOException {
-        try (InputStream in = getRecursiveContentStream(path)) {
-            return hashContent(messageDigest, in);
-        }
+        messageDigest.reset();
+        updateDigest(messageDigest, path, new byte[8192]);
+        return messageDigest.digest();
     }
 
-    private static InputStream getRecursiveContentStream(Path path) {
+    private static void updateDigest(MessageDigest messageDigest, Path path, byte[] buffer) {
         if (Files.isRegularFile(path)) {
-            try {
-                return new SequenceInputStream(new ByteArrayInputStream(path.getFileName().toString().getBytes(StandardCharsets.UTF_8)), Files.newInputStream(path));
+            messageDigest.update(path.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = Files.newInputStream(path)) {
+                int read;
+                while ((read = in.read(buffer)) > -1) {
+                    messageDigest.update(buffer, 0, read);
+                }
             } catch (IOException ex) {
                 throw DeploymentRepositoryLogger.ROOT_LOGGER.hashingError(ex, path);
             }
         } else if (Files.isDirectory(path)) {
-            try {
-                Vector<InputStream> v = new Vector<>();
-                v.add(new ByteArrayInputStream(path.getFileName().toString().getBytes(StandardCharsets.UTF_8)));
-                try(Stream<Path> paths = Files.list(path)) {
-                    v.addAll(paths.sorted((Path path1, Path path2) -> path1.compareTo(path2)).map(p -> getRecursiveContentStream(p)).collect(Collectors.toList()));
-                }
-                return new SequenceInputStream(v.elements());
+            messageDigest.update(path.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+            final List<Path> children;
+            try (Stream<Path> paths = Files.list(path)) {
+                children = paths.sorted((Path path1, Path path2) -> path1.compareTo(path2)).collect(Collectors.toList());
             } catch (IOException ex) {
                 throw DeploymentRepositoryLogger.ROOT_LOGGER.hashingError(ex, path);
             }
+            for (Path child : children) {
+                updateDigest(messageDigest, child, buffer);
+            }
         }
-        return emptyStream();
     }
 
     /**
@@ -23,7 +23,6 @@ package org.jboss.as.repository;
 
 import static org.jboss.as.protocol.mgmt.ProtocolUtils.expectHeader;
 
-import java.io.BufferedOutputStream;
 import java.io.DataInput;
 import java.io.File;
 import java.io.FileInputStream;
@@ -31,7 +30,13 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.Executor;
 
@@ -51,16 +56,36 @@ import org.jboss.logging.BasicLogger;
  */
 public abstract class RemoteFileRequestAndHandler {
 
+    private static final int BUFFER_SIZE = 65536;
+
     private final RemoteFileProtocolIdMapper protocol;
     private final Executor asyncExecutor;
+    private final int maxConcurrentTransfers;
+    /** Requests waiting for a running transfer to complete, or {@code null} if transfers are not limited */
+    private final Deque<QueuedTransfer> queuedTransfers;
+    /** The number of transfers submitted to the executor and not yet complete; guarded by queuedTransfers */
+    private int activeTransfers;
 
     protected RemoteFileRequestAndHandler(RemoteFileProtocolIdMapper protocol) {
         this(protocol, null);
     }
 
     protected RemoteFileRequestAndHandler(RemoteFileProtocolIdMapper protocol, Executor asyncExecutor) {
+        this(protocol, asyncExecutor, 0);
+    }
+
+    /**
+     * @param protocol the protocol id mapper
+     * @param asyncExecutor the executor used to send responses, or {@code null} to use the request context's executor
+     * @param maxConcurrentTransfers the maximum number of responses this handler writes at the same time; other
+     *                               requests are queued, without holding an executor thread, and submitted in
+     *                               arrival order as running transfers complete. {@code 0} or less for no limit
+     */
+    protected RemoteFileRequestAndHandler(RemoteFileProtocolIdMapper protocol, Executor asyncExecutor, int maxConcurrentTransfers) {
         this.protocol = protocol;
         this.asyncExecutor = asyncExecutor;
+        this.maxConcurrentTransfers = maxConcurrentTransfers;
+        this.queuedTransfers = maxConcurrentTransfers > 0 ? new ArrayDeque<QueuedTransfer>() : null;
     }
 
     public void sendRequest(FlushableDataOutput output, byte rootId, String filePath) throws IOException{
@@ -81,47 +106,79 @@ public abstract class RemoteFileRequestAndHandler {
                 break;
             }
             case 0: { // Found on DC, but was an empty dir
-                if (!localPath.mkdirs()) {
+                // A concurrent fetch of the same content may already have created it
+                if (!localPath.mkdirs() && !localPath.isDirectory()) {
                     throw new CannotCreateLocalDirectoryException(localPath);
                 }
                 break;
             }
             default: { // Found on DC
-                for (int i = 0; i < numFiles; i++) {
-                    expectHeader(input, protocol.fileStart());
-                    expectHeader(input, protocol.paramFilePath());
-                    final String path = input.readUTF();
-                    expectHeader(input, protocol.paramFileSize());
-                    final long length = input.readLong();
-                    log.debugf("Received file [%s] of length %d", path, length);
-                    final File file = new File(localPath, path);
-                    if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
-                        throw new CannotCreateLocalDirectoryException(localPath.getParentFile());
+                if (localPath.exists()) {
+                    readFiles(input, numFiles, localPath, localPath, log);
+                } else {
+                    // Receive into a temporary directory and only move it into place once complete, so
+                    // an interrupted transfer never leaves partial content that looks like it is present
+                    final File parent = localPath.getAbsoluteFile().getParentFile();
+                    if (!parent.exists() && !parent.mkdirs()) {
+                        throw new CannotCreateLocalDirectoryException(parent);
                     }
-                    if(length == 0L) {
-                        file.mkdir();
-                    } else {
-                        long totalRead = 0;
-                        try (OutputStream fileOut = new BufferedOutputStream(new FileOutputStream(file))) {
-                            final byte[] buffer = new byte[8192];
-                            while (totalRead < length) {
-                                int len = Math.min((int) (length - totalRead), buffer.length);
-                                input.readFully(buffer, 0, len);
-                                fileOut.write(buffer, 0, len);
-                                totalRead += len;
+                    final Path temp = PathUtil.createTempDirectory(parent.toPath(), "." + localPath.getName() + "-");
+                    try {
+                        readFiles(input, numFiles, temp.toFile(), localPath, log);
+                        try {
+                            Files.move(temp, localPath.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                        } catch (FileSystemException e) {
+                            // Moving onto an existing directory is reported differently depending on the platform,
+                            // e.g. only as a FileSystemException on Linux, so check whether that is what happened
+                            if (!localPath.exists()) {
+                                throw e;
                             }
+                            // Someone else fetched the same content concurrently
+                            log.debugf("%s was received concurrently, discarding duplicate", localPath);
                         }
-                        if (totalRead != length) {
-                            throw new DidNotReadEntireFileException((length - totalRead));
-                        }
+                    } finally {
+                        PathUtil.deleteSilentlyRecursively(temp);
                     }
-                    expectHeader(input, protocol.fileEnd());
                 }
             }
         }
         resultHandler.done(localPath);
     }
 
+    private void readFiles(DataInput input, int numFiles, File target, File localPath, BasicLogger log)
+            throws IOException, CannotCreateLocalDirectoryException, DidNotReadEntireFileException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        for (int i = 0; i < numFiles; i++) {
+            expectHeader(input, protocol.fileStart());
+            expectHeader(input, protocol.paramFilePath());
+            final String path = input.readUTF();
+            expectHeader(input, protocol.paramFileSize());
+            final long length = input.readLong();
+            log.debugf("Received file [%s] of length %d", path, length);
+            final File file = new File(target, path);
+            if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+                throw new CannotCreateLocalDirectoryException(localPath.getParentFile());
+            }
+            if(length == 0L) {
+                file.mkdir();
+            } else {
+                long totalRead = 0;
+                try (OutputStream fileOut = new FileOutputStream(file)) {
+                    while (totalRead < length) {
+                        int len = (int) Math.min(length - totalRead, buffer.length);
+                        input.readFully(buffer, 0, len);
+                        fileOut.write(buffer, 0, len);
+                        totalRead += len;
+                    }
+                }
+                if (totalRead != length) {
+                    throw new DidNotReadEntireFileException((length - totalRead));
+                }
+            }
+            expectHeader(input, protocol.fileEnd());
+        }
+    }
+
     public void handleRequest(final DataInput input, final RootFileReader reader,
                               final ActiveOperation.ResultHandler<Void> resultHandler,
                               final ManagementRequestContext<Void> context) throws IOException {
@@ -133,26 +190,68 @@ public abstract class RemoteFileRequestAndHandler {
         ManagementRequestContext.AsyncTask<Void> task = new ManagementRequestContext.AsyncTask<Void>() {
             @Override
             public void execute(ManagementRequestContext<Void> context) throws RequestProcessingException, IOException {
-                final File localPath = reader.readRootFile(rootId, filePath);
-                FlushableDataOutput output = context.writeMessage(ManagementResponseHeader.create(context.getRequestHeader()));
                 try {
-                    writeResponse(localPath, output);
-                    output.close();
-                    resultHandler.done(null); // call stack (AsyncTaskRunner created by ManagementRequestContext) handles failures
+                    final File localPath = reader.readRootFile(rootId, filePath);
+                    FlushableDataOutput output = context.writeMessage(ManagementResponseHeader.create(context.getRequestHeader()));
+                    try {
+                        writeResponse(localPath, output);
+                        output.close();
+                        resultHandler.done(null); // call stack (AsyncTaskRunner created by ManagementRequestContext) handles failures
+                    } finally {
+                        StreamUtils.safeClose(output);
+                    }
                 } finally {
-                    StreamUtils.safeClose(output);
+                    transferComplete();
                 }
             }
         };
 
+        if (queuedTransfers != null) {
+            synchronized (queuedTransfers) {
+                if (activeTransfers >= maxConcurrentTransfers) {
+                    queuedTransfers.add(new QueuedTransfer(task, context));
+                    return;
+                }
+                activeTransfers++;
+            }
+        }
+        if (!submitTransfer(task, context)) {
+            transferComplete();
+        }
+    }
+
+    private boolean submitTransfer(ManagementRequestContext.AsyncTask<Void> task, ManagementRequestContext<Void> context) {
         if (asyncExecutor == null) {
-            context.executeAsync(task);
+            return context.executeAsync(task);
         } else {
-            context.executeAsync(task, asyncExecutor);
+            return context.executeAsync(task, asyncExecutor);
         }
     }
 
-    private void writeResponse(final File localPath, final FlushableDataOutput output) throws IOException {
+    /**
+     * Hands the slot of a completed transfer to the next queued request, if any.
+     */
+    private void transferComplete() {
+        if (queuedTransfers == null) {
+            return;
+        }
+        for (;;) {
+            final QueuedTransfer next;
+            synchronized (queuedTransfers) {
+                next = queuedTransfers.poll();
+                if (next == null) {
+                    activeTransfers--;
+                    return;
+                }
+            }
+            // A rejected request has already been failed by its context, so move on to the one after it
+            if (submitTransfer(next.task, next.context)) {
+                return;
+            }
+        }
+    }
+
+    void writeResponse(final File localPath, final FlushableDataOutput output) throws IOException {
         output.writeByte(protocol.paramNumFiles());
         if (localPath == null || !localPath.exists()) {
             output.writeInt(-1);
@@ -176,7 +275,6 @@ public abstract class RemoteFileRequestAndHandler {
 
     private void getChildFiles(final File base, final List<File> childFiles) {
         for (File child : base.listFiles()) {
-            childFiles.add(child);
             if (child.isFile() || isEmpty(child)) {
                 childFiles.add(child);
             } else {
@@ -205,25 +303,26 @@ public abstract class RemoteFileRequestAndHandler {
         } else {
             output.writeLong(file.length());
         }
-        InputStream inputStream = null;
-        try {
-            inputStream = new FileInputStream(file);
-            byte[] buffer = new byte[8192];
+        try (InputStream inputStream = new FileInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
             int len;
             while ((len = inputStream.read(buffer)) != -1) {
                 output.write(buffer, 0, len);
             }
-        } finally {
-            if (inputStream != null) {
-                try {
-                    inputStream.close();
-                } catch (IOException ignored) {
-                }
-            }
         }
         output.writeByte(protocol.fileEnd());
     }
 
+    private static final class QueuedTransfer {
+        private final ManagementRequestContext.AsyncTask<Void> task;
+        private final ManagementRequestContext<Void> context;
+
+        private QueuedTransfer(ManagementRequestContext.AsyncTask<Void> task, ManagementRequestContext<Void> context) {
+            this.task = task;
+            this.context = context;
+        }
+    }
+
     /**
      * Maps the expected protocol codes to the actual protocol
      */
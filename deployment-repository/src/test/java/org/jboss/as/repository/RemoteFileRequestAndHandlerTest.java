@@ -0,0 +1,377 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.repository;
+
+import static org.jboss.as.repository.PathUtil.deleteRecursively;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.as.protocol.mgmt.ActiveOperation;
+import org.jboss.as.protocol.mgmt.FlushableDataOutput;
+import org.jboss.as.protocol.mgmt.ManagementProtocol;
+import org.jboss.as.protocol.mgmt.ManagementProtocolHeader;
+import org.jboss.as.protocol.mgmt.ManagementRequestContext;
+import org.jboss.as.protocol.mgmt.ManagementRequestHeader;
+import org.jboss.logging.Logger;
+import org.jboss.remoting3.Channel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for RemoteFileRequestAndHandler.
+ */
+public class RemoteFileRequestAndHandlerTest {
+
+    private static final RemoteFileRequestAndHandler.RemoteFileProtocolIdMapper PROTOCOL = new RemoteFileRequestAndHandler.RemoteFileProtocolIdMapper() {
+        @Override
+        public byte paramRootId() {
+            return 1;
+        }
+
+        @Override
+        public byte paramNumFiles() {
+            return 2;
+        }
+
+        @Override
+        public byte fileStart() {
+            return 3;
+        }
+
+        @Override
+        public byte paramFilePath() {
+            return 4;
+        }
+
+        @Override
+        public byte paramFileSize() {
+            return 5;
+        }
+
+        @Override
+        public byte fileEnd() {
+            return 6;
+        }
+    };
+
+    private static final Logger LOG = Logger.getLogger(RemoteFileRequestAndHandlerTest.class);
+
+    private final Path root = new File("target", "temp").toPath().resolve("remotefile");
+    private final RemoteFileRequestAndHandler handler = new RemoteFileRequestAndHandler(PROTOCOL) {};
+    private Path source;
+    private Path received;
+
+    @Before
+    public void createDirectories() throws IOException {
+        if (Files.exists(root)) {
+            deleteRecursively(root);
+        }
+        source = Files.createDirectories(root.resolve("source"));
+        received = Files.createDirectories(root.resolve("received"));
+    }
+
+    @After
+    public void deleteDirectories() throws IOException {
+        deleteRecursively(root);
+    }
+
+    @Test
+    public void testEachFileSentOnce() throws Exception {
+        createContent();
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(writeResponse(source.toFile())));
+        Assert.assertEquals(PROTOCOL.paramNumFiles(), input.readByte());
+        // a.txt, sub/b.txt, sub/deeper/c.txt and empty, but not the non-empty directories
+        Assert.assertEquals(4, input.readInt());
+    }
+
+    @Test
+    public void testContentReceivedIntoPlace() throws Exception {
+        createContent();
+        File localPath = received.resolve("content").toFile();
+        TestResultHandler resultHandler = new TestResultHandler();
+        handler.handleResponse(new DataInputStream(new ByteArrayInputStream(writeResponse(source.toFile()))),
+                localPath, LOG, resultHandler, null);
+
+        Assert.assertEquals(localPath, resultHandler.result);
+        Assert.assertEquals(listContent(source), listContent(localPath.toPath()));
+        Assert.assertEquals("a", readString(localPath.toPath().resolve("a.txt")));
+        Assert.assertEquals("c", readString(localPath.toPath().resolve("sub").resolve("deeper").resolve("c.txt")));
+        // the temporary directory the content was received into is gone
+        Assert.assertEquals(1, received.toFile().list().length);
+    }
+
+    @Test
+    public void testContentReceivedConcurrently() throws Exception {
+        createContent();
+        final Path localPath = received.resolve("content");
+        // another fetch of the same content completes just before this one moves its copy into place
+        ByteArrayInputStream in = new ByteArrayInputStream(writeResponse(source.toFile())) {
+            private boolean fetched;
+
+            @Override
+            public synchronized int read() {
+                int result = super.read();
+                if (available() == 0) {
+                    fetchConcurrently();
+                }
+                return result;
+            }
+
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                int result = super.read(b, off, len);
+                if (available() == 0) {
+                    fetchConcurrently();
+                }
+                return result;
+            }
+
+            private void fetchConcurrently() {
+                if (!fetched) {
+                    fetched = true;
+                    try {
+                        Files.createDirectories(localPath);
+                        Files.write(localPath.resolve("a.txt"), "concurrent".getBytes(StandardCharsets.UTF_8));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        };
+        TestResultHandler resultHandler = new TestResultHandler();
+        handler.handleResponse(new DataInputStream(in), localPath.toFile(), LOG, resultHandler, null);
+
+        Assert.assertEquals(localPath.toFile(), resultHandler.result);
+        // the content which was already in place is kept, and the duplicate is discarded
+        Assert.assertEquals("concurrent", readString(localPath.resolve("a.txt")));
+        Assert.assertEquals(1, localPath.toFile().list().length);
+        Assert.assertEquals(1, received.toFile().list().length);
+    }
+
+    @Test
+    public void testEmptyDirectoryCreated() throws Exception {
+        File localPath = received.resolve("content").toFile();
+        TestResultHandler resultHandler = new TestResultHandler();
+        handler.handleResponse(new DataInputStream(new ByteArrayInputStream(writeResponse(source.toFile()))),
+                localPath, LOG, resultHandler, null);
+
+        Assert.assertEquals(localPath, resultHandler.result);
+        Assert.assertTrue(localPath.isDirectory());
+        Assert.assertEquals(0, localPath.list().length);
+
+        // a concurrent fetch of the same empty directory is not a failure
+        resultHandler = new TestResultHandler();
+        handler.handleResponse(new DataInputStream(new ByteArrayInputStream(writeResponse(source.toFile()))),
+                localPath, LOG, resultHandler, null);
+        Assert.assertEquals(localPath, resultHandler.result);
+    }
+
+    @Test
+    public void testConcurrentTransfersQueued() throws Exception {
+        createContent();
+        final RemoteFileRequestAndHandler limited = new RemoteFileRequestAndHandler(PROTOCOL, null, 1) {};
+        final RemoteFileRequestAndHandler.RootFileReader reader = (rootId, filePath) -> source.toFile();
+        final List<TestRequestContext> contexts = new ArrayList<>();
+        final AtomicInteger done = new AtomicInteger();
+        final ActiveOperation.ResultHandler<Void> resultHandler = new ActiveOperation.ResultHandler<Void>() {
+            @Override
+            public boolean done(Void result) {
+                done.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public boolean failed(Throwable t) {
+                throw new AssertionError(t);
+            }
+
+            @Override
+            public void cancel() {
+                throw new AssertionError();
+            }
+        };
+        for (int i = 0; i < 3; i++) {
+            ByteArrayOutputStream request = new ByteArrayOutputStream();
+            try (TestDataOutput output = new TestDataOutput(request)) {
+                limited.sendRequest(output, (byte) 0, "content");
+            }
+            TestRequestContext context = new TestRequestContext(i);
+            contexts.add(context);
+            limited.handleRequest(new DataInputStream(new ByteArrayInputStream(request.toByteArray())), reader, resultHandler, context);
+        }
+
+        // Only the first transfer was handed to the executor; the others wait without holding a thread
+        Assert.assertNotNull(contexts.get(0).task);
+        Assert.assertNull(contexts.get(1).task);
+        Assert.assertNull(contexts.get(2).task);
+
+        // Each completed transfer hands its slot to the next request in arrival order
+        contexts.get(0).runTask();
+        Assert.assertEquals(1, done.get());
+        Assert.assertNotNull(contexts.get(1).task);
+        Assert.assertNull(contexts.get(2).task);
+
+        contexts.get(1).runTask();
+        Assert.assertEquals(2, done.get());
+        Assert.assertNotNull(contexts.get(2).task);
+
+        contexts.get(2).runTask();
+        Assert.assertEquals(3, done.get());
+        for (TestRequestContext context : contexts) {
+            Assert.assertTrue(context.response.size() > 0);
+        }
+    }
+
+    private void createContent() throws IOException {
+        Files.write(source.resolve("a.txt"), "a".getBytes(StandardCharsets.UTF_8));
+        Path sub = Files.createDirectories(source.resolve("sub"));
+        Files.write(sub.resolve("b.txt"), "b".getBytes(StandardCharsets.UTF_8));
+        Path deeper = Files.createDirectories(sub.resolve("deeper"));
+        Files.write(deeper.resolve("c.txt"), "c".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(source.resolve("empty"));
+    }
+
+    private byte[] writeResponse(File localPath) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TestDataOutput output = new TestDataOutput(bytes)) {
+            handler.writeResponse(localPath, output);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<String> listContent(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.map(path -> dir.relativize(path).toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static String readString(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static class TestDataOutput extends DataOutputStream implements FlushableDataOutput {
+        TestDataOutput(ByteArrayOutputStream out) {
+            super(out);
+        }
+    }
+
+    private static class TestRequestContext implements ManagementRequestContext<Void> {
+        private final ManagementRequestHeader header;
+        private final ByteArrayOutputStream response = new ByteArrayOutputStream();
+        private AsyncTask<Void> task;
+
+        TestRequestContext(int requestId) {
+            this.header = new ManagementRequestHeader(ManagementProtocol.VERSION, requestId, requestId, (byte) 0);
+        }
+
+        void runTask() throws Exception {
+            task.execute(this);
+        }
+
+        @Override
+        public Integer getOperationId() {
+            return header.getBatchId();
+        }
+
+        @Override
+        public Void getAttachment() {
+            return null;
+        }
+
+        @Override
+        public Channel getChannel() {
+            return null;
+        }
+
+        @Override
+        public ManagementProtocolHeader getRequestHeader() {
+            return header;
+        }
+
+        @Override
+        public boolean executeAsync(AsyncTask<Void> task) {
+            Assert.assertNull(this.task);
+            this.task = task;
+            return true;
+        }
+
+        @Override
+        public boolean executeAsync(AsyncTask<Void> task, boolean cancellable) {
+            return executeAsync(task);
+        }
+
+        @Override
+        public boolean executeAsync(AsyncTask<Void> task, Executor executor) {
+            return executeAsync(task);
+        }
+
+        @Override
+        public boolean executeAsync(AsyncTask<Void> task, boolean cancellable, Executor executor) {
+            return executeAsync(task);
+        }
+
+        @Override
+        public FlushableDataOutput writeMessage(ManagementProtocolHeader header) throws IOException {
+            return new TestDataOutput(response);
+        }
+    }
+
+    private static class TestResultHandler implements ActiveOperation.ResultHandler<File> {
+        private File result;
+
+        @Override
+        public boolean done(File result) {
+            Assert.assertNull(this.result);
+            this.result = result;
+            return true;
+        }
+
+        @Override
+        public boolean failed(Throwable t) {
+            throw new AssertionError(t);
+        }
+
+        @Override
+        public void cancel() {
+            throw new AssertionError();
+        }
+    }
+}
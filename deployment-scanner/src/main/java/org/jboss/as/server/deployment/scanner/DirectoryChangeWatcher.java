@@ -0,0 +1,180 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.server.deployment.scanner;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static org.jboss.as.server.deployment.scanner.logging.DeploymentScannerLogger.ROOT_LOGGER;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Tracks whether anything changed under a deployment directory since it was last checked, using a
+ * {@link WatchService} registered on the directory and all of its sub-directories.
+ * <p>
+ * The watcher never blocks; {@link #hasChanges()} drains whatever events have accumulated. If the
+ * file system does not support watching, or the watch service fails at any point, the watcher
+ * reports changes on every check, so the owning scanner falls back to plain polling.
+ * </p>
+ * <p>
+ * Note that a watch service only sees changes made through the local kernel; changes made by other
+ * hosts to a network file system are not reported, so this mode is opt-in.
+ * </p>
+ */
+class DirectoryChangeWatcher implements Closeable {
+
+    /** System property that enables use of a watch service by the deployment scanners */
+    static final String WATCH_SERVICE_PROPERTY = "org.wildfly.deployment.scanner.watch-service";
+
+    private final Path root;
+    private final Map<WatchKey, Path> keys = new HashMap<>();
+    private WatchService watchService;
+    /** Set when something other than a file event tells us the directory needs rescanning */
+    private volatile boolean changed = true;
+
+    private DirectoryChangeWatcher(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Creates a watcher for the given directory if use of a watch service is
+     * {@link #WATCH_SERVICE_PROPERTY enabled}.
+     *
+     * @param root the deployment directory
+     * @return the watcher, or {@code null} if watching is not enabled
+     */
+    static DirectoryChangeWatcher create(Path root) {
+        if (Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(WATCH_SERVICE_PROPERTY, "false"))) {
+            return new DirectoryChangeWatcher(root);
+        }
+        return null;
+    }
+
+    /**
+     * Gets whether anything under the watched directory may have changed since the last call.
+     * Must only be called by the thread holding the scan lock.
+     *
+     * @return {@code true} if a full scan of the directory is needed
+     */
+    synchronized boolean hasChanges() {
+        boolean result = changed;
+        changed = false;
+        if (watchService == null) {
+            // First check, or the previous watch service failed; (re)register and report a change
+            // since anything may have happened while we weren't watching
+            start();
+            return true;
+        }
+        try {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                final Path dir = keys.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    result = true;
+                    if (event.kind() == OVERFLOW) {
+                        continue;
+                    }
+                    if (event.kind() == ENTRY_CREATE && dir != null) {
+                        final Path child = dir.resolve((Path) event.context());
+                        if (Files.isDirectory(child)) {
+                            register(child);
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    keys.remove(key);
+                    result = true;
+                    if (root.equals(dir)) {
+                        // The deployment directory itself is gone; start over on the next check
+                        stop();
+                        return true;
+                    }
+                }
+            }
+        } catch (IOException | ClosedWatchServiceException e) {
+            ROOT_LOGGER.debugf(e, "Watching %s failed; falling back to polling", root);
+            stop();
+            result = true;
+        }
+        return result;
+    }
+
+    /**
+     * Records that the directory needs to be rescanned even though no file event may be seen.
+     */
+    void markChanged() {
+        changed = true;
+    }
+
+    @Override
+    public synchronized void close() {
+        stop();
+    }
+
+    private void start() {
+        try {
+            watchService = root.getFileSystem().newWatchService();
+            register(root);
+        } catch (IOException | UnsupportedOperationException e) {
+            ROOT_LOGGER.debugf(e, "Cannot watch %s; falling back to polling", root);
+            stop();
+        }
+    }
+
+    private void stop() {
+        keys.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                ROOT_LOGGER.tracef(e, "Failed closing watch service for %s", root);
+            }
+            watchService = null;
+        }
+    }
+
+    private void register(Path dir) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path path, BasicFileAttributes attrs) throws IOException {
+                keys.put(path.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), path);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -164,8 +164,17 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
     private volatile boolean deploymentDirAccessible = true;
     private volatile boolean lastScanSuccessful = true;
 
+    /** Watches the deployment directory for changes, or {@code null} if every periodic scan should be a full scan */
+    private final DirectoryChangeWatcher changeWatcher;
+    /** Whether the last scan processed everything it found, so nothing needs to be retried absent new changes */
+    private volatile boolean lastScanComplete = false;
+    private volatile long lastScanDuration = -1;
+
     @Override
     public void handleNotification(Notification notification) {
+        if (changeWatcher != null) {
+            changeWatcher.markChanged();
+        }
         if (acquireScanLock()) {
             try {
                 switch (notification.getType()) {
@@ -278,6 +287,7 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         this.resourceAddress.protect();
         this.relativeTo = relativeTo;
         this.deploymentDir = deploymentDir;
+        this.changeWatcher = DirectoryChangeWatcher.create(deploymentDir.toPath());
         this.deploymentOperationsFactory = deploymentOperationsFactory;
         this.scheduledExecutor = scheduledExecutor;
         this.processStateService = processStateService;
@@ -410,6 +420,7 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         this.scanEnabled = false;
         cancelScan();
         safeClose(deploymentOperations);
+        safeClose(changeWatcher);
         this.deploymentOperations = null;
         if (undeployScanTask != null) {
             undeployScanTask.cancel(true);
@@ -423,6 +434,15 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         this.deploymentOperationsFactory = factory;
     }
 
+    /**
+     * Gets how long the most recent scan of the deployment directory took.
+     *
+     * @return the duration in milliseconds, or {@code -1} if no scan has been performed
+     */
+    long getLastScanDuration() {
+        return lastScanDuration;
+    }
+
     /**
      * Hook solely for unit test to control how long deployments with no progress can exist without failing
      */
@@ -490,7 +510,13 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         if (acquireScanLock()) {
             boolean scheduleRescan = false;
             try {
-                scheduleRescan = scan(false, deploymentOperations);
+                // Always drain the watcher, even if we are going to scan anyway
+                final boolean changed = changeWatcher == null || changeWatcher.hasChanges();
+                if (changed || !lastScanComplete) {
+                    scheduleRescan = scan(false, deploymentOperations);
+                } else {
+                    ROOT_LOGGER.tracef("No changes detected in directory %s; skipping scan", deploymentDir.getAbsolutePath());
+                }
             } finally {
                 try {
                     if (scheduleRescan) {
@@ -563,6 +589,16 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
     }
 
     private boolean scan(boolean oneOffScan, final DeploymentOperations deploymentOperations) {
+        final long start = System.nanoTime();
+        lastScanComplete = false;
+        try {
+            return doScan(oneOffScan, deploymentOperations);
+        } finally {
+            lastScanDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
+
+    private boolean doScan(boolean oneOffScan, final DeploymentOperations deploymentOperations) {
 
         boolean scheduleRescan = false;
 
@@ -653,6 +689,7 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
                 }
                 ROOT_LOGGER.tracef("Scan complete");
                 firstScan = false;
+                lastScanComplete = true;
             }
         }
 
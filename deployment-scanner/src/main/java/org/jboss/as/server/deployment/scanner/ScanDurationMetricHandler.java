@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.server.deployment.scanner;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the duration of the most recent scan performed by a deployment scanner.
+ */
+class ScanDurationMetricHandler extends AbstractRuntimeOnlyHandler {
+
+    static final ScanDurationMetricHandler INSTANCE = new ScanDurationMetricHandler();
+
+    private ScanDurationMetricHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String name = context.getCurrentAddressValue();
+        ServiceController<?> serviceController = context.getServiceRegistry(false).getService(DeploymentScannerService.getServiceName(name));
+        if (serviceController != null && serviceController.getState() == ServiceController.State.UP) {
+            DeploymentScannerService service = (DeploymentScannerService) serviceController.getService();
+            context.getResult().set(((FileSystemDeploymentService) service.getValue()).getLastScanDuration());
+        }
+    }
+}
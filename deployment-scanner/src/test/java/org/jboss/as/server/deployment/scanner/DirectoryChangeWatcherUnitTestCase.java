@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.server.deployment.scanner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DirectoryChangeWatcher}
+ */
+public class DirectoryChangeWatcherUnitTestCase {
+
+    private static AutoDeployTestSupport testSupport;
+
+    private DirectoryChangeWatcher watcher;
+
+    @BeforeClass
+    public static void setupClass() {
+        testSupport = new AutoDeployTestSupport(DirectoryChangeWatcherUnitTestCase.class.getSimpleName());
+    }
+
+    @AfterClass
+    public static void teardownClass() {
+        if (testSupport != null) {
+            testSupport.cleanupFiles();
+        }
+    }
+
+    @Before
+    public void setup() {
+        System.setProperty(DirectoryChangeWatcher.WATCH_SERVICE_PROPERTY, "true");
+        try {
+            watcher = DirectoryChangeWatcher.create(testSupport.getTempDir().toPath());
+        } finally {
+            System.clearProperty(DirectoryChangeWatcher.WATCH_SERVICE_PROPERTY);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Assert.assertNull(DirectoryChangeWatcher.create(testSupport.getTempDir().toPath()));
+    }
+
+    @Test
+    public void testFirstCheckReportsChanges() {
+        Assert.assertTrue(watcher.hasChanges());
+        Assert.assertFalse(watcher.hasChanges());
+    }
+
+    @Test
+    public void testFileChangesAreReported() throws Exception {
+        Assert.assertTrue(watcher.hasChanges());
+        Path subdir = Files.createDirectory(testSupport.getTempDir().toPath().resolve("subdir"));
+        Assert.assertTrue(awaitChanges());
+        Assert.assertFalse(watcher.hasChanges());
+
+        // Files in a directory created after the watcher started are also seen
+        Files.createFile(subdir.resolve("test.war" + FileSystemDeploymentService.DO_DEPLOY));
+        Assert.assertTrue(awaitChanges());
+        Assert.assertFalse(watcher.hasChanges());
+    }
+
+    @Test
+    public void testMarkChanged() {
+        Assert.assertTrue(watcher.hasChanges());
+        watcher.markChanged();
+        Assert.assertTrue(watcher.hasChanges());
+        Assert.assertFalse(watcher.hasChanges());
+    }
+
+    @Test
+    public void testCloseFallsBackToFullScan() {
+        Assert.assertTrue(watcher.hasChanges());
+        watcher.close();
+        Assert.assertTrue(watcher.hasChanges());
+    }
+
+    private boolean awaitChanges() throws InterruptedException {
+        // Watch events are delivered asynchronously
+        long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            if (watcher.hasChanges()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
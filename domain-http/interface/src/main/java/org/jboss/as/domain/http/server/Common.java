@@ -50,6 +50,7 @@ public class Common {
     public static final ResponseCodeHandler SERVICE_UNAVAIABLE = new ResponseCodeHandler(503);
 
     static final String APPLICATION_DMR_ENCODED = "application/dmr-encoded";
+    static final String APPLICATION_DMR = "application/dmr";
     static final String APPLICATION_JSON = "application/json";
     static final String TEXT_PLAIN = "text/plain";
     static final String TEXT_HTML = "text/html";
@@ -136,9 +136,12 @@ class DomainApiHandler implements HttpHandler {
         final HeaderMap requestHeaders = exchange.getRequestHeaders();
         final boolean cachable;
         final boolean get = exchange.getRequestMethod().equals(Methods.GET);
-        final boolean encode = Common.APPLICATION_DMR_ENCODED.equals(requestHeaders.getFirst(Headers.ACCEPT))
+        final boolean binaryRequest = Common.APPLICATION_DMR.equals(requestHeaders.getFirst(Headers.CONTENT_TYPE));
+        final boolean binary = binaryRequest || Common.APPLICATION_DMR.equals(requestHeaders.getFirst(Headers.ACCEPT));
+        final boolean base64 = Common.APPLICATION_DMR_ENCODED.equals(requestHeaders.getFirst(Headers.ACCEPT))
                 || Common.APPLICATION_DMR_ENCODED.equals(requestHeaders.getFirst(Headers.CONTENT_TYPE));
-        final OperationParameter.Builder operationParameterBuilder = new OperationParameter.Builder(get).encode(encode);
+        final boolean encode = binary || base64;
+        final OperationParameter.Builder operationParameterBuilder = new OperationParameter.Builder(get).encode(encode).binary(binary);
         final int streamIndex = getStreamIndex(exchange, requestHeaders);
 
         try {
@@ -148,7 +151,7 @@ class DomainApiHandler implements HttpHandler {
                 dmr = convertGetRequest(exchange, operation);
                 cachable = operation.getMaxAge() > 0;
             } else {
-                dmr = convertPostRequest(exchange, encode);
+                dmr = convertPostRequest(exchange, base64, binaryRequest);
                 cachable = false;
             }
             //operationParameterBuilder.pretty(dmr.hasDefined("json.pretty") && dmr.get("json.pretty").asBoolean());
@@ -295,9 +298,12 @@ class DomainApiHandler implements HttpHandler {
         return dmr;
     }
 
-    private ModelNode convertPostRequest(HttpServerExchange exchange, boolean encode) throws IOException {
+    private ModelNode convertPostRequest(HttpServerExchange exchange, boolean encode, boolean binary) throws IOException {
         InputStream in = new ChannelInputStream(exchange.getRequestChannel());
         try {
+            if (binary) {
+                return ModelNode.fromStream(in);
+            }
             return encode ? ModelNode.fromBase64(in) : ModelNode.fromJSONStream(in);
         } finally {
             IoUtils.safeClose(in);
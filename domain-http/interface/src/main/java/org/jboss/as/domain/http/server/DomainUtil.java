@@ -31,6 +31,9 @@ import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Deque;
@@ -48,6 +51,7 @@ import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
 import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.domain.http.server.logging.HttpServerLogger;
 import org.jboss.dmr.ModelNode;
 import org.xnio.IoUtils;
 
@@ -65,6 +69,7 @@ public class DomainUtil {
     private static final String DEFAULT_RESOURCE = "/" + INDEX_HTML;
     private static final String USE_STREAM_AS_RESPONSE = "useStreamAsResponse";
     private static final HttpString USE_STREAM_AS_RESPONSE_HEADER = new HttpString("org.wildfly.useStreamAsResponse");
+    private static final int RESPONSE_BUFFER_SIZE = 8192;
 
     public static void writeResponse(final HttpServerExchange exchange, final int status, ModelNode response,
             OperationParameter operationParameter) {
@@ -72,8 +77,12 @@ public class DomainUtil {
         exchange.setStatusCode(status);
 
         final HeaderMap responseHeaders = exchange.getResponseHeaders();
-        final String contentType = operationParameter.isEncode() ? Common.APPLICATION_DMR_ENCODED : Common.APPLICATION_JSON;
-        responseHeaders.put(Headers.CONTENT_TYPE, contentType + "; charset=" + Common.UTF_8);
+        if (operationParameter.isBinary()) {
+            responseHeaders.put(Headers.CONTENT_TYPE, Common.APPLICATION_DMR);
+        } else {
+            final String contentType = operationParameter.isEncode() ? Common.APPLICATION_DMR_ENCODED : Common.APPLICATION_JSON;
+            responseHeaders.put(Headers.CONTENT_TYPE, contentType + "; charset=" + Common.UTF_8);
+        }
 
         writeCacheHeaders(exchange, status, operationParameter);
 
@@ -83,14 +92,44 @@ public class DomainUtil {
             response = response.get(RESULT);
         }
         try {
-            byte[] data = getResponseBytes(response, operationParameter);
-            responseHeaders.put(Headers.CONTENT_LENGTH, data.length);
-            exchange.getResponseSender().send(ByteBuffer.wrap(data));
+            if (exchange.isInIoThread()) {
+                // Blocking writes are not allowed on the IO thread, so render the response up front
+                byte[] data = getResponseBytes(response, operationParameter);
+                responseHeaders.put(Headers.CONTENT_LENGTH, data.length);
+                exchange.getResponseSender().send(ByteBuffer.wrap(data));
+            } else {
+                // Serialize straight to the response so that large results never need to be held in memory
+                // as a single String or byte[]. Without a Content-Length the response is sent chunked, and
+                // it is still subject to any content encoding (e.g. gzip) negotiated by the wrapping handlers.
+                exchange.startBlocking();
+                final OutputStream out = new BufferedOutputStream(exchange.getOutputStream(), RESPONSE_BUFFER_SIZE);
+                try {
+                    writeResponse(response, operationParameter, out);
+                } finally {
+                    IoUtils.safeClose(out);
+                }
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private static void writeResponse(final ModelNode modelNode, final OperationParameter operationParameter, final OutputStream out) throws IOException {
+        if (operationParameter.isBinary()) {
+            modelNode.writeExternal(out);
+        } else if (operationParameter.isEncode()) {
+            modelNode.writeBase64(out);
+        } else {
+            final PrintWriter print = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            modelNode.writeJSONString(print, !operationParameter.isPretty());
+            print.flush();
+            if (print.checkError()) {
+                throw HttpServerLogger.ROOT_LOGGER.failedToWriteResponse();
+            }
+        }
+        out.flush();
+    }
+
 
     static void writeStreamResponse(final HttpServerExchange exchange,
                                      final OperationResponse operationResponse,
@@ -172,7 +211,11 @@ public class DomainUtil {
         if (operationParameter.isEncode()) {
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             BufferedOutputStream out = new BufferedOutputStream(baos);
-            modelNode.writeBase64(out);
+            if (operationParameter.isBinary()) {
+                modelNode.writeExternal(out);
+            } else {
+                modelNode.writeBase64(out);
+            }
             out.flush();
             return baos.toByteArray();
         } else {
@@ -25,6 +25,7 @@ import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.io.IOException;
 import java.net.InetAddress;
 
 import org.jboss.logging.BasicLogger;
@@ -101,4 +102,7 @@ public interface HttpServerLogger extends BasicLogger {
     @Message(id = 15, value = "No SecurityRealm or SSLContext has been provided.")
     IllegalStateException noRealmOrSSLContext();
 
+    @Message(id = 16, value = "Failed to write the operation response.")
+    IOException failedToWriteResponse();
+
 }
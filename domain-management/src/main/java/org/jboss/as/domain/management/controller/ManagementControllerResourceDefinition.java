@@ -23,19 +23,35 @@
 package org.jboss.as.domain.management.controller;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_COMPLETE_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_DEPLOYMENT_TIMES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_PHASE_TIMES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_SUBSYSTEM_TIMES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LOCK_ACQUISITION_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LOCK_MAX_WAIT_TIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LOCK_TOTAL_WAIT_TIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_LATENCIES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PERSIST_LATENCY;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_MODIFICATION_BEGUN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_MODIFICATION_COMPLETE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVICE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STAGE_LATENCIES;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.NotificationDefinition;
+import org.jboss.as.controller.ObjectMapAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.domain.management._private.DomainManagementResolver;
+import org.jboss.dmr.ModelType;
 
 /**
  * {@code ResourceDefinition} for the management of operation execution.
@@ -52,6 +68,36 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
     private static final NotificationDefinition NOTIFICATION_COMPLETE_RUNTIME_MODIFICATION = NotificationDefinition.Builder.create(RUNTIME_MODIFICATION_COMPLETE, RESOLVER).build();
     private static final NotificationDefinition NOTIFICATION_BOOT_COMPLETE = NotificationDefinition.Builder.create(BOOT_COMPLETE_NOTIFICATION, RESOLVER).build();
 
+    private static final AttributeDefinition LOCK_ACQUISITIONS =
+            SimpleAttributeDefinitionBuilder.create(LOCK_ACQUISITION_COUNT, ModelType.LONG)
+                    .setStorageRuntime()
+                    .build();
+    private static final AttributeDefinition LOCK_TOTAL_WAIT =
+            SimpleAttributeDefinitionBuilder.create(LOCK_TOTAL_WAIT_TIME, ModelType.LONG)
+                    .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+                    .setStorageRuntime()
+                    .build();
+    private static final AttributeDefinition LOCK_MAX_WAIT =
+            SimpleAttributeDefinitionBuilder.create(LOCK_MAX_WAIT_TIME, ModelType.LONG)
+                    .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+                    .setStorageRuntime()
+                    .build();
+
+    private static final AttributeDefinition BOOT_PHASES = createBootTimes(BOOT_PHASE_TIMES);
+    private static final AttributeDefinition BOOT_SUBSYSTEMS = createBootTimes(BOOT_SUBSYSTEM_TIMES);
+    private static final AttributeDefinition BOOT_DEPLOYMENTS = createBootTimes(BOOT_DEPLOYMENT_TIMES);
+
+    // Latency summaries, in microseconds
+    private static final AttributeDefinition OPERATIONS_LATENCY = ObjectMapAttributeDefinition.Builder.of(OPERATION_LATENCIES, createLatency(OPERATION_LATENCIES))
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+    private static final AttributeDefinition STAGES_LATENCY = ObjectMapAttributeDefinition.Builder.of(STAGE_LATENCIES, createLatency(STAGE_LATENCIES))
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+    private static final AttributeDefinition PERSIST = createLatency(PERSIST_LATENCY);
+
     public static final ResourceDefinition INSTANCE = new ManagementControllerResourceDefinition();
 
     private ManagementControllerResourceDefinition() {
@@ -67,6 +113,44 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
         resourceRegistration.registerOperationHandler(CancelNonProgressingOperationHandler.DEFINITION, CancelNonProgressingOperationHandler.INSTANCE);
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        // Values are provided by the model of the controller's own resource
+        resourceRegistration.registerReadOnlyAttribute(LOCK_ACQUISITIONS, null);
+        resourceRegistration.registerReadOnlyAttribute(LOCK_TOTAL_WAIT, null);
+        resourceRegistration.registerReadOnlyAttribute(LOCK_MAX_WAIT, null);
+        resourceRegistration.registerReadOnlyAttribute(BOOT_PHASES, null);
+        resourceRegistration.registerReadOnlyAttribute(BOOT_SUBSYSTEMS, null);
+        resourceRegistration.registerReadOnlyAttribute(BOOT_DEPLOYMENTS, null);
+        resourceRegistration.registerReadOnlyAttribute(OPERATIONS_LATENCY, null);
+        resourceRegistration.registerReadOnlyAttribute(STAGES_LATENCY, null);
+        resourceRegistration.registerReadOnlyAttribute(PERSIST, null);
+    }
+
+    private static AttributeDefinition createBootTimes(String name) {
+        return new SimpleMapAttributeDefinition.Builder(name, ModelType.LONG, true)
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .setStorageRuntime()
+                .build();
+    }
+
+    private static ObjectTypeAttributeDefinition createLatency(String name) {
+        return ObjectTypeAttributeDefinition.Builder.of(name,
+                SimpleAttributeDefinitionBuilder.create("count", ModelType.LONG).build(),
+                createMicros("total-time"), createMicros("max-time"),
+                createMicros("p50"), createMicros("p90"), createMicros("p99"))
+                .setRequired(false)
+                .setStorageRuntime()
+                .build();
+    }
+
+    private static AttributeDefinition createMicros(String name) {
+        return SimpleAttributeDefinitionBuilder.create(name, ModelType.LONG)
+                .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                .build();
+    }
+
     @Override
     public void registerNotifications(ManagementResourceRegistration resourceRegistration) {
         super.registerNotifications(resourceRegistration);
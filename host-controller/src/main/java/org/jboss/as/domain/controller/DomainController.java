@@ -31,6 +31,7 @@ import org.jboss.as.controller.persistence.ExtensibleConfigurationPersister;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.services.path.PathManagerService;
 import org.jboss.as.controller.transform.Transformers;
+import org.jboss.as.domain.controller.operations.DomainModelDigestCache;
 import org.jboss.as.host.controller.ignored.IgnoredDomainResourceRegistry;
 import org.jboss.as.protocol.mgmt.ManagementChannelHandler;
 import org.jboss.as.repository.ContentRepository;
@@ -129,6 +130,15 @@ public interface DomainController {
         // default no-op because I'm tired of writing no-op impls in testsuite classes
     }
 
+    /**
+     * Gets the cache of the digests of the domain model sent to registering slave host controllers.
+     *
+     * @return the cache, or {@code null} if digests are not cached
+     */
+    default DomainModelDigestCache getDomainModelDigestCache() {
+        return null;
+    }
+
     /**
      * Get the operations needed to create the given profile.
      *
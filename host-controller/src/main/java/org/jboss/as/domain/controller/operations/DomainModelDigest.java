@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.domain.controller.operations;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.jboss.as.controller.HashUtil;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Digest of the domain model a slave host controller receives when registering with the master. The digest
+ * identifies the revision of the domain model the slave last applied, so the master can skip sending the model
+ * again when a reconnecting slave is already up to date.
+ */
+public final class DomainModelDigest {
+
+    private final String digest;
+    private final long size;
+
+    private DomainModelDigest(final String digest, final long size) {
+        this.digest = digest;
+        this.size = size;
+    }
+
+    /**
+     * Calculate the digest of the described domain resources.
+     *
+     * @param describedResources the described resources, as sent to the slave
+     * @return the digest
+     */
+    public static DomainModelDigest calculate(final ModelNode describedResources) {
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final CountingOutputStream counter = new CountingOutputStream();
+        try (OutputStream out = new DigestOutputStream(counter, messageDigest)) {
+            describedResources.writeExternal(out);
+        } catch (IOException e) {
+            // Nothing is written to any real stream
+            throw new IllegalStateException(e);
+        }
+        return new DomainModelDigest(HashUtil.bytesToHexString(messageDigest.digest()), counter.count);
+    }
+
+    /**
+     * Get the hex encoded digest.
+     *
+     * @return the digest
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    /**
+     * Get the size of the serialized domain model in bytes.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        return size;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.domain.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.jboss.as.host.controller.mgmt.HostInfo;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Cache of the {@link DomainModelDigest digests} of the domain model as sent to registering slave host controllers,
+ * so a slave which is already up to date can be answered without describing and transforming the domain model.
+ * Digests are keyed by the slave's configuration and only kept for the current revision of the domain model.
+ * <p>
+ * Callers must prevent the domain model from being changed while they use the cache, e.g. by holding the
+ * controller lock, so the revision they use matches the model they read.
+ * </p>
+ */
+public final class DomainModelDigestCache {
+
+    private static final String HOST_INFO = "host-info";
+
+    private final LongSupplier revisionSupplier;
+    // GuardedBy this
+    private long revision = -1;
+    // GuardedBy this
+    private final Map<ModelNode, String> digests = new HashMap<>();
+
+    /**
+     * Create a new cache.
+     *
+     * @param revisionSupplier supplies the current revision of the domain model, which must change whenever the
+     *                         domain model changes
+     */
+    public DomainModelDigestCache(final LongSupplier revisionSupplier) {
+        this.revisionSupplier = revisionSupplier;
+    }
+
+    /**
+     * Create the key for the domain model sent to a slave.
+     *
+     * @param hostInfo the slave's host info
+     * @param subsystemVersions the versions of the subsystems on the slave, keyed by subsystem name
+     * @return the key
+     */
+    public static ModelNode createKey(final HostInfo hostInfo, final ModelNode subsystemVersions) {
+        final ModelNode key = new ModelNode();
+        key.get(HOST_INFO).set(hostInfo.getDomainModelConfig());
+        key.get(SUBSYSTEM).set(subsystemVersions);
+        return key;
+    }
+
+    /**
+     * Get the current revision of the domain model.
+     *
+     * @return the revision
+     */
+    long getRevision() {
+        return revisionSupplier.getAsLong();
+    }
+
+    /**
+     * Get the digest of the domain model for a slave.
+     *
+     * @param revision the revision of the domain model
+     * @param key the key created by {@link #createKey(HostInfo, ModelNode)}
+     * @return the digest, or {@code null} if it is not known for this revision
+     */
+    synchronized String getDigest(final long revision, final ModelNode key) {
+        return revision == this.revision ? digests.get(key) : null;
+    }
+
+    /**
+     * Store the digest of the domain model for a slave. Digests stored for an earlier revision are discarded.
+     *
+     * @param revision the revision of the domain model the digest was calculated from
+     * @param key the key created by {@link #createKey(HostInfo, ModelNode)}
+     * @param digest the digest
+     */
+    synchronized void putDigest(final long revision, final ModelNode key, final String digest) {
+        if (revision != this.revision) {
+            if (revision < this.revision) {
+                return;
+            }
+            digests.clear();
+            this.revision = revision;
+        }
+        digests.put(key, digest);
+    }
+}
@@ -38,11 +38,30 @@ class ReadDomainModelHandler implements OperationStepHandler {
     private final Transformers transformers;
     private final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry;
     private final boolean lock;
+    private final String knownDigest;
+    private final DomainModelDigestCache digestCache;
+    private final ModelNode digestCacheKey;
 
     public ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers, final boolean lock) {
+        this(ignoredTransformationRegistry, transformers, lock, null, null, null);
+    }
+
+    /**
+     * Create a handler which only returns the domain model if it differs from the one the caller already has.
+     *
+     * @param knownDigest the {@link DomainModelDigest digest} of the domain model last applied by the caller, or {@code null}
+     *                    if the complete model should always be returned
+     * @param digestCache cache of the digests of the domain model, or {@code null} if the digest should always be calculated
+     * @param digestCacheKey the caller's key in the {@code digestCache}
+     */
+    ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers,
+                           final boolean lock, final String knownDigest, final DomainModelDigestCache digestCache, final ModelNode digestCacheKey) {
         this.transformers = transformers;
         this.ignoredTransformationRegistry = ignoredTransformationRegistry != null ? ignoredTransformationRegistry : Transformers.DEFAULT;
         this.lock = lock;
+        this.knownDigest = knownDigest;
+        this.digestCache = digestCacheKey != null ? digestCache : null;
+        this.digestCacheKey = digestCacheKey;
     }
 
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
@@ -52,10 +71,29 @@ class ReadDomainModelHandler implements OperationStepHandler {
             context.acquireControllerLock();
         }
 
+        final long revision = digestCache != null ? digestCache.getRevision() : 0;
+        if (knownDigest != null && digestCache != null && knownDigest.equals(digestCache.getDigest(revision, digestCacheKey))) {
+            // The model has not changed since it was last described for this configuration, and the caller has it
+            context.getResult().get(ReadMasterDomainModelHandler.DOMAIN_MODEL_UNCHANGED).set(true);
+            return;
+        }
+
         final Transformers.TransformationInputs transformationInputs = new Transformers.TransformationInputs(context);
         final ReadMasterDomainModelUtil readUtil = ReadMasterDomainModelUtil.readMasterDomainResourcesForInitialConnect(transformers,
                 transformationInputs, ignoredTransformationRegistry, transformationInputs.getRootResource());
-        context.getResult().set(readUtil.getDescribedResources());
+        final ModelNode describedResources = readUtil.getDescribedResources();
+        if (knownDigest != null) {
+            final String digest = DomainModelDigest.calculate(describedResources).getDigest();
+            if (digestCache != null) {
+                digestCache.putDigest(revision, digestCacheKey, digest);
+            }
+            if (knownDigest.equals(digest)) {
+                // The caller is up to date, don't send the complete model again
+                context.getResult().get(ReadMasterDomainModelHandler.DOMAIN_MODEL_UNCHANGED).set(true);
+                return;
+            }
+        }
+        context.getResult().set(describedResources);
     }
 
 }
@@ -45,16 +45,37 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
 
     public static final String OPERATION_NAME = "read-master-domain-model";
 
+    /**
+     * Key of the result returned instead of the domain model, if the digest provided by the slave matches the
+     * current domain model.
+     */
+    public static final String DOMAIN_MODEL_UNCHANGED = "domain-model-unchanged";
+
     private final HostInfo hostInfo;
     private final Transformers transformers;
     private final ExtensionRegistry extensionRegistry;
     private final boolean lock;
+    private final DomainModelDigestCache digestCache;
+    private final ModelNode digestCacheKey;
 
     public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry, boolean lock) {
+        this(hostInfo, transformers, extensionRegistry, lock, null, null);
+    }
+
+    /**
+     * Create a handler which uses a cache of the domain model's digests to answer a slave which is up to date.
+     *
+     * @param digestCache the cache, or {@code null} if the digest should always be calculated
+     * @param digestCacheKey the slave's key in the cache, created by {@link DomainModelDigestCache#createKey(HostInfo, ModelNode)}
+     */
+    public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry, boolean lock,
+                                        final DomainModelDigestCache digestCache, final ModelNode digestCacheKey) {
         this.hostInfo = hostInfo;
         this.transformers = transformers;
         this.extensionRegistry = extensionRegistry;
         this.lock = lock;
+        this.digestCache = digestCache;
+        this.digestCacheKey = digestCacheKey;
     }
 
     @Override
@@ -65,16 +86,20 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
         }
 
         final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry;
+        final String knownDigest;
         final Resource resource = context.readResourceFromRoot(PathAddress.EMPTY_ADDRESS);
         // The host info is only null in the tests
         if (hostInfo == null) {
             ignoredTransformationRegistry = Transformers.DEFAULT;
+            knownDigest = null;
         } else {
             final ReadMasterDomainModelUtil.RequiredConfigurationHolder rc = hostInfo.populateRequiredConfigurationHolder(resource, extensionRegistry);
             ignoredTransformationRegistry = ReadMasterDomainModelUtil.createHostIgnoredRegistry(hostInfo, rc);
+            knownDigest = hostInfo.getDomainModelDigest();
         }
 
-        final OperationStepHandler handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock);
+        final OperationStepHandler handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock, knownDigest,
+                digestCache, digestCacheKey);
         context.addStep(handler, OperationContext.Stage.MODEL);
     }
 
@@ -26,6 +26,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CAL
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN_RESULTS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXECUTE_FOR_COORDINATOR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
@@ -33,6 +34,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RES
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USER;
 
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -46,6 +48,7 @@ import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.operations.SyncModelOperationHandlerWrapper;
+import org.jboss.as.host.controller.DomainSyncStatistics;
 import org.jboss.as.host.controller.ignored.IgnoredDomainResourceRegistry;
 import org.jboss.dmr.ModelNode;
 
@@ -60,14 +63,17 @@ class OperationSlaveStepHandler {
     private final Map<String, ProxyController> serverProxies;
     private final IgnoredDomainResourceRegistry ignoredDomainResourceRegistry;
     private final ExtensionRegistry extensionRegistry;
+    private final DomainSyncStatistics domainSyncStatistics;
 
     OperationSlaveStepHandler(final LocalHostControllerInfo localHostControllerInfo, Map<String, ProxyController> serverProxies,
                               final IgnoredDomainResourceRegistry ignoredDomainResourceRegistry,
-                              final ExtensionRegistry extensionRegistry) {
+                              final ExtensionRegistry extensionRegistry,
+                              final DomainSyncStatistics domainSyncStatistics) {
         this.localHostControllerInfo = localHostControllerInfo;
         this.serverProxies = serverProxies;
         this.ignoredDomainResourceRegistry = ignoredDomainResourceRegistry;
         this.extensionRegistry = extensionRegistry;
+        this.domainSyncStatistics = domainSyncStatistics;
     }
 
     void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
@@ -86,6 +92,7 @@ class OperationSlaveStepHandler {
         if (reloadRequired) {
             context.reloadRequired();
         }
+        final boolean domainModelWrite = isDomainModelWrite(context, hostControllerExecutionSupport.getDomainOperation());
 
         context.completeStep(new OperationContext.ResultHandler() {
             @Override
@@ -94,6 +101,12 @@ class OperationSlaveStepHandler {
 
                 if (resultAction == OperationContext.ResultAction.KEEP) {
 
+                    // The local domain model no longer matches the model last applied from the master, so its digest
+                    // can't be used to skip the next synchronization
+                    if (domainModelWrite) {
+                        domainSyncStatistics.resetDigest();
+                    }
+
                     // Replace the special format response ServerOperationsResolverHandler
                     // used to send the prepared response to the coordinator with one that
                     // has the final data. To save bandwidth we also drop any 'server-operations'
@@ -148,6 +161,27 @@ class OperationSlaveStepHandler {
         return hostControllerExecutionSupport;
     }
 
+    /**
+     * Whether the op executed on this slave may modify its copy of the domain model, based on the flags the op is
+     * registered with. Composite ops are assumed to modify it.
+     *
+     * @param context the operation execution context
+     * @param operation the op executed on this host controller, or {@code null} if there is none
+     * @return {@code true} if the domain model may be modified
+     */
+    private boolean isDomainModelWrite(OperationContext context, ModelNode operation) {
+        if (operation == null || domainSyncStatistics == null || context.isBooting() || localHostControllerInfo.isMasterDomainController()) {
+            return false;
+        }
+        final PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
+        if (address.size() > 0 && HOST.equals(address.getElement(0).getKey())) {
+            // The host model is not part of the domain model
+            return false;
+        }
+        final Set<OperationEntry.Flag> flags = context.getRootResourceRegistration().getOperationFlags(address, operation.require(OP).asString());
+        return flags == null || !(flags.contains(OperationEntry.Flag.READ_ONLY) || flags.contains(OperationEntry.Flag.RUNTIME_ONLY));
+    }
+
     /**
      * Directly handles the op in the standard way the default prepare step handler would
      * @param context the operation execution context
@@ -141,6 +141,7 @@ import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
 import org.jboss.as.domain.controller.logging.DomainControllerLogger;
 import org.jboss.as.domain.controller.operations.ApplyExtensionsHandler;
+import org.jboss.as.domain.controller.operations.DomainModelDigestCache;
 import org.jboss.as.domain.controller.operations.DomainModelIncludesValidator;
 import org.jboss.as.domain.controller.operations.coordination.PrepareStepHandler;
 import org.jboss.as.domain.controller.resources.DomainRootDefinition;
@@ -238,6 +239,7 @@ public class DomainModelControllerService extends AbstractControllerService impl
     private final CapabilityRegistry capabilityRegistry;
     private final DomainHostExcludeRegistry domainHostExcludeRegistry;
     private final AtomicBoolean domainModelComplete = new AtomicBoolean(false);
+    private final DomainModelDigestCache domainModelDigestCache = new DomainModelDigestCache(this::getModelRevision);
     private final PartialModelIndicator partialModelIndicator = new PartialModelIndicator() {
         @Override
         public boolean isModelPartial() {
@@ -277,7 +279,7 @@ public class DomainModelControllerService extends AbstractControllerService impl
         final ExtensionRegistry hostExtensionRegistry = new ExtensionRegistry(processType, runningModeControl, auditLogger, authorizer, securityIdentitySupplier, hostControllerInfoAccessor);
         final ExtensionRegistry extensionRegistry = new ExtensionRegistry(processType, runningModeControl, auditLogger, authorizer, securityIdentitySupplier, hostControllerInfoAccessor);
         final PrepareStepHandler prepareStepHandler = new PrepareStepHandler(hostControllerInfo,
-                hostProxies, serverProxies, ignoredRegistry, extensionRegistry);
+                hostProxies, serverProxies, ignoredRegistry, extensionRegistry, hostControllerInfo.getDomainSyncStatistics());
         final ExpressionResolver expressionResolver = new RuntimeExpressionResolver(vaultReader);
         final DomainHostExcludeRegistry domainHostExcludeRegistry = new DomainHostExcludeRegistry();
         final DomainModelControllerService service = new DomainModelControllerService(environment, runningModeControl, processState,
@@ -924,7 +926,8 @@ public class DomainModelControllerService extends AbstractControllerService impl
                 getExecutorServiceInjector().getValue(),
                 currentRunningMode,
                 serverProxies,
-                domainModelComplete);
+                domainModelComplete,
+                hostControllerInfo.getDomainSyncStatistics());
         masterDomainControllerClient = getFuture(clientFuture);
         //Registers us with the master and gets down the master copy of the domain model to our DC
         // if --cached-dc is used and the DC is unavailable, we'll use a cached copy of the domain config
@@ -1320,6 +1323,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
         return extensionRegistry;
     }
 
+    @Override
+    public DomainModelDigestCache getDomainModelDigestCache() {
+        return domainModelDigestCache;
+    }
+
     @Override
     public ImmutableCapabilityRegistry getCapabilityRegistry() {
         return capabilityRegistry;
@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.host.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics about the synchronization of the domain model from the master, as seen by a slave host controller.
+ * Also keeps track of the digest of the domain model which was last applied, which is sent to the master when
+ * reconnecting so an unchanged domain model does not need to be transferred and applied again.
+ */
+public final class DomainSyncStatistics {
+
+    private final AtomicLong syncCount = new AtomicLong();
+    private final AtomicLong unchangedCount = new AtomicLong();
+    private volatile long lastTransferSize;
+    private volatile long lastSyncDuration;
+    private volatile String domainModelDigest;
+
+    /**
+     * Record that the domain model received from the master was applied.
+     *
+     * @param digest the digest of the applied domain model
+     * @param size the size of the domain model in bytes
+     * @param durationMillis the time taken to apply the domain model
+     */
+    void recordSync(final String digest, final long size, final long durationMillis) {
+        this.domainModelDigest = digest;
+        this.lastTransferSize = size;
+        this.lastSyncDuration = durationMillis;
+        syncCount.incrementAndGet();
+    }
+
+    /**
+     * Record that the master reported the domain model as unchanged, so nothing was transferred or applied.
+     */
+    void recordUnchanged() {
+        this.lastTransferSize = 0;
+        this.lastSyncDuration = 0;
+        unchangedCount.incrementAndGet();
+    }
+
+    /**
+     * Forget the digest of the last applied domain model, e.g. because applying a model failed or an operation
+     * modified the local domain model, so it can no longer be assumed to match it.
+     */
+    public void resetDigest() {
+        this.domainModelDigest = null;
+    }
+
+    String getDomainModelDigest() {
+        return domainModelDigest;
+    }
+
+    public long getSyncCount() {
+        return syncCount.get();
+    }
+
+    public long getUnchangedCount() {
+        return unchangedCount.get();
+    }
+
+    public long getLastTransferSize() {
+        return lastTransferSize;
+    }
+
+    public long getLastSyncDuration() {
+        return lastSyncDuration;
+    }
+}
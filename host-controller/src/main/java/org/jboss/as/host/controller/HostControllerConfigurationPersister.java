@@ -196,6 +196,17 @@ public class HostControllerConfigurationPersister implements ExtensibleConfigura
         }
     }
 
+    @Override
+    public void flush() throws ConfigurationPersistenceException {
+        try {
+            hostPersister.flush();
+        } finally {
+            if (domainPersister != null) {
+                domainPersister.flush();
+            }
+        }
+    }
+
     @Override
     public String snapshot() throws ConfigurationPersistenceException {
         throw new UnsupportedOperationException();
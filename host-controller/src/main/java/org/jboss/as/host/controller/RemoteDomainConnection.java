@@ -45,6 +45,7 @@ import org.jboss.as.controller.RunningMode;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.remote.TransactionalProtocolClient;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
+import org.jboss.as.domain.controller.operations.ReadMasterDomainModelHandler;
 import org.jboss.as.domain.management.CallbackHandlerFactory;
 import org.jboss.as.domain.management.SecurityRealm;
 import org.jboss.as.host.controller.discovery.DiscoveryOption;
@@ -65,6 +66,7 @@ import org.jboss.as.protocol.mgmt.ManagementPongRequestHandler;
 import org.jboss.as.protocol.mgmt.ManagementRequestContext;
 import org.jboss.as.remoting.management.ManagementRemotingServices;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.remoting3.Channel;
 import org.jboss.remoting3.Connection;
 import org.jboss.threads.AsyncFuture;
@@ -321,7 +323,12 @@ class RemoteDomainConnection extends FutureManagementChannel {
         if(! result.hasDefined(ModelDescriptionConstants.RESULT)) {
             return false;
         }
-        final List<ModelNode> bootOperations= result.get(ModelDescriptionConstants.RESULT).asList();
+        final ModelNode model = result.get(ModelDescriptionConstants.RESULT);
+        if (model.getType() == ModelType.OBJECT && model.hasDefined(ReadMasterDomainModelHandler.DOMAIN_MODEL_UNCHANGED)) {
+            // The master determined that we are up to date
+            return callback.domainModelUnchanged();
+        }
+        final List<ModelNode> bootOperations= model.asList();
         return callback.applyDomainModel(bootOperations);
     }
 
@@ -352,6 +359,13 @@ class RemoteDomainConnection extends FutureManagementChannel {
          */
         boolean applyDomainModel(List<ModelNode> result);
 
+        /**
+         * Event that the master did not send the domain model, since it has not changed since it was last applied.
+         *
+         * @return {@code true} if the local domain model can be used as is, {@code false} otherwise
+         */
+        boolean domainModelUnchanged();
+
         /**
          * Event that the registration was completed.
          *
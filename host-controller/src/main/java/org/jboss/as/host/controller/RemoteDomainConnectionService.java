@@ -81,6 +81,7 @@ import org.jboss.as.controller.remote.TransactionalProtocolOperationHandler;
 import org.jboss.as.domain.controller.DomainController;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
+import org.jboss.as.domain.controller.operations.DomainModelDigest;
 import org.jboss.as.domain.controller.operations.FetchMissingConfigurationHandler;
 import org.jboss.as.domain.controller.operations.SyncDomainModelOperationHandler;
 import org.jboss.as.domain.controller.operations.SyncServerGroupOperationHandler;
@@ -138,6 +139,7 @@ import org.xnio.Options;
 public class RemoteDomainConnectionService implements MasterDomainControllerClient, Service<MasterDomainControllerClient> {
 
     public static final String DOMAIN_CONNECTION_ID = "domain-connection-id";
+    public static final String DOMAIN_MODEL_DIGEST = "domain-model-digest";
 
     private static final int CONNECTION_TIMEOUT_DEFAULT = 30000;
     private static final String CONNECTION_TIMEOUT_PROPERTY = "jboss.host.domain.connection.timeout";
@@ -192,6 +194,7 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
     private final InjectedValue<ScheduledExecutorService> scheduledExecutorInjector = new InjectedValue<>();
     private final ExecutorService executor;
     private final AtomicBoolean domainModelComplete;
+    private final DomainSyncStatistics syncStatistics;
 
     private ManagementChannelHandler handler;
     private volatile ResponseAttachmentInputStreamSupport responseAttachmentSupport;
@@ -209,7 +212,8 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                                           final ExecutorService executor,
                                           final RunningMode runningMode,
                                           final Map<String, ProxyController> serverProxies,
-                                          final AtomicBoolean domainModelComplete){
+                                          final AtomicBoolean domainModelComplete,
+                                          final DomainSyncStatistics syncStatistics){
         this.controller = controller;
         this.extensionRegistry = extensionRegistry;
         this.productConfig = hostControllerEnvironment.getProductConfig();
@@ -226,6 +230,7 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
         this.tempDir = hostControllerEnvironment.getDomainTempDir();
         this.serverProxies = serverProxies;
         this.domainModelComplete = domainModelComplete;
+        this.syncStatistics = syncStatistics;
     }
 
     static Future<MasterDomainControllerClient> install(final ServiceTarget serviceTarget,
@@ -243,11 +248,12 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                                                         final ExecutorService executor,
                                                         final RunningMode currentRunningMode,
                                                         final Map<String, ProxyController> serverProxies,
-                                                        final AtomicBoolean domainModelComplete) {
+                                                        final AtomicBoolean domainModelComplete,
+                                                        final DomainSyncStatistics syncStatistics) {
         RemoteDomainConnectionService service = new RemoteDomainConnectionService(controller, extensionRegistry, localHostControllerInfo,
                 remoteFileRepository, contentRepository,
                 ignoredDomainResourceRegistry, operationExecutor, domainController,
-                hostControllerEnvironment, executor, currentRunningMode, serverProxies, domainModelComplete);
+                hostControllerEnvironment, executor, currentRunningMode, serverProxies, domainModelComplete, syncStatistics);
         ServiceBuilder<MasterDomainControllerClient> builder = serviceTarget.addService(MasterDomainControllerClient.SERVICE_NAME, service)
                 .addDependency(ManagementRemotingServices.MANAGEMENT_ENDPOINT, Endpoint.class, service.endpointInjector)
                 .addDependency(ServerInventoryService.SERVICE_NAME, ServerInventory.class, service.serverInventoryInjector)
@@ -531,7 +537,13 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                  */
                 @Override
                 public ModelNode createLocalHostInfo() {
-                    return HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    final ModelNode info = HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    // Let the master skip sending the domain model if we are already up to date
+                    final String digest = syncStatistics.getDomainModelDigest();
+                    if (digest != null) {
+                        info.get(DOMAIN_MODEL_DIGEST).set(digest);
+                    }
+                    return info;
                 }
 
                 @Override
@@ -546,6 +558,13 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                     return applyRemoteDomainModel(bootOperations, info);
                 }
 
+                @Override
+                public boolean domainModelUnchanged() {
+                    HostControllerLogger.ROOT_LOGGER.debug("Domain model provided by master is unchanged");
+                    syncStatistics.recordUnchanged();
+                    return true;
+                }
+
                 @Override
                 public void registrationComplete(ManagementChannelHandler handler) {
                     RemoteDomainConnectionService.this.domainModelComplete.set(true);
@@ -590,6 +609,9 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
      * @return {@code true} if the model was applied successfully, {@code false} otherwise
      */
     private boolean applyRemoteDomainModel(final List<ModelNode> bootOperations, final HostInfo hostInfo) {
+        // The local model no longer matches the last applied digest, unless the model gets applied successfully
+        syncStatistics.resetDigest();
+        final long start = System.currentTimeMillis();
         try {
             HostControllerLogger.ROOT_LOGGER.debug("Applying domain level boot operations provided by master");
             SyncModelParameters parameters =
@@ -621,6 +643,8 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                 HostControllerLogger.ROOT_LOGGER.failedToApplyDomainConfig(outcome, failureDesc);
                 return false;
             } else {
+                final DomainModelDigest digest = DomainModelDigest.calculate(new ModelNode().set(bootOperations));
+                syncStatistics.recordSync(digest.getDigest(), digest.getSize(), System.currentTimeMillis() - start);
                 return true;
             }
         } catch (Exception e) {
@@ -1380,4 +1380,8 @@ public interface HostControllerLogger extends BasicLogger {
     @Message(id = 203, value = "The domain configuration was successfully applied, but restart is required before changes become active.")
     void domainModelAppliedButRestartIsRequired();
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 204, value = "Invalid value '%s' for system property '%s'; the number of files sent to slave hosts at the same time will not be limited")
+    void invalidMaxConcurrentFileTransfers(String value, String property);
+
 }
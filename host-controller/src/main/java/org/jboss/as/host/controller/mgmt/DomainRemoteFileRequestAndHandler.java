@@ -63,4 +63,8 @@ public class DomainRemoteFileRequestAndHandler extends RemoteFileRequestAndHandl
         super(MAPPER, asyncExecutor);
     }
 
+    public DomainRemoteFileRequestAndHandler(Executor asyncExecutor, int maxConcurrentTransfers) {
+        super(MAPPER, asyncExecutor, maxConcurrentTransfers);
+    }
+
 }
@@ -65,6 +65,7 @@ import org.jboss.as.domain.controller.HostConnectionInfo;
 import org.jboss.as.domain.controller.HostRegistrations;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
 import org.jboss.as.domain.controller.logging.DomainControllerLogger;
+import org.jboss.as.domain.controller.operations.DomainModelDigestCache;
 import org.jboss.as.domain.controller.operations.ReadMasterDomainModelHandler;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
 import org.jboss.as.protocol.StreamUtils;
@@ -367,9 +368,10 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
                     throw new OperationFailedException(extensions.toString(), extensions);
                 }
                 // Remotely resolve the subsystem versions and create the transformation
-                registrationContext.processSubsystems(transformers, extensions);
+                final ModelNode subsystems = registrationContext.processSubsystems(transformers, extensions);
                 // Now run the read-domain model operation
-                final ReadMasterDomainModelHandler handler = new ReadMasterDomainModelHandler(hostInfo, transformers, domainController.getExtensionRegistry(), false);
+                final ReadMasterDomainModelHandler handler = new ReadMasterDomainModelHandler(hostInfo, transformers, domainController.getExtensionRegistry(), false,
+                        domainController.getDomainModelDigestCache(), DomainModelDigestCache.createKey(hostInfo, subsystems));
                 context.addStep(READ_DOMAIN_MODEL.getOperation(), handler, OperationContext.Stage.MODEL);
 
                 context.completeStep(new OperationContext.ResultHandler() {
@@ -514,7 +516,7 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
          * @param extensions the extensions
          * @throws OperationFailedException
          */
-        private void processSubsystems(final Transformers transformers, final ModelNode extensions) throws OperationFailedException {
+        private ModelNode processSubsystems(final Transformers transformers, final ModelNode extensions) throws OperationFailedException {
             this.transformers = transformers;
             final ModelNode subsystems = executeBlocking(new IOTask<ModelNode>() {
                 @Override
@@ -531,6 +533,7 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
                 final ModelNode version = subsystem.getValue();
                 target.addSubsystemVersion(subsystemName, ModelVersion.fromString(version.asString()));
             }
+            return subsystems;
         }
 
         protected void setSubsystems(final ModelNode resolved, final ManagementRequestContext<RegistrationContext> responseChannel) {
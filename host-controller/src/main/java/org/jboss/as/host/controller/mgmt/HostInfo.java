@@ -125,6 +125,8 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
     private final String productName;
     private final String productVersion;
     private final Long remoteConnectionId;
+    private final String domainModelDigest;
+    private final ModelNode domainModelConfig;
     private final Transformers.ResourceIgnoredTransformationRegistry ignoredResources;
     private final boolean ignoreUnaffectedConfig;
     private final Set<ServerConfigInfo> serverConfigInfos;
@@ -144,6 +146,12 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         productVersion = hostInfo.hasDefined(PRODUCT_VERSION) ? hostInfo.require(PRODUCT_VERSION).asString() : null;
         remoteConnectionId = hostInfo.hasDefined(RemoteDomainConnectionService.DOMAIN_CONNECTION_ID)
                 ? hostInfo.get(RemoteDomainConnectionService.DOMAIN_CONNECTION_ID).asLong() : null;
+        domainModelDigest = hostInfo.hasDefined(RemoteDomainConnectionService.DOMAIN_MODEL_DIGEST)
+                ? hostInfo.get(RemoteDomainConnectionService.DOMAIN_MODEL_DIGEST).asString() : null;
+        final ModelNode domainModelConfig = hostInfo.clone();
+        domainModelConfig.remove(RemoteDomainConnectionService.DOMAIN_CONNECTION_ID);
+        domainModelConfig.remove(RemoteDomainConnectionService.DOMAIN_MODEL_DIGEST);
+        this.domainModelConfig = domainModelConfig;
 
         Set<String> domainIgnoredExtensions = null;
         Set<String> domainActiveServerGroups = null;
@@ -217,6 +225,25 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         return remoteConnectionId;
     }
 
+    /**
+     * Get the digest of the domain model the slave applied when it last registered.
+     *
+     * @return the digest, or {@code null} if the slave has not applied a domain model from a master yet
+     */
+    public String getDomainModelDigest() {
+        return domainModelDigest;
+    }
+
+    /**
+     * Get the information sent by the slave which determines the domain model it receives, i.e. everything except
+     * the details of its current connection.
+     *
+     * @return the information. Will not be {@code null}
+     */
+    public ModelNode getDomainModelConfig() {
+        return domainModelConfig;
+    }
+
     public boolean isResourceTransformationIgnored(final PathAddress address) {
         // This resource transformation is only used when registering the host
         // Future operations will send an updated list of ignored-resources
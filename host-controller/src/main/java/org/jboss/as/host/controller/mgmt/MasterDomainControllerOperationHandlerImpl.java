@@ -42,6 +42,7 @@ import org.jboss.as.protocol.mgmt.RequestProcessingException;
 import org.jboss.as.repository.ContentReference;
 import org.jboss.as.repository.HostFileRepository;
 import org.jboss.as.repository.RemoteFileRequestAndHandler.RootFileReader;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Handles for requests from slave DC to master DC on the 'domain' channel.
@@ -50,12 +51,33 @@ import org.jboss.as.repository.RemoteFileRequestAndHandler.RootFileReader;
  */
 class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHandlerFactory {
 
+    private static final String MAX_CONCURRENT_FILE_TRANSFERS_PROPERTY = "jboss.domain.master.max-concurrent-file-transfers";
+    /**
+     * Maximum number of files sent to slave hosts at the same time across all hosts, {@code 0} for no limit.
+     * Limits the CPU and memory used when many hosts fetch large deployment content at once.
+     */
+    private static final int MAX_CONCURRENT_FILE_TRANSFERS = getMaxConcurrentFileTransfers();
+
     private final DomainController domainController;
-    private final Executor asyncExecutor;
+    private final DomainRemoteFileRequestAndHandler remoteSupport;
 
     public MasterDomainControllerOperationHandlerImpl(final DomainController domainController, final Executor asyncExecutor) {
         this.domainController = domainController;
-        this.asyncExecutor = asyncExecutor;
+        this.remoteSupport = new DomainRemoteFileRequestAndHandler(asyncExecutor, MAX_CONCURRENT_FILE_TRANSFERS);
+    }
+
+    private static int getMaxConcurrentFileTransfers() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(MAX_CONCURRENT_FILE_TRANSFERS_PROPERTY, "0");
+        try {
+            final int max = Integer.parseInt(value.trim());
+            if (max >= 0) {
+                return max;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        HostControllerLogger.ROOT_LOGGER.invalidMaxConcurrentFileTransfers(value, MAX_CONCURRENT_FILE_TRANSFERS_PROPERTY);
+        return 0;
     }
 
     @Override
@@ -95,8 +117,6 @@ class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHan
 
     private class GetFileOperation extends AbstractHostRequestHandler {
 
-        private final DomainRemoteFileRequestAndHandler remoteSupport = new DomainRemoteFileRequestAndHandler(asyncExecutor);
-
         @Override
         void handleRequest(String hostId, DataInput input, ActiveOperation.ResultHandler<Void> resultHandler, ManagementRequestContext<Void> context) throws IOException {
             DomainControllerLogger.ROOT_LOGGER.tracef("Handling GetFileOperation with id %d from %s", context.getOperationId(), hostId);
@@ -31,6 +31,7 @@ import org.jboss.as.controller.ModelOnlyWriteAttributeHandler;
 import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ProcessType;
@@ -45,6 +46,7 @@ import org.jboss.as.controller.access.management.ManagementSecurityIdentitySuppl
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.audit.ManagedAuditLogger;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.extension.ExtensionRegistryType;
@@ -76,6 +78,7 @@ import org.jboss.as.domain.controller.operations.HostProcessReloadHandler;
 import org.jboss.as.domain.management.CoreManagementResourceDefinition;
 import org.jboss.as.domain.management.audit.EnvironmentNameReader;
 import org.jboss.as.host.controller.DirectoryGrouping;
+import org.jboss.as.host.controller.DomainSyncStatistics;
 import org.jboss.as.host.controller.HostControllerConfigurationPersister;
 import org.jboss.as.host.controller.HostControllerEnvironment;
 import org.jboss.as.host.controller.HostControllerService;
@@ -212,6 +215,25 @@ public class HostResourceDefinition extends SimpleResourceDefinition {
             .setResourceOnly()
             .build();
 
+    public static final SimpleAttributeDefinition DOMAIN_SYNC_COUNT = new SimpleAttributeDefinitionBuilder("domain-sync-count", ModelType.LONG)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+    public static final SimpleAttributeDefinition DOMAIN_SYNC_UNCHANGED_COUNT = new SimpleAttributeDefinitionBuilder("domain-sync-unchanged-count", ModelType.LONG)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+    public static final SimpleAttributeDefinition LAST_DOMAIN_SYNC_SIZE = new SimpleAttributeDefinitionBuilder("last-domain-sync-size", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+    public static final SimpleAttributeDefinition LAST_DOMAIN_SYNC_DURATION = new SimpleAttributeDefinitionBuilder("last-domain-sync-duration", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
     public static final ObjectTypeAttributeDefinition DC_LOCAL = new ObjectTypeAttributeDefinition.Builder(ModelDescriptionConstants.LOCAL)
             .build();
 
@@ -330,6 +352,11 @@ public class HostResourceDefinition extends SimpleResourceDefinition {
         hostRegistration.registerReadOnlyAttribute(HostResourceDefinition.HOST_STATE, new ProcessStateAttributeHandler(processState));
         hostRegistration.registerReadOnlyAttribute(ServerRootResourceDefinition.RUNNING_MODE, new RunningModeReadHandler(runningModeControl));
         hostRegistration.registerReadOnlyAttribute(ServerRootResourceDefinition.SUSPEND_STATE, SuspendStateReadHandler.INSTANCE);
+        final OperationStepHandler syncStatisticsHandler = new DomainSyncStatisticsHandler(hostControllerInfo.getDomainSyncStatistics());
+        hostRegistration.registerMetric(DOMAIN_SYNC_COUNT, syncStatisticsHandler);
+        hostRegistration.registerMetric(DOMAIN_SYNC_UNCHANGED_COUNT, syncStatisticsHandler);
+        hostRegistration.registerMetric(LAST_DOMAIN_SYNC_SIZE, syncStatisticsHandler);
+        hostRegistration.registerMetric(LAST_DOMAIN_SYNC_DURATION, syncStatisticsHandler);
     }
 
 
@@ -480,4 +507,32 @@ public class HostResourceDefinition extends SimpleResourceDefinition {
 
         hostRegistration.registerSubModel(SocketBindingGroupResourceDefinition.INSTANCE);
     }
+
+    /**
+     * Reads the statistics about the synchronization of the domain model from the master.
+     */
+    private static class DomainSyncStatisticsHandler implements OperationStepHandler {
+
+        private final DomainSyncStatistics statistics;
+
+        private DomainSyncStatisticsHandler(final DomainSyncStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            final long value;
+            if (DOMAIN_SYNC_COUNT.getName().equals(name)) {
+                value = statistics.getSyncCount();
+            } else if (DOMAIN_SYNC_UNCHANGED_COUNT.getName().equals(name)) {
+                value = statistics.getUnchangedCount();
+            } else if (LAST_DOMAIN_SYNC_SIZE.getName().equals(name)) {
+                value = statistics.getLastTransferSize();
+            } else {
+                value = statistics.getLastSyncDuration();
+            }
+            context.getResult().set(value);
+        }
+    }
 }
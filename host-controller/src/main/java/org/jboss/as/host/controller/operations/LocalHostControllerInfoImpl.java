@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.jboss.as.controller.ControlledProcessState;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
+import org.jboss.as.host.controller.DomainSyncStatistics;
 import org.jboss.as.host.controller.HostControllerEnvironment;
 import org.jboss.as.host.controller.discovery.DiscoveryOption;
 import org.jboss.as.host.controller.model.host.AdminOnlyDomainConfigPolicy;
@@ -56,6 +57,7 @@ public class LocalHostControllerInfoImpl implements LocalHostControllerInfo {
     private volatile String httpManagementSecureInterface;
     private volatile int httpManagementSecurePort;
     private volatile AdminOnlyDomainConfigPolicy adminOnlyDomainConfigPolicy = AdminOnlyDomainConfigPolicy.ALLOW_NO_CONFIG;
+    private final DomainSyncStatistics domainSyncStatistics = new DomainSyncStatistics();
 
     /** Constructor solely for test cases */
     public LocalHostControllerInfoImpl(final ControlledProcessState processState, final String localHostName) {
@@ -85,6 +87,10 @@ public class LocalHostControllerInfoImpl implements LocalHostControllerInfo {
         return master;
     }
 
+    public DomainSyncStatistics getDomainSyncStatistics() {
+        return domainSyncStatistics;
+    }
+
     public ServiceName getAuthenticationContext() {
         return authenticationContext;
     }
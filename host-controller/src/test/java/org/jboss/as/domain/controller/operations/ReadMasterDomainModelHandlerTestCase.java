@@ -35,7 +35,9 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REL
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RELEASE_VERSION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WILDCARD;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.as.controller.ExpressionResolver;
 import org.jboss.as.controller.ModelVersion;
@@ -115,6 +117,74 @@ public class ReadMasterDomainModelHandlerTestCase {
         Assert.assertFalse(transformed.get("profile").hasDefined("ignored"));
     }
 
+    @Test
+    public void testDomainModelDigest() throws Exception {
+        ModelNode described = new ModelNode();
+        described.add().get("attr").set("value");
+        described.add().get("other").set(1);
+
+        // The slave rebuilds the model from the list of boot operations it received
+        DomainModelDigest digest = DomainModelDigest.calculate(described);
+        DomainModelDigest received = DomainModelDigest.calculate(new ModelNode().set(described.clone().asList()));
+        Assert.assertEquals(digest.getDigest(), received.getDigest());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        described.writeExternal(out);
+        Assert.assertEquals(out.size(), digest.getSize());
+
+        described.get(1).get("other").set(2);
+        Assert.assertNotEquals(digest.getDigest(), DomainModelDigest.calculate(described).getDigest());
+    }
+
+    @Test
+    public void testDomainModelDigestCache() throws Exception {
+        AtomicLong revision = new AtomicLong(1);
+        DomainModelDigestCache cache = new DomainModelDigestCache(revision::get);
+        ModelNode subsystems = new ModelNode();
+        subsystems.get("thingy").set("1.0.0");
+
+        ModelNode hostInfo = createHostInfo(1L);
+        ModelNode key = DomainModelDigestCache.createKey(HostInfo.fromModelNode(hostInfo), subsystems);
+        cache.putDigest(cache.getRevision(), key, "digest");
+
+        // The connection and the digest the slave sends don't affect the model it receives
+        ModelNode reconnected = createHostInfo(2L);
+        reconnected.get("domain-model-digest").set("digest");
+        ModelNode reconnectedKey = DomainModelDigestCache.createKey(HostInfo.fromModelNode(reconnected), subsystems);
+        Assert.assertEquals("digest", cache.getDigest(cache.getRevision(), reconnectedKey));
+
+        // Different ignored resources or subsystem versions do
+        ModelNode ignoring = createHostInfo(1L);
+        ignoring.get(IGNORED_RESOURCES, PROFILE, NAMES).add("other");
+        Assert.assertNull(cache.getDigest(cache.getRevision(), DomainModelDigestCache.createKey(HostInfo.fromModelNode(ignoring), subsystems)));
+        ModelNode otherSubsystems = new ModelNode();
+        otherSubsystems.get("thingy").set("1.1.0");
+        Assert.assertNull(cache.getDigest(cache.getRevision(), DomainModelDigestCache.createKey(HostInfo.fromModelNode(hostInfo), otherSubsystems)));
+
+        // A new revision of the domain model invalidates the digests
+        revision.incrementAndGet();
+        Assert.assertNull(cache.getDigest(cache.getRevision(), key));
+        cache.putDigest(cache.getRevision(), key, "new-digest");
+        cache.putDigest(1, key, "digest");
+        Assert.assertEquals("new-digest", cache.getDigest(cache.getRevision(), key));
+    }
+
+    private ModelNode createHostInfo(long connectionId) {
+        ModelNode hostInfo = new ModelNode();
+        hostInfo.get(NAME).set("slave");
+        hostInfo.get(RELEASE_VERSION).set("8.0.0.Alpha1-SNAPSHOT");
+        hostInfo.get(RELEASE_CODENAME).set("TBD");
+        hostInfo.get(MANAGEMENT_MAJOR_VERSION).set(1);
+        hostInfo.get(MANAGEMENT_MINOR_VERSION).set(4);
+        hostInfo.get(MANAGEMENT_MICRO_VERSION).set(0);
+        hostInfo.get(IGNORED_RESOURCES, PROFILE, WILDCARD);
+        hostInfo.get(IGNORED_RESOURCES, PROFILE, NAMES).add("ignored");
+        hostInfo.get(IGNORE_UNUSED_CONFIG).set(false);
+        hostInfo.get(INITIAL_SERVER_GROUPS).setEmptyObject();
+        hostInfo.get("domain-connection-id").set(connectionId);
+        return hostInfo;
+    }
+
     private Resource createProfile() {
         Resource profile = Resource.Factory.create();
         Resource subsystem = Resource.Factory.create();
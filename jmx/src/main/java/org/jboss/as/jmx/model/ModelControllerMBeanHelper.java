@@ -93,6 +93,7 @@ public class ModelControllerMBeanHelper {
     private final ConfiguredDomains configuredDomains;
     private final String domain;
     private final ManagementModelIntegration.ManagementModelProvider managementModelProvider;
+    private final ObjectNameIndex objectNameIndex;
 
     ModelControllerMBeanHelper(TypeConverters converters, ConfiguredDomains configuredDomains, String domain,
                                ModelController controller, MutabilityChecker mutabilityChecker,
@@ -104,15 +105,16 @@ public class ModelControllerMBeanHelper {
         this.accessControlUtil = new ResourceAccessControlUtil(controller);
         this.mutabilityChecker = mutabilityChecker;
         this.managementModelProvider = managementModelProvider;
+        this.objectNameIndex = new ObjectNameIndex(domain);
     }
 
     int getMBeanCount() {
-        return new RootResourceIterator<Integer>(accessControlUtil, getRootResourceAndRegistration().getResource(), new ResourceAction<Integer>() {
+        return new RootResourceIterator<Integer>(accessControlUtil, getObjectNameIndexRoot(), new ResourceAction<Integer>() {
             int count;
 
             @Override
-            public ObjectName onAddress(PathAddress address) {
-                return isExcludeAddress(address) ? null : ObjectNameAddressUtil.createObjectName(domain, address);
+            public ObjectName onAddress(PathAddress address, ObjectName objectName) {
+                return isExcludeAddress(address) ? null : objectName;
             }
 
             public boolean onResource(ObjectName address) {
@@ -127,7 +129,7 @@ public class ModelControllerMBeanHelper {
     }
 
     Set<ObjectInstance> queryMBeans(final MBeanServer mbeanServer, final ObjectName name, final QueryExp query) {
-        Set<ObjectInstance> basic = new RootResourceIterator<Set<ObjectInstance>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
+        Set<ObjectInstance> basic = new RootResourceIterator<Set<ObjectInstance>>(accessControlUtil, getObjectNameIndexRoot(),
                 new ObjectNameMatchResourceAction<Set<ObjectInstance>>(name) {
 
             Set<ObjectInstance> set = new HashSet<ObjectInstance>();
@@ -174,7 +176,7 @@ public class ModelControllerMBeanHelper {
     }
 
     Set<ObjectName> queryNames(MBeanServer mbeanServer, final ObjectName name, final QueryExp query) {
-        Set<ObjectName> basic = new RootResourceIterator<Set<ObjectName>>(accessControlUtil, getRootResourceAndRegistration().getResource(),
+        Set<ObjectName> basic = new RootResourceIterator<Set<ObjectName>>(accessControlUtil, getObjectNameIndexRoot(),
                 new ObjectNameMatchResourceAction<Set<ObjectName>>(name) {
 
             Set<ObjectName> set = new HashSet<ObjectName>();
@@ -230,6 +232,10 @@ public class ModelControllerMBeanHelper {
     }
 
 
+    private ObjectNameIndex.Node getObjectNameIndexRoot() {
+        return objectNameIndex.getRoot(getRootResourceAndRegistration().getResource());
+    }
+
     PathAddress resolvePathAddress(final ObjectName name) {
         return ObjectNameAddressUtil.resolvePathAddress(domain, getRootResourceAndRegistration().getResource(), name);
     }
@@ -617,13 +623,12 @@ public class ModelControllerMBeanHelper {
         }
 
         @Override
-        public ObjectName onAddress(PathAddress address) {
+        public ObjectName onAddress(PathAddress address, ObjectName toMatch) {
             if (isExcludeAddress(address)) {
                 return null;
             }
 
             ObjectName result = null;
-            ObjectName toMatch = ObjectNameAddressUtil.createObjectName(domain, address);
             if (baseName == null) {
                 result = toMatch;
             } else if (address.size() == 0) {
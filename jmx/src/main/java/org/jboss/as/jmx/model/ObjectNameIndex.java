@@ -0,0 +1,145 @@
+/*
+* JBoss, Home of Professional Open Source.
+* Copyright 2017, Red Hat, Inc., and individual contributors
+* as indicated by the @author tags. See the copyright.txt file in the
+* distribution for a full listing of individual contributors.
+*
+* This is free software; you can redistribute it and/or modify it
+* under the terms of the GNU Lesser General Public License as
+* published by the Free Software Foundation; either version 2.1 of
+* the License, or (at your option) any later version.
+*
+* This software is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+* Lesser General Public License for more details.
+*
+* You should have received a copy of the GNU Lesser General Public
+* License along with this software; if not, write to the Free
+* Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+* 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+*/
+package org.jboss.as.jmx.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.controller.registry.ResourceProvider;
+
+/**
+ * An index of the {@link ObjectName}s of the resources in the management model, used to answer JMX queries
+ * without converting every address in the model to an {@link ObjectName} on every query.
+ * <p/>
+ * The index is brought up to date against the current root resource each time it is used. Published
+ * model resources are copied rather than modified when an operation changes them, so a plain model
+ * resource that is still the same instance as the one that was indexed has the same children, and its
+ * part of the index can be reused as is, unless some of its children come from a registered
+ * {@link ResourceProvider} (e.g. the {@code host-connection}s of a host controller), which can change without
+ * the resource being copied. Any other resource (the root, proxies and custom resource implementations whose
+ * children may be computed on the fly) has its children re-read every time.
+ * <p/>
+ * The index contains no access control information, so callers must still check whether each
+ * resource is addressable.
+ */
+final class ObjectNameIndex {
+
+    private static final Class<?> MODEL_RESOURCE_CLASS = Resource.Factory.create().getClass();
+
+    private final String domain;
+    private volatile Node root;
+
+    ObjectNameIndex(String domain) {
+        this.domain = domain;
+    }
+
+    /**
+     * Gets the root of the index, updating it against the given root resource first.
+     *
+     * @param rootResource the current root resource
+     * @return the root of the index
+     */
+    Node getRoot(Resource rootResource) {
+        final Node current = root;
+        final Node updated = update(current, rootResource, PathAddress.EMPTY_ADDRESS);
+        if (updated != current) {
+            // Racing updates produce equivalent trees, so there is no harm in the last one winning
+            root = updated;
+        }
+        return updated;
+    }
+
+    private Node update(Node cached, Resource resource, PathAddress address) {
+        if (cached != null && cached.resource == resource && isStable(resource)) {
+            return cached;
+        }
+        final ObjectName objectName = cached != null ? cached.objectName : ObjectNameAddressUtil.createObjectName(domain, address);
+        final Map<PathElement, Node> previous = cached != null ? cached.childrenByElement() : Collections.<PathElement, Node>emptyMap();
+        final List<Node> children = new ArrayList<>();
+        boolean changed = cached == null || cached.resource != resource;
+        for (String type : resource.getChildTypes()) {
+            for (String name : resource.getChildrenNames(type)) {
+                final PathElement element = PathElement.pathElement(type, name);
+                final Resource child = resource.getChild(element);
+                if (child == null) {
+                    // Removed concurrently
+                    continue;
+                }
+                final Node previousChild = previous.get(element);
+                final Node childNode = update(previousChild, child, address.append(element));
+                changed |= childNode != previousChild;
+                children.add(childNode);
+            }
+        }
+        if (!changed && children.size() == previous.size()) {
+            return cached;
+        }
+        return new Node(resource, address, objectName, children);
+    }
+
+    private static boolean isStable(Resource resource) {
+        return resource.getClass() == MODEL_RESOURCE_CLASS && !resource.isProxy()
+                && !ResourceProvider.Tool.hasResourceProviders(resource);
+    }
+
+    static final class Node {
+        private final Resource resource;
+        private final PathAddress address;
+        private final ObjectName objectName;
+        private final List<Node> children;
+
+        private Node(Resource resource, PathAddress address, ObjectName objectName, List<Node> children) {
+            this.resource = resource;
+            this.address = address;
+            this.objectName = objectName;
+            this.children = Collections.unmodifiableList(children);
+        }
+
+        PathAddress getAddress() {
+            return address;
+        }
+
+        ObjectName getObjectName() {
+            return objectName;
+        }
+
+        List<Node> getChildren() {
+            return children;
+        }
+
+        private Map<PathElement, Node> childrenByElement() {
+            final Map<PathElement, Node> result = new HashMap<>(children.size() * 2);
+            for (Node child : children) {
+                result.put(child.address.getLastElement(), child);
+            }
+            return result;
+        }
+    }
+}
@@ -24,43 +24,35 @@ package org.jboss.as.jmx.model;
 import javax.management.ObjectName;
 
 import org.jboss.as.controller.PathAddress;
-import org.jboss.as.controller.PathElement;
-import org.jboss.as.controller.registry.Resource;
-import org.jboss.as.controller.registry.Resource.ResourceEntry;
 
 class RootResourceIterator<T> {
     private final ResourceAccessControlUtil accessControlUtil;
-    private final Resource rootResource;
+    private final ObjectNameIndex.Node root;
     private final ResourceAction<T> action;
 
-    RootResourceIterator(final ResourceAccessControlUtil accessControlUtil, final Resource rootResource, final ResourceAction<T> action) {
+    RootResourceIterator(final ResourceAccessControlUtil accessControlUtil, final ObjectNameIndex.Node root, final ResourceAction<T> action) {
         this.accessControlUtil = accessControlUtil;
-        this.rootResource = rootResource;
+        this.root = root;
         this.action = action;
     }
 
     T iterate() {
-        doIterate(rootResource, PathAddress.EMPTY_ADDRESS);
+        doIterate(root);
         return action.getResult();
     }
 
-    private void doIterate(final Resource current, final PathAddress address) {
+    private void doIterate(final ObjectNameIndex.Node current) {
         boolean handleChildren = false;
 
-        ObjectName resourceObjectName = action.onAddress(address);
+        final PathAddress address = current.getAddress();
+        ObjectName resourceObjectName = action.onAddress(address, current.getObjectName());
         if (resourceObjectName != null && accessControlUtil.getResourceAccess(address, false).isAccessibleResource()) {
             handleChildren = action.onResource(resourceObjectName);
         }
 
         if (handleChildren) {
-            for (String type : current.getChildTypes()) {
-                if (current.hasChildren(type)) {
-                    for (ResourceEntry entry : current.getChildren(type)) {
-                        final PathElement pathElement = entry.getPathElement();
-                        final PathAddress childAddress = address.append(pathElement);
-                        doIterate(entry, childAddress);
-                    }
-                }
+            for (ObjectNameIndex.Node child : current.getChildren()) {
+                doIterate(child);
             }
         }
     }
@@ -70,10 +62,11 @@ class RootResourceIterator<T> {
         /**
          * An address has been identified that possibly should be applied to onResource.
          * @param address the address
+         * @param objectName the ObjectName representation of the address
          * @return an ObjectName representation of the address, or {@code null} if neither the address nor
          *         any of its children are interesting to this ResourceAction.
          */
-        ObjectName onAddress(PathAddress address);
+        ObjectName onAddress(PathAddress address, ObjectName objectName);
 
         /**
          *
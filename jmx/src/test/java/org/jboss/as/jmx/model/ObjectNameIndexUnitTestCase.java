@@ -0,0 +1,196 @@
+/*
+* JBoss, Home of Professional Open Source.
+* Copyright 2017, Red Hat, Inc., and individual contributors
+* as indicated by the @author tags. See the copyright.txt file in the
+* distribution for a full listing of individual contributors.
+*
+* This is free software; you can redistribute it and/or modify it
+* under the terms of the GNU Lesser General Public License as
+* published by the Free Software Foundation; either version 2.1 of
+* the License, or (at your option) any later version.
+*
+* This software is distributed in the hope that it will be useful,
+* but WITHOUT ANY WARRANTY; without even the implied warranty of
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+* Lesser General Public License for more details.
+*
+* You should have received a copy of the GNU Lesser General Public
+* License along with this software; if not, write to the Free
+* Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+* 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+*/
+package org.jboss.as.jmx.model;
+
+import static org.jboss.as.controller.PathElement.pathElement;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.management.ObjectName;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.DelegatingResource;
+import org.jboss.as.controller.registry.PlaceholderResource;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.controller.registry.ResourceProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ObjectNameIndex}.
+ */
+public class ObjectNameIndexUnitTestCase {
+
+    private static final String DOMAIN = "jboss.test";
+    private static final PathElement SUBSYSTEM_A = pathElement("subsystem", "a");
+    private static final PathElement SUBSYSTEM_B = pathElement("subsystem", "b");
+    private static final PathElement CHILD = pathElement("child", "one");
+
+    @Test
+    public void testIndexContainsAllResources() throws Exception {
+        final Resource root = Resource.Factory.create();
+        final Resource a = Resource.Factory.create();
+        a.registerChild(CHILD, Resource.Factory.create());
+        root.registerChild(SUBSYSTEM_A, a);
+        root.registerChild(SUBSYSTEM_B, Resource.Factory.create());
+
+        final ObjectNameIndex index = new ObjectNameIndex(DOMAIN);
+        final Set<ObjectName> names = collect(index.getRoot(root));
+
+        Assert.assertEquals(4, names.size());
+        Assert.assertTrue(names.contains(ModelControllerMBeanHelper.createRootObjectName(DOMAIN)));
+        Assert.assertTrue(names.contains(ObjectNameAddressUtil.createObjectName(DOMAIN, PathAddress.pathAddress(SUBSYSTEM_A))));
+        Assert.assertTrue(names.contains(ObjectNameAddressUtil.createObjectName(DOMAIN, PathAddress.pathAddress(SUBSYSTEM_A, CHILD))));
+        Assert.assertTrue(names.contains(ObjectNameAddressUtil.createObjectName(DOMAIN, PathAddress.pathAddress(SUBSYSTEM_B))));
+    }
+
+    @Test
+    public void testUnchangedResourcesAreReused() throws Exception {
+        final Resource a = Resource.Factory.create();
+        a.registerChild(CHILD, Resource.Factory.create());
+        final Resource first = Resource.Factory.create();
+        first.registerChild(SUBSYSTEM_A, a);
+        first.registerChild(SUBSYSTEM_B, Resource.Factory.create());
+
+        final AtomicReference<Resource> current = new AtomicReference<>(first);
+        final Resource root = new DelegatingResource(current::get);
+
+        final ObjectNameIndex index = new ObjectNameIndex(DOMAIN);
+        final ObjectNameIndex.Node original = index.getRoot(root);
+        Assert.assertSame(original, index.getRoot(root));
+
+        // Publish a new model that shares subsystem=a but has a new subsystem=b
+        final Resource second = Resource.Factory.create();
+        second.registerChild(SUBSYSTEM_A, a);
+        final Resource b = Resource.Factory.create();
+        b.registerChild(CHILD, Resource.Factory.create());
+        second.registerChild(SUBSYSTEM_B, b);
+        current.set(second);
+
+        final ObjectNameIndex.Node updated = index.getRoot(root);
+        Assert.assertNotSame(original, updated);
+        Assert.assertSame(find(original, SUBSYSTEM_A), find(updated, SUBSYSTEM_A));
+        Assert.assertNotSame(find(original, SUBSYSTEM_B), find(updated, SUBSYSTEM_B));
+        Assert.assertTrue(collect(updated).contains(ObjectNameAddressUtil.createObjectName(DOMAIN, PathAddress.pathAddress(SUBSYSTEM_B, CHILD))));
+
+        // Remove subsystem=b
+        final Resource third = Resource.Factory.create();
+        third.registerChild(SUBSYSTEM_A, a);
+        current.set(third);
+        Assert.assertNull(find(index.getRoot(root), SUBSYSTEM_B));
+    }
+
+    @Test
+    public void testProvidedChildrenAreReread() throws Exception {
+        final Set<String> connections = new CopyOnWriteArraySet<>();
+        final Resource management = Resource.Factory.create();
+        ResourceProvider.Tool.addResourceProvider("host-connection", new TestResourceProvider(connections), management);
+        final Resource root = Resource.Factory.create();
+        root.registerChild(SUBSYSTEM_A, management);
+
+        final ObjectNameIndex index = new ObjectNameIndex(DOMAIN);
+        final ObjectName connection = ObjectNameAddressUtil.createObjectName(DOMAIN,
+                PathAddress.pathAddress(SUBSYSTEM_A, pathElement("host-connection", "slave")));
+        Assert.assertFalse(collect(index.getRoot(root)).contains(connection));
+
+        // The provider's children change with no change to the resource instances
+        connections.add("slave");
+        Assert.assertTrue(collect(index.getRoot(root)).contains(connection));
+
+        connections.remove("slave");
+        Assert.assertFalse(collect(index.getRoot(root)).contains(connection));
+    }
+
+    private static ObjectNameIndex.Node find(ObjectNameIndex.Node parent, PathElement element) {
+        for (ObjectNameIndex.Node child : parent.getChildren()) {
+            if (child.getAddress().getLastElement().equals(element)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    private static Set<ObjectName> collect(ObjectNameIndex.Node node) {
+        final Set<ObjectName> names = new HashSet<>();
+        collect(node, names);
+        return names;
+    }
+
+    private static void collect(ObjectNameIndex.Node node, Set<ObjectName> names) {
+        names.add(node.getObjectName());
+        for (ObjectNameIndex.Node child : node.getChildren()) {
+            collect(child, names);
+        }
+    }
+
+    private static class TestResourceProvider implements ResourceProvider {
+        private final Set<String> children;
+
+        private TestResourceProvider(Set<String> children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean has(String name) {
+            return children.contains(name);
+        }
+
+        @Override
+        public Resource get(String name) {
+            return children.contains(name) ? PlaceholderResource.INSTANCE : null;
+        }
+
+        @Override
+        public boolean hasChildren() {
+            return !children.isEmpty();
+        }
+
+        @Override
+        public Set<String> children() {
+            return children;
+        }
+
+        @Override
+        public void register(String name, Resource resource) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void register(String value, int index, Resource resource) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Resource remove(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ResourceProvider clone() {
+            return this;
+        }
+    }
+}
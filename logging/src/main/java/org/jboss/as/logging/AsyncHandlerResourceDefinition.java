@@ -36,8 +36,16 @@ import javax.xml.stream.XMLStreamWriter;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.DefaultAttributeMarshaller;
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
@@ -45,9 +53,12 @@ import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.logging.logmanager.ConfigurationPersistence;
+import org.jboss.as.logging.logmanager.RingBufferAsyncHandler;
 import org.jboss.as.logging.resolvers.OverflowActionResolver;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.handlers.AsyncHandler;
 import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
 
@@ -97,9 +108,51 @@ class AsyncHandlerResourceDefinition extends AbstractHandlerDefinition {
 
     static final AttributeDefinition[] ATTRIBUTES = {ENABLED, LEVEL, FILTER_SPEC, QUEUE_LENGTH, OVERFLOW_ACTION, SUBHANDLERS};
 
+    // Metrics are only available for handlers backed by a RingBufferAsyncHandler and are undefined otherwise
+
+    public static final SimpleAttributeDefinition QUEUE_SIZE = SimpleAttributeDefinitionBuilder.create("queue-size", ModelType.INT, true)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition DROPPED_COUNT = SimpleAttributeDefinitionBuilder.create("dropped-count", ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition DELIVERED_COUNT = SimpleAttributeDefinitionBuilder.create("delivered-count", ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    public static final SimpleAttributeDefinition LAST_FLUSH_TIME = SimpleAttributeDefinitionBuilder.create("last-flush-time", ModelType.LONG, true)
+            .setStorageRuntime()
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
+
+    public static final SimpleAttributeDefinition MAX_FLUSH_TIME = SimpleAttributeDefinitionBuilder.create("max-flush-time", ModelType.LONG, true)
+            .setStorageRuntime()
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
+
+    static final AttributeDefinition[] METRICS = {QUEUE_SIZE, DROPPED_COUNT, DELIVERED_COUNT, LAST_FLUSH_TIME, MAX_FLUSH_TIME};
+
+    private final boolean registerMetrics;
 
     public AsyncHandlerResourceDefinition(final boolean includeLegacyAttributes) {
+        this(includeLegacyAttributes, false);
+    }
+
+    public AsyncHandlerResourceDefinition(final boolean includeLegacyAttributes, final boolean registerMetrics) {
         super(ASYNC_HANDLER_PATH, AsyncHandler.class, (includeLegacyAttributes ? Logging.join(ATTRIBUTES, LEGACY_ATTRIBUTES) : ATTRIBUTES), QUEUE_LENGTH);
+        this.registerMetrics = registerMetrics;
+    }
+
+    @Override
+    public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        if (registerMetrics) {
+            for (AttributeDefinition metric : METRICS) {
+                resourceRegistration.registerMetric(metric, MetricsHandler.INSTANCE);
+            }
+        }
     }
 
     @Override
@@ -125,6 +178,44 @@ class AsyncHandlerResourceDefinition extends AbstractHandlerDefinition {
                 .build(), HandlerOperations.REMOVE_SUBHANDLER);
     }
 
+    /**
+     * Reads the metrics of the handler instance the async-handler resource is configured with.
+     */
+    private static class MetricsHandler implements OperationStepHandler {
+
+        static final MetricsHandler INSTANCE = new MetricsHandler();
+
+        @Override
+        public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final PathAddress address = context.getCurrentAddress();
+            final LogContext logContext;
+            if (LoggingProfileOperations.isLoggingProfileAddress(address)) {
+                logContext = LoggingProfileContextSelector.getInstance().get(LoggingProfileOperations.getLoggingProfileName(address));
+            } else {
+                logContext = LogContext.getLogContext();
+            }
+            final ConfigurationPersistence configuration = ConfigurationPersistence.getConfigurationPersistence(logContext);
+            final RingBufferAsyncHandler handler = (configuration == null ? null
+                    : RingBufferAsyncHandler.find(configuration, address.getLastElement().getValue()));
+            if (handler == null) {
+                return;
+            }
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            final ModelNode result = context.getResult();
+            if (QUEUE_SIZE.getName().equals(attributeName)) {
+                result.set(handler.getQueueSize());
+            } else if (DROPPED_COUNT.getName().equals(attributeName)) {
+                result.set(handler.getDroppedCount());
+            } else if (DELIVERED_COUNT.getName().equals(attributeName)) {
+                result.set(handler.getDeliveredCount());
+            } else if (LAST_FLUSH_TIME.getName().equals(attributeName)) {
+                result.set(handler.getLastFlushTime());
+            } else if (MAX_FLUSH_TIME.getName().equals(attributeName)) {
+                result.set(handler.getMaxFlushTime());
+            }
+        }
+    }
+
     @Override
     protected void registerResourceTransformers(final KnownModelVersion modelVersion, final ResourceTransformationDescriptionBuilder resourceBuilder, final ResourceTransformationDescriptionBuilder loggingProfileBuilder) {
         switch (modelVersion) {
@@ -59,6 +59,7 @@ import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.logging.logging.LoggingLogger;
 import org.jboss.as.logging.logmanager.Log4jAppenderHandler;
 import org.jboss.as.logging.logmanager.PropertySorter;
+import org.jboss.as.logging.logmanager.RingBufferAsyncHandler;
 import org.jboss.as.logging.resolvers.ModelNodeResolver;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
@@ -76,6 +77,7 @@ import org.jboss.logmanager.handlers.AsyncHandler;
 import org.jboss.modules.ModuleIdentifier;
 import org.jboss.modules.ModuleLoadException;
 import org.jboss.modules.ModuleLoader;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
@@ -86,6 +88,13 @@ final class HandlerOperations {
     private static final AttachmentKey<Map<String, String>> DISABLED_HANDLERS_KEY = new AttachmentKey<Map<String, String>>();
     private static final Object HANDLER_LOCK = new Object();
 
+    /**
+     * If {@code true} async handlers are backed by a {@link RingBufferAsyncHandler} instead of the log manager's
+     * {@link AsyncHandler}.
+     */
+    private static final boolean RING_BUFFER_ASYNC_HANDLER = Boolean.parseBoolean(
+            WildFlySecurityManager.getPropertyPrivileged("org.jboss.as.logging.async-handler.ring-buffer", "false"));
+
 
     /**
      * A step handler for updating logging handler properties.
@@ -209,6 +218,9 @@ final class HandlerOperations {
             if (type == null) {
                 className = CLASS.resolveModelAttribute(context, model).asString();
                 moduleName = MODULE.resolveModelAttribute(context, model).asString();
+            } else if (RING_BUFFER_ASYNC_HANDLER && type == AsyncHandler.class) {
+                className = RingBufferAsyncHandler.class.getName();
+                moduleName = "org.jboss.as.logging";
             } else {
                 className = type.getName();
                 moduleName = null;
@@ -324,10 +336,14 @@ final class HandlerOperations {
                 } else {
                     configuration = logContextConfiguration.addHandlerConfiguration(moduleName, className, name, constructionProperties);
                 }
-                // If this is an AsyncHandler we need to setCloseChildren() to false
-                if (AsyncHandler.class.getName().equals(className)) {
-                    configuration.setPropertyValueString("closeChildren", "false");
-                }
+            }
+            // If this is an async handler we need to setCloseChildren() to false
+            if (AsyncHandler.class.getName().equals(className) || RingBufferAsyncHandler.class.getName().equals(className)) {
+                configuration.setPropertyValueString("closeChildren", "false");
+            }
+            // The name lets the async-handler resource find the handler for its metrics
+            if (RingBufferAsyncHandler.class.getName().equals(className)) {
+                configuration.setPropertyValueString("handlerName", name);
             }
             return configuration;
         }
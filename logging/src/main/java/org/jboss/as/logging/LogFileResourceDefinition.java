@@ -29,10 +29,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -280,16 +282,29 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
         }
     }
 
+    /**
+     * Reads a file line by line starting with the last line. The bytes of each line are returned in their original
+     * order, including the line's terminating line feed.
+     * <p/>
+     * The file is read in blocks with positional reads, so neither searching backwards for the start of a line nor
+     * returning its bytes requires a system call per byte.
+     */
     static final class LifoFileInputStream extends InputStream {
-        private final RandomAccessFile raf;
+        private static final int BLOCK_SIZE = 8192;
+
+        private final FileChannel channel;
         private final long len;
+        private final byte[] block = new byte[BLOCK_SIZE];
+        // The file position of block[0] and the number of valid bytes in block
+        private long blockStart;
+        private int blockLength;
         private long start;
         private long end;
         private long pos;
 
         LifoFileInputStream(final File file) throws IOException {
-            raf = new RandomAccessFile(file, "r");
-            len = raf.length();
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            len = channel.size();
             start = len;
             end = len;
             pos = end;
@@ -312,11 +327,8 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
                 if (filePointer < 0) {
                     break;
                 }
-                // Position the file
-                raf.seek(filePointer);
-                final byte readByte = raf.readByte();
                 // If the byte is a line feed we've found the next line ignoring the last line feed in the file
-                if (readByte == '\n' && filePointer != (len - 1)) {
+                if (byteBefore(filePointer + 1) == '\n' && filePointer != (len - 1)) {
                     break;
                 }
             }
@@ -324,22 +336,63 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
             pos = start;
         }
 
+        /**
+         * Returns the byte at {@code position - 1}, loading the block that ends at {@code position} if needed.
+         */
+        private byte byteBefore(final long position) throws IOException {
+            if (position <= blockStart || position > blockStart + blockLength) {
+                load(Math.max(0, position - BLOCK_SIZE));
+            }
+            return block[(int) (position - 1 - blockStart)];
+        }
+
+        private void load(final long position) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(block, 0, (int) Math.min(BLOCK_SIZE, len - position));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            blockStart = position;
+            blockLength = buffer.position();
+        }
+
         @Override
         public int read() throws IOException {
-            if (pos < end) {
-                raf.seek(pos++);
-                return raf.readByte();
-            } else if (pos < 0) {
-                return -1;
-            } else {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (pos >= end) {
+                if (pos < 0) {
+                    return -1;
+                }
                 positionFile();
-                return read();
+                if (pos < 0) {
+                    return -1;
+                }
+            }
+            if (pos < blockStart || pos >= blockStart + blockLength) {
+                load(pos);
+                if (blockLength == 0) {
+                    // The file was truncated
+                    return -1;
+                }
             }
+            final int count = (int) Math.min(length, Math.min(end, blockStart + blockLength) - pos);
+            System.arraycopy(block, (int) (pos - blockStart), b, off, count);
+            pos += count;
+            return count;
         }
 
         @Override
         public void close() throws IOException {
-            raf.close();
+            channel.close();
         }
     }
 }
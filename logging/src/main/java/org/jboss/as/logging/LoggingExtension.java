@@ -268,7 +268,7 @@ public class LoggingExtension implements Extension {
         final LoggerResourceDefinition loggerResourceDefinition = new LoggerResourceDefinition(includeLegacyAttributes);
         registration.registerSubModel(loggerResourceDefinition);
 
-        final AsyncHandlerResourceDefinition asyncHandlerResourceDefinition = new AsyncHandlerResourceDefinition(includeLegacyAttributes);
+        final AsyncHandlerResourceDefinition asyncHandlerResourceDefinition = new AsyncHandlerResourceDefinition(includeLegacyAttributes, pathManager != null);
         registration.registerSubModel(asyncHandlerResourceDefinition);
 
         final ConsoleHandlerResourceDefinition consoleHandlerResourceDefinition = new ConsoleHandlerResourceDefinition(includeLegacyAttributes);
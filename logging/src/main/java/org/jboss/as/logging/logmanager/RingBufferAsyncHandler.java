@@ -0,0 +1,403 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging.logmanager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.config.LogContextConfiguration;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler which hands records to its sub-handlers through a preallocated ring buffer rather than a
+ * blocking queue.
+ * <p>
+ * Publishing threads claim a slot with a single compare-and-set on the producer sequence and never take a lock. A
+ * single delivery thread drains the buffer in batches of up to {@link #getBatchSize() batch size} records and
+ * publishes each batch to the sub-handlers before going back to the buffer.
+ * </p>
+ * <p>
+ * The handler keeps a few counters which can be used to see how it behaves under load: the current
+ * {@link #getQueueSize() queue depth}, the number of {@link #getDroppedCount() dropped records} when the overflow
+ * action is {@link OverflowAction#DISCARD DISCARD}, and the {@link #getLastFlushTime() last} and
+ * {@link #getMaxFlushTime() maximum} time spent delivering a batch.
+ * </p>
+ * <p>
+ * The {@link #setHandlerName(String) handler name} is used to name the delivery thread and to
+ * {@link #find(LogContextConfiguration, String) find} the handler from its configuration.
+ * </p>
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    /**
+     * The default number of slots in the ring buffer.
+     */
+    public static final int DEFAULT_QUEUE_LENGTH = 512;
+
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+    private static final String THREAD_NAME = "Async log handler delivery";
+
+    private final int capacity;
+    private final ExtLogRecord[] buffer;
+    // The sequence of each slot: equal to the producer position when the slot is free and to position + 1 once
+    // the record has been published
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private volatile long consumerPosition;
+
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong delivered = new AtomicLong();
+    private volatile long lastFlushTime;
+    private volatile long maxFlushTime;
+
+    private volatile OverflowAction overflowAction = OverflowAction.BLOCK;
+    private volatile int batchSize = DEFAULT_BATCH_SIZE;
+    private volatile boolean consumerParked;
+    private volatile boolean closed;
+    private volatile String handlerName;
+    private final Thread consumer;
+
+    /**
+     * Construct a new instance with the {@linkplain #DEFAULT_QUEUE_LENGTH default queue length}.
+     */
+    public RingBufferAsyncHandler() {
+        this(DEFAULT_QUEUE_LENGTH);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param queueLength the number of records the buffer can hold
+     */
+    public RingBufferAsyncHandler(final int queueLength) {
+        if (queueLength < 1) {
+            throw new IllegalArgumentException("Queue length must be at least 1");
+        }
+        capacity = queueLength;
+        buffer = new ExtLogRecord[queueLength];
+        sequences = new AtomicLongArray(queueLength);
+        for (int i = 0; i < queueLength; i++) {
+            sequences.set(i, i);
+        }
+        consumer = new Thread(new Delivery(), THREAD_NAME);
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Finds the handler configured with the given name among the handlers, and their sub-handlers, assigned to the
+     * loggers of a log context configuration.
+     *
+     * @param configuration the log context configuration
+     * @param handlerName   the name of the handler
+     * @return the handler or {@code null} if it is not assigned to any logger
+     */
+    public static RingBufferAsyncHandler find(final LogContextConfiguration configuration, final String handlerName) {
+        final LogContext logContext = configuration.getLogContext();
+        for (String loggerName : configuration.getLoggerNames()) {
+            final RingBufferAsyncHandler handler = find(logContext.getLogger(loggerName).getHandlers(), handlerName);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        return null;
+    }
+
+    private static RingBufferAsyncHandler find(final Handler[] handlers, final String handlerName) {
+        for (Handler handler : handlers) {
+            if (handler instanceof RingBufferAsyncHandler && handlerName.equals(((RingBufferAsyncHandler) handler).getHandlerName())) {
+                return (RingBufferAsyncHandler) handler;
+            }
+            if (handler instanceof ExtHandler) {
+                final RingBufferAsyncHandler result = find(((ExtHandler) handler).getHandlers(), handlerName);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the name the handler is configured with.
+     *
+     * @return the handler name or {@code null} if not set
+     */
+    public String getHandlerName() {
+        return handlerName;
+    }
+
+    /**
+     * Sets the name the handler is configured with. The name is added to the name of the delivery thread.
+     *
+     * @param handlerName the handler name
+     */
+    public void setHandlerName(final String handlerName) {
+        checkAccess(this);
+        this.handlerName = handlerName;
+        consumer.setName(handlerName == null ? THREAD_NAME : THREAD_NAME + " (" + handlerName + ")");
+    }
+
+    /**
+     * Returns the number of records the buffer can hold.
+     *
+     * @return the queue length
+     */
+    public int getQueueLength() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of records waiting to be delivered to the sub-handlers.
+     *
+     * @return the current queue depth
+     */
+    public int getQueueSize() {
+        final long size = producerPosition.get() - consumerPosition;
+        return (int) Math.max(0L, Math.min(size, capacity));
+    }
+
+    /**
+     * Returns the number of records which were discarded because the buffer was full.
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of records delivered to the sub-handlers.
+     *
+     * @return the number of delivered records
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * Returns the time, in nanoseconds, it took to deliver the last batch of records to the sub-handlers.
+     *
+     * @return the last flush time
+     */
+    public long getLastFlushTime() {
+        return lastFlushTime;
+    }
+
+    /**
+     * Returns the longest time, in nanoseconds, it took to deliver a batch of records to the sub-handlers.
+     *
+     * @return the maximum flush time
+     */
+    public long getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    /**
+     * Returns the maximum number of records delivered to the sub-handlers in one pass.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of records delivered to the sub-handlers in one pass.
+     *
+     * @param batchSize the batch size, must be at least 1
+     */
+    public void setBatchSize(final int batchSize) {
+        checkAccess(this);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the action taken when the buffer is full.
+     *
+     * @return the overflow action
+     */
+    public OverflowAction getOverflowAction() {
+        return overflowAction;
+    }
+
+    /**
+     * Sets the action taken when the buffer is full.
+     *
+     * @param overflowAction the overflow action
+     */
+    public void setOverflowAction(final OverflowAction overflowAction) {
+        if (overflowAction == null) {
+            throw new NullPointerException("overflowAction is null");
+        }
+        checkAccess(this);
+        this.overflowAction = overflowAction;
+    }
+
+    @Override
+    protected void doPublish(final ExtLogRecord record) {
+        if (closed) {
+            return;
+        }
+        // The record is formatted on another thread, capture the caller dependent values now
+        record.copyAll();
+        while (!offer(record)) {
+            if (closed || overflowAction == OverflowAction.DISCARD) {
+                dropped.increment();
+                return;
+            }
+            wakeConsumer();
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        wakeConsumer();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        checkAccess(this);
+        if (!closed) {
+            closed = true;
+            LockSupport.unpark(consumer);
+            // Give the delivery thread a chance to drain what is left
+            boolean interrupted = false;
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(5L));
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
+    }
+
+    private boolean offer(final ExtLogRecord record) {
+        long position = producerPosition.get();
+        for (;;) {
+            final int index = (int) (position % capacity);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0L) {
+                if (producerPosition.compareAndSet(position, position + 1L)) {
+                    buffer[index] = record;
+                    sequences.lazySet(index, position + 1L);
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0L) {
+                // The slot has not been delivered yet, the buffer is full
+                return false;
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    private ExtLogRecord poll() {
+        final long position = consumerPosition;
+        final int index = (int) (position % capacity);
+        if (sequences.get(index) != position + 1L) {
+            return null;
+        }
+        final ExtLogRecord record = buffer[index];
+        buffer[index] = null;
+        sequences.lazySet(index, position + capacity);
+        consumerPosition = position + 1L;
+        return record;
+    }
+
+    private void wakeConsumer() {
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private int deliverBatch() {
+        final int max = batchSize;
+        final Handler[] handlers = getHandlers();
+        final long start = System.nanoTime();
+        int count = 0;
+        ExtLogRecord record;
+        while (count < max && (record = poll()) != null) {
+            for (Handler handler : handlers) {
+                try {
+                    handler.publish(record);
+                } catch (RuntimeException e) {
+                    reportError("Failed to publish record to handler " + handler, e, ErrorManager.WRITE_FAILURE);
+                }
+            }
+            count++;
+        }
+        if (count > 0) {
+            final long time = System.nanoTime() - start;
+            lastFlushTime = time;
+            if (time > maxFlushTime) {
+                maxFlushTime = time;
+            }
+            delivered.addAndGet(count);
+        }
+        return count;
+    }
+
+    private class Delivery implements Runnable {
+
+        @Override
+        public void run() {
+            for (;;) {
+                if (deliverBatch() > 0) {
+                    continue;
+                }
+                if (closed) {
+                    // Publishers may still have been writing while the handler was closed
+                    while (deliverBatch() > 0) {
+                        // drain
+                    }
+                    return;
+                }
+                consumerParked = true;
+                try {
+                    // Check again after advertising we are parked so a publish in between is not missed
+                    if (getQueueSize() == 0 && !closed) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                } finally {
+                    consumerParked = false;
+                }
+            }
+        }
+    }
+}
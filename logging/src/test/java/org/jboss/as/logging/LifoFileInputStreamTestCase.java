@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests reading a file in reverse line order with {@link LogFileResourceDefinition.LifoFileInputStream}.
+ */
+public class LifoFileInputStreamTestCase {
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        assertReversed(Collections.<String>emptyList());
+    }
+
+    @Test
+    public void testSingleLine() throws IOException {
+        assertReversed(Collections.singletonList("only line"));
+    }
+
+    @Test
+    public void testLinesSpanningBlocks() throws IOException {
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            lines.add("line " + i + " \u00e9\u00e8\u20ac");
+        }
+        // A line longer than the block size
+        final StringBuilder longLine = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            longLine.append((char) ('a' + i % 26));
+        }
+        lines.add(2500, longLine.toString());
+        lines.add(2501, "");
+        assertReversed(lines);
+    }
+
+    private static void assertReversed(final List<String> lines) throws IOException {
+        final Path file = Files.createTempFile("lifo", ".log");
+        try {
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            final List<String> read = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new LogFileResourceDefinition.LifoFileInputStream(file.toFile()), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    read.add(line);
+                }
+            }
+            final List<String> expected = new ArrayList<>(lines);
+            Collections.reverse(expected);
+            assertEquals(expected, read);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.logging.logmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.config.HandlerConfiguration;
+import org.jboss.logmanager.config.LoggerConfiguration;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RingBufferAsyncHandlerTestCase {
+
+    @Test
+    public void testConcurrentPublish() throws Exception {
+        final int threads = 4;
+        final int perThread = 2500;
+        final CollectingHandler collector = new CollectingHandler();
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(16);
+        handler.setCloseChildren(false);
+        handler.addHandler(collector);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> publishers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final String prefix = "t" + t + "-";
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    handler.publish(createRecord(prefix + i));
+                }
+            });
+            thread.start();
+            publishers.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : publishers) {
+            thread.join();
+        }
+        handler.close();
+
+        Assert.assertEquals(threads * perThread, collector.records.size());
+        Assert.assertEquals(threads * perThread, handler.getDeliveredCount());
+        Assert.assertEquals(0L, handler.getDroppedCount());
+        Assert.assertEquals(0, handler.getQueueSize());
+        Assert.assertFalse("Sub-handlers should not be closed", collector.closed);
+
+        // Records from a single thread must be delivered in the order they were published
+        final int[] next = new int[threads];
+        for (LogRecord record : collector.records) {
+            final String msg = record.getMessage();
+            final int t = Integer.parseInt(msg.substring(1, msg.indexOf('-')));
+            final int i = Integer.parseInt(msg.substring(msg.indexOf('-') + 1));
+            Assert.assertEquals(next[t]++, i);
+        }
+    }
+
+    @Test
+    public void testDiscard() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CollectingHandler collector = new CollectingHandler() {
+            @Override
+            public void publish(final LogRecord record) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4);
+        handler.setOverflowAction(OverflowAction.DISCARD);
+        handler.addHandler(collector);
+
+        // The first record holds the delivery thread in the sub-handler
+        handler.publish(createRecord("first"));
+        Assert.assertTrue(blocked.await(5L, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            handler.publish(createRecord("record-" + i));
+        }
+        Assert.assertEquals(4, handler.getQueueSize());
+        Assert.assertEquals(6L, handler.getDroppedCount());
+
+        release.countDown();
+        handler.close();
+        Assert.assertEquals(5, collector.records.size());
+        Assert.assertEquals(5L, handler.getDeliveredCount());
+        Assert.assertTrue(handler.getMaxFlushTime() > 0L);
+    }
+
+    @Test
+    public void testLogContextConfiguration() throws Exception {
+        final LogContext logContext = LogContext.create();
+        final ConfigurationPersistence config = ConfigurationPersistence.getOrCreateConfigurationPersistence(logContext);
+        final HandlerConfiguration handlerConfiguration = config.addHandlerConfiguration(null,
+                RingBufferAsyncHandler.class.getName(), "ASYNC", "queueLength");
+        handlerConfiguration.setPropertyValueString("queueLength", "10");
+        handlerConfiguration.setPropertyValueString("overflowAction", "DISCARD");
+        handlerConfiguration.setPropertyValueString("closeChildren", "false");
+        handlerConfiguration.setPropertyValueString("handlerName", "ASYNC");
+        final LoggerConfiguration loggerConfiguration = config.addLoggerConfiguration("");
+        loggerConfiguration.addHandlerName("ASYNC");
+        config.commit();
+
+        final RingBufferAsyncHandler handler = RingBufferAsyncHandler.find(config, "ASYNC");
+        Assert.assertNotNull("Handler ASYNC was not found", handler);
+        Assert.assertNull(RingBufferAsyncHandler.find(config, "OTHER"));
+        Assert.assertEquals(10, handler.getQueueLength());
+        Assert.assertEquals(OverflowAction.DISCARD, handler.getOverflowAction());
+        Assert.assertEquals("ASYNC", handler.getHandlerName());
+        boolean found = false;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().contains("(ASYNC)")) {
+                found = true;
+                break;
+            }
+        }
+        Assert.assertTrue("Delivery thread is not named after the handler", found);
+
+        config.removeLoggerConfiguration("");
+        config.removeHandlerConfiguration("ASYNC");
+        config.commit();
+        handler.close();
+    }
+
+    private static ExtLogRecord createRecord(final String msg) {
+        return new ExtLogRecord(Level.INFO, msg, RingBufferAsyncHandlerTestCase.class.getName());
+    }
+
+    private static class CollectingHandler extends Handler {
+        final List<LogRecord> records = Collections.synchronizedList(new ArrayList<LogRecord>());
+        volatile boolean closed;
+
+        @Override
+        public void publish(final LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws SecurityException {
+            closed = true;
+        }
+    }
+}
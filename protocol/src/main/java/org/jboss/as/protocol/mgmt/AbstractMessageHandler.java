@@ -90,6 +90,7 @@ public abstract class AbstractMessageHandler implements ManagementMessageHandler
     private final AtomicInteger requestID = new AtomicInteger();
 
     private final Map<Integer, ActiveRequest<?, ?>> requests = new ConcurrentHashMap<Integer, ActiveRequest<?, ?>>(16, 0.75f, Runtime.getRuntime().availableProcessors());
+    private final ManagementRequestStatistics requestStatistics = new ManagementRequestStatistics(requests::size);
 
     // mutable variables, have to be guarded by the lock
     private int activeCount = 0;
@@ -120,6 +121,15 @@ public abstract class AbstractMessageHandler implements ManagementMessageHandler
         }
     }
 
+    /**
+     * Get statistics about the requests sent by this handler.
+     *
+     * @return the request statistics
+     */
+    public ManagementRequestStatistics getRequestStatistics() {
+        return requestStatistics;
+    }
+
     /**
      * Is shutdown.
      *
@@ -229,8 +239,10 @@ public abstract class AbstractMessageHandler implements ManagementMessageHandler
                 ProtocolLogger.CONNECTION_LOGGER.noSuchRequest(response.getResponseId(), channel);
                 safeWriteErrorResponse(channel, header, ProtocolLogger.ROOT_LOGGER.responseHandlerNotFound(response.getResponseId()));
             } else if(response.getError() != null) {
+                requestStatistics.responseReceived(request.startTime, true);
                 request.handleFailed(response);
             } else {
+                requestStatistics.responseReceived(request.startTime, false);
                 handleRequest(channel, input, header, request);
             }
         } else {
@@ -263,6 +275,7 @@ public abstract class AbstractMessageHandler implements ManagementMessageHandler
         final Integer requestId = this.requestID.incrementAndGet();
         final ActiveRequest<T, A> ar = new ActiveRequest<T, A>(support, request);
         requests.put(requestId, ar);
+        requestStatistics.requestSent();
         final ManagementRequestHeader header = new ManagementRequestHeader(ManagementProtocol.VERSION, requestId, support.getOperationId(), request.getOperationType());
         final ActiveOperation.ResultHandler<T> resultHandler = support.getResultHandler();
         try {
@@ -557,6 +570,7 @@ public abstract class AbstractMessageHandler implements ManagementMessageHandler
 
         private final ActiveOperation<T, A> context;
         private final ManagementResponseHandler<T, A> handler;
+        private final long startTime = System.nanoTime();
 
         ActiveRequest(ActiveOperation<T, A> context, ManagementResponseHandler<T, A> handler) {
             this.context = context;
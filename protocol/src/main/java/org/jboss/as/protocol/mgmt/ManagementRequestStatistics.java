@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.protocol.mgmt;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Statistics about the requests a {@link AbstractMessageHandler} sent to the remote side. Several requests may
+ * be outstanding on the same channel at the same time; the latency of a request is the time from sending it until
+ * its response or error response arrived.
+ */
+public final class ManagementRequestStatistics {
+
+    private final IntSupplier inFlight;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+
+    ManagementRequestStatistics(IntSupplier inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    void requestSent() {
+        sent.increment();
+        maxInFlight.accumulate(inFlight.getAsInt());
+    }
+
+    void responseReceived(long startNanos, boolean error) {
+        long latency = System.nanoTime() - startNanos;
+        if (error) {
+            failed.increment();
+        } else {
+            completed.increment();
+        }
+        totalLatency.add(latency);
+        maxLatency.accumulate(latency);
+    }
+
+    /**
+     * @return the number of requests sent
+     */
+    public long getRequestCount() {
+        return sent.sum();
+    }
+
+    /**
+     * @return the number of requests that received a response
+     */
+    public long getCompletedRequestCount() {
+        return completed.sum();
+    }
+
+    /**
+     * @return the number of requests that received an error response
+     */
+    public long getFailedRequestCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @return the number of requests currently awaiting a response
+     */
+    public int getInFlightRequestCount() {
+        return inFlight.getAsInt();
+    }
+
+    /**
+     * @return the highest number of requests that were awaiting a response at the same time
+     */
+    public long getMaxInFlightRequestCount() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * @return the average latency, in milliseconds, of the requests that received a response
+     */
+    public long getAverageLatency() {
+        long responses = completed.sum() + failed.sum();
+        return responses == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency.sum() / responses);
+    }
+
+    /**
+     * @return the highest latency, in milliseconds, of any request that received a response
+     */
+    public long getMaxLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatency.get());
+    }
+
+    @Override
+    public String toString() {
+        return "ManagementRequestStatistics{requests=" + getRequestCount() + ", inFlight=" + getInFlightRequestCount()
+                + ", maxInFlight=" + getMaxInFlightRequestCount() + ", failed=" + getFailedRequestCount()
+                + ", averageLatency=" + getAverageLatency() + "ms, maxLatency=" + getMaxLatency() + "ms}";
+    }
+}
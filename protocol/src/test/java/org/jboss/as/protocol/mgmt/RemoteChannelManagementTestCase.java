@@ -97,6 +97,23 @@ public class RemoteChannelManagementTestCase {
         Assert.assertEquals(Integer.valueOf(1200), future1.get());
     }
 
+    @Test
+    public void testRequestStatistics() throws Exception {
+        final SimpleClient client = SimpleClient.create(channels);
+
+        Future<Integer> future1 = client.execute(new SimpleHandlers.Request(SimpleHandlers.SIMPLE_REQUEST, 600));
+        Future<Integer> future2 = client.execute(new SimpleHandlers.Request(SimpleHandlers.SIMPLE_REQUEST, 650));
+        Assert.assertEquals(Integer.valueOf(1200), future1.get());
+        Assert.assertEquals(Integer.valueOf(1300), future2.get());
+
+        ManagementRequestStatistics statistics = client.getRequestStatistics();
+        Assert.assertEquals(2, statistics.getRequestCount());
+        Assert.assertEquals(2, statistics.getCompletedRequestCount());
+        Assert.assertEquals(0, statistics.getFailedRequestCount());
+        Assert.assertEquals(0, statistics.getInFlightRequestCount());
+        Assert.assertTrue(statistics.getMaxInFlightRequestCount() >= 1);
+    }
+
     @Test
     public void testMissingOperationHandler() throws Exception {
         final SimpleClient client = SimpleClient.create(channels);
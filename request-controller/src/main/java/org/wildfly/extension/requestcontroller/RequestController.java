@@ -35,11 +35,9 @@ import org.wildfly.extension.requestcontroller.logging.RequestControllerLogger;
 
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -71,7 +69,7 @@ public class RequestController implements Service<RequestController>, ServerActi
 
     private volatile boolean paused = false;
 
-    private final Map<ControlPointIdentifier, ControlPoint> entryPoints = new HashMap<>();
+    private final ConcurrentMap<ControlPointIdentifier, ControlPoint> entryPoints = new ConcurrentHashMap<>();
 
     private final InjectedValue<SuspendController> shutdownControllerInjectedValue = new InjectedValue<>();
 
@@ -89,10 +87,16 @@ public class RequestController implements Service<RequestController>, ServerActi
         listener.done();
     }
 
-    private Timer timer;
+    private TimeoutWheel timeoutWheel;
 
     private final Deque<QueuedTask> taskQueue = new LinkedBlockingDeque<>();
 
+    /**
+     * Tasks that must run even if the container is suspended. These are kept apart from the normal queue so that
+     * they can be found without scanning (and re-queueing) every other task while suspended.
+     */
+    private final Deque<QueuedTask> forceRunQueue = new LinkedBlockingDeque<>();
+
     /**
      * Pause the controller. All existing requests will have a chance to finish, and once all requests are
      * finished the provided listener will be invoked.
@@ -122,8 +126,10 @@ public class RequestController implements Service<RequestController>, ServerActi
         if (listener != null) {
             listenerUpdater.compareAndSet(this, listener, null);
         }
-        while (!taskQueue.isEmpty() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
-            runQueuedTask(false);
+        while (hasQueuedTasks() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
+            if(!runQueuedTask(false)) {
+                break;
+            }
         }
     }
 
@@ -210,14 +216,22 @@ public class RequestController implements Service<RequestController>, ServerActi
 
     RunResult beginRequest(boolean force) {
         int maxRequests = maxRequestCount;
-        int active = activeRequestCountUpdater.get(this);
         boolean success = false;
-        while ((maxRequests <= 0 || active < maxRequests) && (!paused || force)) {
-            if (activeRequestCountUpdater.compareAndSet(this, active, active + 1)) {
+        if (maxRequests <= 0) {
+            //no limit, so there is nothing to compare against and a plain increment will never need to be retried
+            if (!paused || force) {
+                activeRequestCountUpdater.incrementAndGet(this);
                 success = true;
-                break;
             }
-            active = activeRequestCountUpdater.get(this);
+        } else {
+            int active = activeRequestCountUpdater.get(this);
+            while (active < maxRequests && (!paused || force)) {
+                if (activeRequestCountUpdater.compareAndSet(this, active, active + 1)) {
+                    success = true;
+                    break;
+                }
+                active = activeRequestCountUpdater.get(this);
+            }
         }
         if (success) {
             //re-check the paused state
@@ -264,15 +278,15 @@ public class RequestController implements Service<RequestController>, ServerActi
      * @param entryPointName The entry point name
      * @return The entry point, or null if the request controller is disabled
      */
-    public synchronized ControlPoint getControlPoint(final String deploymentName, final String entryPointName) {
+    public ControlPoint getControlPoint(final String deploymentName, final String entryPointName) {
         ControlPointIdentifier id = new ControlPointIdentifier(deploymentName, entryPointName);
-        ControlPoint ep = entryPoints.get(id);
-        if (ep == null) {
-            ep = new ControlPoint(this, deploymentName, entryPointName, trackIndividualControlPoints);
-            entryPoints.put(id, ep);
-        }
-        ep.increaseReferenceCount();
-        return ep;
+        return entryPoints.compute(id, (key, ep) -> {
+            if (ep == null) {
+                ep = new ControlPoint(this, deploymentName, entryPointName, trackIndividualControlPoints);
+            }
+            ep.increaseReferenceCount();
+            return ep;
+        });
     }
 
     /**
@@ -280,11 +294,9 @@ public class RequestController implements Service<RequestController>, ServerActi
      *
      * @param controlPoint The entry point
      */
-    public synchronized void removeControlPoint(ControlPoint controlPoint) {
-        if (controlPoint.decreaseReferenceCount() == 0) {
-            ControlPointIdentifier id = new ControlPointIdentifier(controlPoint.getDeployment(), controlPoint.getEntryPoint());
-            entryPoints.remove(id);
-        }
+    public void removeControlPoint(ControlPoint controlPoint) {
+        ControlPointIdentifier id = new ControlPointIdentifier(controlPoint.getDeployment(), controlPoint.getEntryPoint());
+        entryPoints.computeIfPresent(id, (key, ep) -> ep.decreaseReferenceCount() == 0 ? null : ep);
     }
 
     /**
@@ -304,7 +316,7 @@ public class RequestController implements Service<RequestController>, ServerActi
      */
     public void setMaxRequestCount(int maxRequestCount) {
         this.maxRequestCount = maxRequestCount;
-        while (!taskQueue.isEmpty() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
+        while (hasQueuedTasks() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
             if(!runQueuedTask(false)) {
                 break;
             }
@@ -321,19 +333,20 @@ public class RequestController implements Service<RequestController>, ServerActi
     @Override
     public void start(StartContext startContext) throws StartException {
         shutdownControllerInjectedValue.getValue().registerActivity(this);
-        timer = new Timer();
+        timeoutWheel = new TimeoutWheel("Request Controller Queue Timeout");
     }
 
     @Override
     public void stop(StopContext stopContext) {
         shutdownControllerInjectedValue.getValue().unRegisterActivity(this);
-        timer.cancel();
-        timer = null;
-        while (!taskQueue.isEmpty()) {
-            QueuedTask t = taskQueue.poll();
-            if(t != null) {
-                t.run();
-            }
+        timeoutWheel.stop();
+        timeoutWheel = null;
+        QueuedTask t;
+        while ((t = forceRunQueue.poll()) != null) {
+            t.run();
+        }
+        while ((t = taskQueue.poll()) != null) {
+            t.run();
         }
     }
 
@@ -358,45 +371,55 @@ public class RequestController implements Service<RequestController>, ServerActi
             }
         }
         QueuedTask queuedTask = new QueuedTask(taskExecutor, task, timeoutTask, controlPoint, forceRun);
-        taskQueue.add(queuedTask);
+        if(forceRun) {
+            forceRunQueue.add(queuedTask);
+        } else {
+            taskQueue.add(queuedTask);
+        }
         runQueuedTask(false);
         if(queuedTask.isQueued()) {
             if(timeout > 0) {
-                timer.schedule(queuedTask, timeout);
+                timeoutWheel.schedule(queuedTask, timeout);
             }
         }
     }
 
+    private boolean hasQueuedTasks() {
+        return !forceRunQueue.isEmpty() || !taskQueue.isEmpty();
+    }
+
+    /**
+     * Takes the next task that is allowed to run in the current state. Force run tasks are preferred, and are the
+     * only tasks that can be taken while the container is suspended.
+     */
+    private QueuedTask pollQueuedTask() {
+        QueuedTask task = forceRunQueue.poll();
+        if (task == null && !paused) {
+            task = taskQueue.poll();
+        }
+        return task;
+    }
+
     /**
      * Runs a queued task, if the queue is not already empty.
      *
      * Note that this will decrement the request count if there are no queued tasks to be run
      *
-     * @param hasPermit If the caller has already called {@link #beginRequest(boolean force)}
+     * @param hasPermit If the caller has already called {@link #beginRequest(boolean force)}, in which case
+     *                  the permit is handed over to the next queued task rather than being released
      */
     private boolean runQueuedTask(boolean hasPermit) {
-        QueuedTask task = null;
         if(!hasPermit) {
             if(!paused) {
+                if (taskQueue.isEmpty() && forceRunQueue.isEmpty()) {
+                    return false;
+                }
                 if (beginRequest(false) == RunResult.REJECTED) {
                     return false;
                 }
-                task = taskQueue.poll();
             } else {
                 //the container is suspended, but we still need to run any force queued tasks
-                List<QueuedTask> storage = new ArrayList<>();
-                while (task == null && !taskQueue.isEmpty()) {
-                    QueuedTask tmp = taskQueue.poll();
-                    if(tmp.forceRun) {
-                        task = tmp;
-                    } else {
-                        storage.add(tmp);
-                    }
-                }
-                //this screws the order somewhat, but the container is suspending anyway, and the order
-                //was never guarenteed. if we push them back onto the front we will need to just go through them again
-                taskQueue.addAll(storage);
-                if(task == null) {
+                if (forceRunQueue.isEmpty()) {
                     return false;
                 }
                 //after all that we are at the max request limit anyway
@@ -405,15 +428,15 @@ public class RequestController implements Service<RequestController>, ServerActi
                 }
             }
         }
-        if(task != null) {
-            if(!task.runRequest()) {
-                decrementRequestCount();
+        QueuedTask task;
+        while ((task = pollQueuedTask()) != null) {
+            //tasks that have already timed out just give the permit to the next one in line
+            if(task.runRequest()) {
+                return true;
             }
-            return true;
-        } else {
-            decrementRequestCount();
-            return false;
         }
+        decrementRequestCount();
+        return false;
     }
 
     private static final class ControlPointIdentifier {
@@ -451,7 +474,7 @@ public class RequestController implements Service<RequestController>, ServerActi
     }
 
 
-    private static final class QueuedTask extends TimerTask {
+    private static final class QueuedTask extends TimeoutWheel.Timeout implements Runnable {
 
         private final Executor executor;
         private final Runnable task;
@@ -472,6 +495,16 @@ public class RequestController implements Service<RequestController>, ServerActi
             this.forceRun = forceRun;
         }
 
+        @Override
+        protected void expire() {
+            run();
+        }
+
+        @Override
+        protected boolean isCancelled() {
+            return state.get() != 0;
+        }
+
         @Override
         public void run() {
             if(state.compareAndSet(0, 2)) {
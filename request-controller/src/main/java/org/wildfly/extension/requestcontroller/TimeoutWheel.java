@@ -0,0 +1,244 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.requestcontroller;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.wildfly.extension.requestcontroller.logging.RequestControllerLogger;
+
+/**
+ * A hashed timing wheel used to time out queued requests.
+ * <p/>
+ * Scheduling only appends the timeout to a lock free queue, and cancellation only marks it, so neither operation
+ * contends with other callers. A single worker thread moves new timeouts into their bucket and expires the
+ * bucket for the current tick. Cancelled timeouts are unlinked from their bucket on the next tick, so they do
+ * not stay reachable until their original deadline.
+ * <p/>
+ * The worker only ticks while timeouts are scheduled. Once the wheel is empty it parks until the next call to
+ * {@link #schedule(Timeout, long)}, so an idle wheel does not wake up every tick.
+ * <p/>
+ * Timeouts are fired with a resolution of one tick, which is more than adequate for request queue timeouts.
+ */
+final class TimeoutWheel {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    /**
+     * The number of timeouts that are pending or in a bucket
+     */
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final Thread worker;
+    private final long startTime;
+
+    private volatile boolean stopped;
+
+    /**
+     * Only accessed by the worker thread
+     */
+    private long tick;
+
+    TimeoutWheel(String threadName) {
+        for (int i = 0; i < WHEEL_SIZE; ++i) {
+            wheel[i] = new Bucket();
+        }
+        startTime = System.nanoTime();
+        worker = new Thread(this::runWorker, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Schedules the timeout to expire after the given delay.
+     *
+     * @param timeout The timeout, which must not already be scheduled
+     * @param delay   The delay in milliseconds
+     */
+    void schedule(Timeout timeout, long delay) {
+        timeout.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+        timeout.wheel = this;
+        pending.add(timeout);
+        if (scheduled.getAndIncrement() == 0) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Stops the worker thread. Any timeouts that have not expired yet will never be fired.
+     */
+    void stop() {
+        stopped = true;
+        LockSupport.unpark(worker);
+    }
+
+    private void runWorker() {
+        while (!stopped) {
+            if (scheduled.get() == 0) {
+                LockSupport.park(this);
+                if (scheduled.get() == 0) {
+                    continue;
+                }
+                // The wheel is empty, so skip the ticks that passed while it was idle
+                tick = Math.max(tick, (System.nanoTime() - startTime) / TICK_NANOS);
+            }
+            final long wakeup = startTime + (tick + 1) * TICK_NANOS;
+            long now = System.nanoTime();
+            while (now - wakeup < 0) {
+                LockSupport.parkNanos(this, wakeup - now);
+                if (stopped) {
+                    return;
+                }
+                now = System.nanoTime();
+            }
+            removeCancelled();
+            transferPending();
+            wheel[(int) (tick & MASK)].expire();
+            ++tick;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                scheduled.decrementAndGet();
+                continue;
+            }
+            long ticks = (timeout.deadline - startTime) / TICK_NANOS;
+            timeout.remainingRounds = (ticks - tick) / WHEEL_SIZE;
+            wheel[(int) (Math.max(ticks, tick) & MASK)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * An entry in the wheel. This is intended to be extended by the object that is being timed out, so that
+     * scheduling does not require any additional allocation.
+     */
+    abstract static class Timeout {
+
+        private long deadline;
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+        private volatile TimeoutWheel wheel;
+
+        /**
+         * Invoked by the wheel thread once the timeout has expired. This must not block.
+         */
+        protected abstract void expire();
+
+        /**
+         * @return <code>true</code> if this timeout should no longer be fired
+         */
+        protected abstract boolean isCancelled();
+
+        /**
+         * Releases this timeout from the wheel. Subclasses must make sure {@link #isCancelled()} returns true before
+         * calling this method, this only allows the wheel to drop its reference early.
+         */
+        protected void cancel() {
+            TimeoutWheel wheel = this.wheel;
+            if (wheel != null) {
+                this.wheel = null;
+                wheel.cancelled.add(this);
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of timeouts, only ever accessed by the worker thread
+     */
+    private final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    try {
+                        timeout.expire();
+                    } catch (RuntimeException e) {
+                        RequestControllerLogger.ROOT_LOGGER.failedToCancelTask(timeout, e);
+                    }
+                } else {
+                    --timeout.remainingRounds;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            scheduled.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *
+ *  JBoss, Home of Professional Open Source.
+ *  Copyright 2017, Red Hat, Inc., and individual contributors
+ *  as indicated by the @author tags. See the copyright.txt file in the
+ *  distribution for a full listing of individual contributors.
+ *
+ *  This is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU Lesser General Public License as
+ *  published by the Free Software Foundation; either version 2.1 of
+ *  the License, or (at your option) any later version.
+ *
+ *  This software is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ *  Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public
+ *  License along with this software; if not, write to the Free
+ *  Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ *  02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ * /
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link TimeoutWheel}.
+ */
+public class TimeoutWheelUnitTestCase {
+
+    private TimeoutWheel wheel;
+
+    @Before
+    public void setUp() {
+        wheel = new TimeoutWheel("TimeoutWheelUnitTestCase");
+    }
+
+    @After
+    public void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    public void testTimeoutsExpire() throws Exception {
+        TestTimeout first = new TestTimeout();
+        TestTimeout second = new TestTimeout();
+        TestTimeout immediate = new TestTimeout();
+        wheel.schedule(first, 50);
+        wheel.schedule(second, 200);
+        wheel.schedule(immediate, 0);
+        Assert.assertTrue(immediate.latch.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(first.latch.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(second.latch.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTimeoutLongerThanOneRotation() throws Exception {
+        // 512 ticks of 10ms, so this needs more than one full rotation of the wheel
+        TestTimeout timeout = new TestTimeout();
+        long start = System.nanoTime();
+        wheel.schedule(timeout, 6000);
+        Assert.assertTrue(timeout.latch.await(20, TimeUnit.SECONDS));
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 5990);
+    }
+
+    @Test
+    public void testCancelledTimeoutsDoNotExpire() throws Exception {
+        TestTimeout cancelled = new TestTimeout();
+        TestTimeout marker = new TestTimeout();
+        wheel.schedule(cancelled, 50);
+        wheel.schedule(marker, 100);
+        cancelled.cancelTimeout();
+        Assert.assertTrue(marker.latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(1, cancelled.latch.getCount());
+    }
+
+    @Test
+    public void testWorkerParksWhenIdle() throws Exception {
+        Thread worker = null;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("TimeoutWheelUnitTestCase")) {
+                worker = thread;
+            }
+        }
+        Assert.assertNotNull(worker);
+        // Nothing is scheduled, so the worker waits without a timeout
+        awaitState(worker, Thread.State.WAITING);
+
+        TestTimeout timeout = new TestTimeout();
+        long start = System.nanoTime();
+        wheel.schedule(timeout, 100);
+        Assert.assertTrue(timeout.latch.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 90);
+        awaitState(worker, Thread.State.WAITING);
+
+        // Cancelled timeouts don't keep the worker ticking either
+        TestTimeout cancelled = new TestTimeout();
+        TestTimeout marker = new TestTimeout();
+        wheel.schedule(cancelled, 60000);
+        wheel.schedule(marker, 50);
+        cancelled.cancelTimeout();
+        Assert.assertTrue(marker.latch.await(10, TimeUnit.SECONDS));
+        awaitState(worker, Thread.State.WAITING);
+        Assert.assertEquals(1, cancelled.latch.getCount());
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() != state) {
+            Assert.assertTrue("Worker did not reach state " + state, System.nanoTime() - deadline < 0);
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class TestTimeout extends TimeoutWheel.Timeout {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        @Override
+        protected void expire() {
+            latch.countDown();
+        }
+
+        @Override
+        protected boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        void cancelTimeout() {
+            cancelled.set(true);
+            cancel();
+        }
+    }
+}
@@ -35,6 +35,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -96,6 +98,7 @@ import org.jboss.as.server.deployment.SubDeploymentProcessor;
 import org.jboss.as.server.deployment.annotation.AnnotationIndexProcessor;
 import org.jboss.as.server.deployment.annotation.CleanupAnnotationIndexProcessor;
 import org.jboss.as.server.deployment.annotation.CompositeIndexProcessor;
+import org.jboss.as.server.deployment.annotation.ResourceRootIndexCache;
 import org.jboss.as.server.deployment.dependencies.DeploymentDependenciesProcessor;
 import org.jboss.as.server.deployment.integration.Seam2Processor;
 import org.jboss.as.server.deployment.jbossallxml.JBossAllXMLParsingProcessor;
@@ -155,6 +158,8 @@ public final class ServerService extends AbstractControllerService {
     /** Service is not for general use, so the service name is not declared in the more visible {@code Services} */
     public static final ServiceName JBOSS_SERVER_SCHEDULED_EXECUTOR = EXECUTOR_CAPABILITY.getCapabilityServiceName().append("scheduled");
     static final ServiceName MANAGEMENT_EXECUTOR = EXECUTOR_CAPABILITY.getCapabilityServiceName();
+    /** Number of threads used to index the resource roots of a deployment in parallel; {@code 0} or {@code 1} to index sequentially */
+    static final String ANNOTATION_INDEXING_PARALLELISM = "org.jboss.as.server.deployment.annotation-index.parallelism";
 
     private final InjectedValue<DeploymentMountProvider> injectedDeploymentRepository = new InjectedValue<DeploymentMountProvider>();
     private final InjectedValue<ContentRepository> injectedContentRepository = new InjectedValue<ContentRepository>();
@@ -168,6 +173,7 @@ public final class ServerService extends AbstractControllerService {
     private final ControlledProcessState processState;
     private final RunningModeControl runningModeControl;
     private volatile ExtensibleConfigurationPersister extensibleConfigurationPersister;
+    private volatile ForkJoinPool annotationIndexingPool;
     private final AbstractVaultReader vaultReader;
     private final ServerDelegatingResourceDefinition rootResourceDefinition;
     private final SuspendController suspendController;
@@ -306,6 +312,7 @@ public final class ServerService extends AbstractControllerService {
             newExtDirs[extDirs.length] = new File(serverEnvironment.getServerBaseDir(), "lib/ext");
             serviceTarget.addService(org.jboss.as.server.deployment.Services.JBOSS_DEPLOYMENT_EXTENSION_INDEX,
                     new ExtensionIndexService(newExtDirs)).setInitialMode(ServiceController.Mode.ON_DEMAND).install();
+            annotationIndexingPool = createAnnotationIndexingPool();
             final Boolean suspend = runningModeControl.getSuspend()!= null ? runningModeControl.getSuspend() : serverEnvironment.isStartSuspended();
             suspendController.setStartSuspended(suspend);
             runningModeControl.setSuspend(false);
@@ -342,7 +349,7 @@ public final class ServerService extends AbstractControllerService {
             DeployerChainAddHandler.addDeploymentProcessor(SERVER_NAME, Phase.STRUCTURE, Phase.STRUCTURE_DEFERRED_DEPLOYMENT_OVERLAY, new DeferredDeploymentOverlayDeploymentUnitProcessor(injectedContentRepository.getValue()));
             DeployerChainAddHandler.addDeploymentProcessor(SERVER_NAME, Phase.STRUCTURE, Phase.STRUCTURE_SUB_DEPLOYMENT, new SubDeploymentProcessor());
             DeployerChainAddHandler.addDeploymentProcessor(SERVER_NAME, Phase.STRUCTURE, Phase.STRUCTURE_MODULE_IDENTIFIERS, new ModuleIdentifierProcessor());
-            DeployerChainAddHandler.addDeploymentProcessor(SERVER_NAME, Phase.STRUCTURE, Phase.STRUCTURE_ANNOTATION_INDEX, new AnnotationIndexProcessor());
+            DeployerChainAddHandler.addDeploymentProcessor(SERVER_NAME, Phase.STRUCTURE, Phase.STRUCTURE_ANNOTATION_INDEX, new AnnotationIndexProcessor(ResourceRootIndexCache.create(serverEnvironment.getServerDataDir()), annotationIndexingPool));
             DeployerChainAddHandler.addDeploymentProcessor(SERVER_NAME, Phase.STRUCTURE, Phase.STRUCTURE_PARSE_JBOSS_ALL_XML, new JBossAllXMLParsingProcessor());
             DeployerChainAddHandler.addDeploymentProcessor(SERVER_NAME, Phase.STRUCTURE, Phase.STRUCTURE_JBOSS_DEPLOYMENT_STRUCTURE, new DeploymentStructureDescriptorParser());
             DeployerChainAddHandler.addDeploymentProcessor(SERVER_NAME, Phase.STRUCTURE, Phase.STRUCTURE_CLASS_PATH, new ManifestClassPathProcessor());
@@ -438,6 +445,10 @@ public final class ServerService extends AbstractControllerService {
     }
 
     public void stop(final StopContext context) {
+        if (annotationIndexingPool != null) {
+            annotationIndexingPool.shutdown();
+            annotationIndexingPool = null;
+        }
         configuration.getExtensionRegistry().clear();
         configuration.getServerEnvironment().resetProvidedProperties();
         super.stop(context);
@@ -487,6 +498,38 @@ public final class ServerService extends AbstractControllerService {
         };
     }
 
+    /**
+     * Creates the pool used to index the resource roots of a deployment in parallel, sized by the
+     * {@link #ANNOTATION_INDEXING_PARALLELISM} system property.
+     *
+     * @return the pool, or {@code null} if resource roots should be indexed sequentially
+     */
+    static ForkJoinPool createAnnotationIndexingPool() {
+        final int defaultParallelism = Runtime.getRuntime().availableProcessors();
+        int parallelism = defaultParallelism;
+        String val = WildFlySecurityManager.getPropertyPrivileged(ANNOTATION_INDEXING_PARALLELISM, null);
+        if (val != null) {
+            try {
+                int result = Integer.parseInt(val);
+                if (result >= 0) {
+                    parallelism = result;
+                } else {
+                    ServerLogger.ROOT_LOGGER.invalidAnnotationIndexingParallelism(val, ANNOTATION_INDEXING_PARALLELISM, defaultParallelism);
+                }
+            } catch (NumberFormatException nfe) {
+                ServerLogger.ROOT_LOGGER.invalidAnnotationIndexingParallelism(val, ANNOTATION_INDEXING_PARALLELISM, defaultParallelism);
+            }
+        }
+        if (parallelism <= 1) {
+            return null;
+        }
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("annotation-indexing-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
     /** Temporary replacement for QueuelessThreadPoolService */
     private static class ServerExecutorService implements Service<ExecutorService> {
 
@@ -44,6 +44,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationContext.ResultAction;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.ParallelBootOperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.ProcessType;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
@@ -134,13 +135,14 @@ public class DeploymentAddHandler implements OperationStepHandler {
         }
 
         if (context.getProcessType() == ProcessType.STANDALONE_SERVER) {
-            // Add a step to validate uniqueness of runtime names
-            context.addStep(new OperationStepHandler() {
+            // Add a step to validate uniqueness of runtime names. This reads the other deployments, so if
+            // deployments are booting in parallel it has to wait until they have all been added
+            ParallelBootOperationStepHandler.addModelStepAfterParallelBoot(context, operation, new OperationStepHandler() {
                 @Override
                 public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
                     validateRuntimeNames(name, context);
                 }
-            }, OperationContext.Stage.MODEL);
+            });
         }
 
         if (ENABLED.resolveModelAttribute(context, newModel).asBoolean() && context.isNormalServer()) {
@@ -27,6 +27,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.as.server.logging.ServerLogger;
@@ -158,6 +159,7 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
             }
         }
 
+        final long start = System.nanoTime();
         while (iterator.hasNext()) {
             final RegisteredDeploymentUnitProcessor processor = iterator.next();
             try {
@@ -172,6 +174,10 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
                 throw ServerLogger.ROOT_LOGGER.deploymentPhaseFailed(phase, deploymentUnit, e);
             }
         }
+        if (ServerLogger.DEPLOYMENT_LOGGER.isDebugEnabled()) {
+            ServerLogger.DEPLOYMENT_LOGGER.debugf("Phase %s of deployment %s completed in %d ms", phase, name,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
 
         final Phase nextPhase = phase.next();
         if (nextPhase != null) {
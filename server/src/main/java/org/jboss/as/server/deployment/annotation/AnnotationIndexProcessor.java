@@ -22,12 +22,20 @@
 
 package org.jboss.as.server.deployment.annotation;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 import org.jboss.as.server.deployment.DeploymentUtils;
 import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.as.server.logging.ServerLogger;
 
 /**
  * Deployment unit processor responsible for creating and attaching an annotation index for a resource root
@@ -37,6 +45,23 @@ import org.jboss.as.server.deployment.module.ResourceRoot;
  */
 public class AnnotationIndexProcessor implements DeploymentUnitProcessor {
 
+    private final ResourceRootIndexCache indexCache;
+    private final ForkJoinPool indexingPool;
+
+    public AnnotationIndexProcessor() {
+        this(null, null);
+    }
+
+    /**
+     * @param indexCache cache of generated indexes, or {@code null} if indexes should not be cached
+     * @param indexingPool pool used to index the resource roots of a deployment in parallel, or {@code null}
+     *                     if they should be indexed one after another by the deployment thread
+     */
+    public AnnotationIndexProcessor(final ResourceRootIndexCache indexCache, final ForkJoinPool indexingPool) {
+        this.indexCache = indexCache;
+        this.indexingPool = indexingPool;
+    }
+
     /**
      * Process this deployment for annotations.  This will use an annotation indexer to create an index of all annotations
      * found in this deployment and attach it to the deployment unit context.
@@ -47,7 +72,52 @@ public class AnnotationIndexProcessor implements DeploymentUnitProcessor {
      */
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
-        for (ResourceRoot resourceRoot : DeploymentUtils.allResourceRoots(deploymentUnit)) {
+        final List<ResourceRoot> resourceRoots = DeploymentUtils.allResourceRoots(deploymentUnit);
+        if (indexingPool == null || resourceRoots.size() < 2) {
+            for (ResourceRoot resourceRoot : resourceRoots) {
+                indexResourceRoot(deploymentUnit, resourceRoot);
+            }
+            return;
+        }
+
+        // Each root gets its own task and its own attachment, so the indexes, and the CompositeIndex later built
+        // from them in resource root order, are the same as when indexing sequentially
+        final List<ForkJoinTask<Void>> tasks = new ArrayList<>(resourceRoots.size());
+        for (final ResourceRoot resourceRoot : resourceRoots) {
+            tasks.add(indexingPool.submit(() -> {
+                indexResourceRoot(deploymentUnit, resourceRoot);
+                return null;
+            }));
+        }
+        DeploymentUnitProcessingException failure = null;
+        for (ForkJoinTask<Void> task : tasks) {
+            try {
+                // Always wait for every task, so no indexing is still running once this processor returns
+                task.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    final Throwable cause = e.getCause();
+                    failure = cause instanceof DeploymentUnitProcessingException
+                            ? (DeploymentUnitProcessingException) cause
+                            : ServerLogger.ROOT_LOGGER.deploymentIndexingFailed(cause);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (ForkJoinTask<Void> t : tasks) {
+                    t.cancel(false);
+                }
+                throw ServerLogger.ROOT_LOGGER.deploymentIndexingFailed(e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void indexResourceRoot(final DeploymentUnit deploymentUnit, final ResourceRoot resourceRoot) throws DeploymentUnitProcessingException {
+        if (indexCache != null && resourceRoot.getAttachment(Attachments.ANNOTATION_INDEX) == null) {
+            ResourceRootIndexer.indexResourceRoot(resourceRoot, indexCache, indexCache.getKey(deploymentUnit, resourceRoot));
+        } else {
             ResourceRootIndexer.indexResourceRoot(resourceRoot);
         }
     }
@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -130,7 +131,8 @@ public class CompositeIndexProcessor implements DeploymentUnitProcessor {
      * adds them to the list of roots to be processed.
      */
     private Collection<? extends ResourceRoot> handleClassPathItems(final DeploymentUnit deploymentUnit) {
-        final Set<ResourceRoot> additionalRoots = new HashSet<ResourceRoot>();
+        // keep the discovery order, so the composite index is the same on every deployment
+        final Set<ResourceRoot> additionalRoots = new LinkedHashSet<ResourceRoot>();
         final ArrayDeque<ResourceRoot> toProcess = new ArrayDeque<ResourceRoot>();
         final List<ResourceRoot> resourceRoots = DeploymentUtils.allResourceRoots(deploymentUnit);
         toProcess.addAll(resourceRoots);
@@ -0,0 +1,256 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.server.deployment.annotation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jboss.as.controller.HashUtil;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentModelUtils;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUtils;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.as.server.deploymentoverlay.DeploymentOverlayIndex;
+import org.jboss.as.server.logging.ServerLogger;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * On-disk cache of the annotation indexes generated for deployment resource roots.
+ * <p>
+ * Entries are keyed by the content hash of the deployment, the path of the resource root within it and
+ * anything else that changes the generated index (ignored paths and deployment overlays), so the classes
+ * of an unchanged archive do not have to be scanned again on redeploy or server restart. Resource roots
+ * whose content cannot be identified by hash, e.g. unmanaged deployments, are never cached.
+ * <p>
+ * The total size of the cache is bounded; the least recently used entries are evicted first.
+ */
+public final class ResourceRootIndexCache {
+
+    /** System property holding the maximum size of the cache in bytes. {@code 0} disables the cache. */
+    public static final String MAX_SIZE_PROPERTY = "org.jboss.as.server.deployment.annotation-index-cache.max-size";
+
+    static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+    static final String CACHE_DIR = "annotation-index";
+    private static final String SUFFIX = ".idx";
+
+    private final Path dir;
+    private final long maxSize;
+
+    ResourceRootIndexCache(final Path dir, final long maxSize) {
+        this.dir = dir;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates the cache for a server, sized according to the {@link #MAX_SIZE_PROPERTY} system property.
+     *
+     * @param serverDataDir the server data directory, under which the cache is stored
+     * @return the cache, or {@code null} if it has been disabled
+     */
+    public static ResourceRootIndexCache create(final File serverDataDir) {
+        long maxSize = DEFAULT_MAX_SIZE;
+        final String value = WildFlySecurityManager.getPropertyPrivileged(MAX_SIZE_PROPERTY, null);
+        if (value != null) {
+            try {
+                maxSize = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                maxSize = -1;
+            }
+            if (maxSize < 0) {
+                ServerLogger.ROOT_LOGGER.invalidAnnotationIndexCacheSize(value, MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+                maxSize = DEFAULT_MAX_SIZE;
+            }
+        }
+        return maxSize == 0 ? null : new ResourceRootIndexCache(new File(serverDataDir, CACHE_DIR).toPath(), maxSize);
+    }
+
+    /**
+     * Computes the cache key of a resource root.
+     *
+     * @param deploymentUnit the deployment unit the resource root belongs to
+     * @param resourceRoot the resource root
+     * @return the key, or {@code null} if the index of the resource root cannot be cached
+     */
+    String getKey(final DeploymentUnit deploymentUnit, final ResourceRoot resourceRoot) {
+        final DeploymentUnit top = deploymentUnit.getParent() == null ? deploymentUnit : deploymentUnit.getParent();
+        final Resource deployment = top.getAttachment(DeploymentModelUtils.DEPLOYMENT_RESOURCE);
+        final ResourceRoot deploymentRoot = top.getAttachment(Attachments.DEPLOYMENT_ROOT);
+        if (deployment == null || deploymentRoot == null) {
+            return null;
+        }
+        final List<byte[]> hashes = DeploymentUtils.getDeploymentHash(deployment.getModel());
+        if (hashes.size() != 1) {
+            // Unmanaged content, whose hash we don't know
+            return null;
+        }
+        final String path;
+        if (resourceRoot.getRoot().equals(deploymentRoot.getRoot())) {
+            path = "";
+        } else {
+            try {
+                path = resourceRoot.getRoot().getPathNameRelativeTo(deploymentRoot.getRoot());
+            } catch (IllegalArgumentException e) {
+                // Not part of the deployment content
+                return null;
+            }
+        }
+
+        final StringBuilder key = new StringBuilder(HashUtil.bytesToHexString(hashes.get(0)));
+        key.append('\n').append(path);
+        final String jandexVersion = Index.class.getPackage().getImplementationVersion();
+        if (jandexVersion != null) {
+            key.append("\njandex:").append(jandexVersion);
+        }
+        final List<String> ignorePaths = resourceRoot.getAttachment(Attachments.INDEX_IGNORE_PATHS);
+        if (ignorePaths != null) {
+            for (String ignored : new TreeSet<>(ignorePaths)) {
+                key.append("\nignore:").append(ignored);
+            }
+        }
+        final DeploymentOverlayIndex overlays = top.getAttachment(Attachments.DEPLOYMENT_OVERLAY_INDEX);
+        if (overlays != null) {
+            for (Map.Entry<String, byte[]> overlay : new TreeMap<>(overlays.getOverlays(top.getName())).entrySet()) {
+                key.append("\noverlay:").append(overlay.getKey()).append('=').append(HashUtil.bytesToHexString(overlay.getValue()));
+            }
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HashUtil.bytesToHexString(digest.digest(key.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads a cached index.
+     *
+     * @param key the key, as returned by {@link #getKey(DeploymentUnit, ResourceRoot)}
+     * @return the index, or {@code null} if it is not cached or could not be read
+     */
+    Index read(final String key) {
+        final Path file = dir.resolve(key + SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            final Index index = new IndexReader(in).read();
+            // Record the use for LRU eviction
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            ServerLogger.DEPLOYMENT_LOGGER.tracef("Read cached index %s", file);
+            return index;
+        } catch (IOException | RuntimeException e) {
+            ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Discarding unreadable cached index %s", file);
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    /**
+     * Stores an index in the cache, evicting older entries if the cache has grown beyond its maximum size.
+     * Failures are logged and otherwise ignored, as the cache is only an optimization.
+     *
+     * @param key the key, as returned by {@link #getKey(DeploymentUnit, ResourceRoot)}
+     * @param index the index
+     */
+    void write(final String key, final Index index) {
+        Path temp = null;
+        try {
+            Files.createDirectories(dir);
+            temp = Files.createTempFile(dir, key, ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                new IndexWriter(out).write(index);
+            }
+            Files.move(temp, dir.resolve(key + SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            evict();
+        } catch (IOException | RuntimeException e) {
+            ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Could not cache index %s", key);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private synchronized void evict() throws IOException {
+        final List<Map.Entry<Path, BasicFileAttributes>> entries = new ArrayList<>();
+        long size = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path entry : stream) {
+                try {
+                    final BasicFileAttributes attrs = Files.readAttributes(entry, BasicFileAttributes.class);
+                    entries.add(new AbstractMap.SimpleImmutableEntry<>(entry, attrs));
+                    size += attrs.size();
+                } catch (NoSuchFileException ignored) {
+                    // concurrently replaced or evicted
+                }
+            }
+        }
+        if (size > maxSize) {
+            entries.sort(Comparator.comparing((Map.Entry<Path, BasicFileAttributes> entry) -> entry.getValue().lastModifiedTime()));
+            for (Map.Entry<Path, BasicFileAttributes> entry : entries) {
+                if (size <= maxSize) {
+                    break;
+                }
+                deleteQuietly(entry.getKey());
+                size -= entry.getValue().size();
+                ServerLogger.DEPLOYMENT_LOGGER.tracef("Evicted cached index %s", entry.getKey());
+            }
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Could not delete %s", file);
+        }
+    }
+}
@@ -50,6 +50,18 @@ public class ResourceRootIndexer {
      * Creates and attaches the annotation index to a resource root, if it has not already been attached
      */
     public static void indexResourceRoot(final ResourceRoot resourceRoot) throws DeploymentUnitProcessingException {
+        indexResourceRoot(resourceRoot, null, null);
+    }
+
+    /**
+     * Creates and attaches the annotation index to a resource root, if it has not already been attached. A generated
+     * index is read from, or stored in, the given cache.
+     *
+     * @param resourceRoot the resource root
+     * @param cache the index cache, or {@code null} if the index should not be cached
+     * @param cacheKey the key of the resource root in the cache, or {@code null} if the index should not be cached
+     */
+    static void indexResourceRoot(final ResourceRoot resourceRoot, final ResourceRootIndexCache cache, final String cacheKey) throws DeploymentUnitProcessingException {
         if (resourceRoot.getAttachment(Attachments.ANNOTATION_INDEX) != null) {
             return;
         }
@@ -80,6 +92,16 @@ public class ResourceRootIndexer {
             indexIgnorePaths = null;
         }
 
+        final boolean cached = cache != null && cacheKey != null;
+        if (cached) {
+            final Index index = cache.read(cacheKey);
+            if (index != null) {
+                resourceRoot.putAttachment(Attachments.ANNOTATION_INDEX, index);
+                ServerLogger.DEPLOYMENT_LOGGER.tracef("Found cached index for archive %s", resourceRoot.getRoot());
+                return;
+            }
+        }
+
         final VirtualFile virtualFile = resourceRoot.getRoot();
         final Indexer indexer = new Indexer();
         try {
@@ -106,6 +128,9 @@ public class ResourceRootIndexer {
             final Index index = indexer.complete();
             resourceRoot.putAttachment(Attachments.ANNOTATION_INDEX, index);
             ServerLogger.DEPLOYMENT_LOGGER.tracef("Generated index for archive %s", virtualFile);
+            if (cached) {
+                cache.write(cacheKey, index);
+            }
         } catch (Throwable t) {
             throw ServerLogger.ROOT_LOGGER.deploymentIndexingFailed(t);
         }
@@ -54,9 +54,13 @@ public final class ClassReflectionIndex {
     private final Class<?> indexedClass;
     private final Map<String, Field> fields;
     private final Map<ParamList, Constructor<?>> constructors;
-    private final Map<ParamNameList, Constructor<?>> constructorsByTypeName;
     private final Map<String, Map<ParamList, Map<Class<?>, Method>>> methods;
-    private final Map<String, Map<ParamNameList, Map<String, Method>>> methodsByTypeName;
+
+    /**
+     * Type name keyed views of {@link #constructors} and {@link #methods}, only built if a lookup by type name is made
+     */
+    private volatile Map<ParamNameList, Constructor<?>> constructorsByTypeName;
+    private volatile Map<String, Map<ParamNameList, Map<String, Method>>> methodsByTypeName;
 
     /**
      * Identity map of all methods defined by this class and its superclasses (including default methods)
@@ -79,29 +83,48 @@ public final class ClassReflectionIndex {
         // -- methods --
         final Method[] declaredMethods = indexedClass.getDeclaredMethods();
         final Map<String, Map<ParamList, Map<Class<?>, Method>>> methods = new HashMap<String, Map<ParamList, Map<Class<?>, Method>>>();
-        final Map<String, Map<ParamNameList, Map<String, Method>>> methodsByTypeName = new HashMap<String, Map<ParamNameList, Map<String, Method>>>();
         for (Method method : declaredMethods) {
             method.setAccessible(true);
             addMethod(methods, method);
-            addMethodByTypeName(methodsByTypeName, method);
         }
-
         this.methods = methods;
-        this.methodsByTypeName = methodsByTypeName;
         // -- constructors --
         final Constructor<?>[] declaredConstructors = (Constructor<?>[]) indexedClass.getDeclaredConstructors();
-        final Map<ParamNameList, Constructor<?>> constructorsByTypeName = new HashMap<ParamNameList, Constructor<?>>();
         final Map<ParamList, Constructor<?>> constructors = new HashMap<ParamList, Constructor<?>>();
         for (Constructor<?> constructor : declaredConstructors) {
             constructor.setAccessible(true);
-            Class<?>[] parameterTypes = constructor.getParameterTypes();
-            constructors.put(createParamList(parameterTypes), constructor);
-            constructorsByTypeName.put(createParamNameList(parameterTypes), constructor);
+            constructors.put(createParamList(constructor.getParameterTypes()), constructor);
         }
-        this.constructorsByTypeName = constructorsByTypeName;
         this.constructors = constructors;
     }
 
+    // The type name keyed views are built without locking; if two threads race, both build an equal map and
+    // either one may be kept
+
+    private Map<String, Map<ParamNameList, Map<String, Method>>> getMethodsByTypeName() {
+        Map<String, Map<ParamNameList, Map<String, Method>>> methodsByTypeName = this.methodsByTypeName;
+        if (methodsByTypeName == null) {
+            methodsByTypeName = new HashMap<String, Map<ParamNameList, Map<String, Method>>>();
+            for (Method method : getMethods()) {
+                addMethodByTypeName(methodsByTypeName, method);
+            }
+            this.methodsByTypeName = methodsByTypeName;
+        }
+        return methodsByTypeName;
+    }
+
+    private Map<ParamNameList, Constructor<?>> getConstructorsByTypeName() {
+        Map<ParamNameList, Constructor<?>> constructorsByTypeName = this.constructorsByTypeName;
+        if (constructorsByTypeName == null) {
+            constructorsByTypeName = new HashMap<ParamNameList, Constructor<?>>();
+            for (Constructor<?> constructor : constructors.values()) {
+                constructorsByTypeName.put(createParamNameList(constructor.getParameterTypes()), constructor);
+            }
+            this.constructorsByTypeName = constructorsByTypeName;
+        }
+        return constructorsByTypeName;
+    }
+
     private static final ParamList EMPTY = new ParamList(new Class<?>[0]);
     private static final ParamNameList EMPTY_NAMES = new ParamNameList(new String[0]);
 
@@ -228,7 +251,7 @@ public final class ClassReflectionIndex {
      * @return the method, or {@code null} if no method of that description exists
      */
     public Method getMethod(String returnType, String name, String... paramTypeNames) {
-        final Map<ParamNameList, Map<String, Method>> nameMap = methodsByTypeName.get(name);
+        final Map<ParamNameList, Map<String, Method>> nameMap = getMethodsByTypeName().get(name);
         if (nameMap == null) {
             return null;
         }
@@ -246,7 +269,7 @@ public final class ClassReflectionIndex {
      * @return the method, or {@code null} if no method of that description exists
      */
     public Method getMethod(MethodIdentifier methodIdentifier) {
-        final Map<ParamNameList, Map<String, Method>> nameMap = methodsByTypeName.get(methodIdentifier.getName());
+        final Map<ParamNameList, Map<String, Method>> nameMap = getMethodsByTypeName().get(methodIdentifier.getName());
         if (nameMap == null) {
             return null;
         }
@@ -284,7 +307,7 @@ public final class ClassReflectionIndex {
      * @return the (possibly empty) collection of methods matching the description
      */
     public Collection<Method> getMethods(String name, String... paramTypeNames) {
-        final Map<ParamNameList, Map<String, Method>> nameMap = methodsByTypeName.get(name);
+        final Map<ParamNameList, Map<String, Method>> nameMap = getMethodsByTypeName().get(name);
         if (nameMap == null) {
             return Collections.emptySet();
         }
@@ -378,7 +401,7 @@ public final class ClassReflectionIndex {
      * @return the constructor, or {@code null} of no such constructor exists
      */
     public Constructor<?> getConstructor(String... paramTypeNames) {
-        return constructorsByTypeName.get(createParamNameList(paramTypeNames));
+        return getConstructorsByTypeName().get(createParamNameList(paramTypeNames));
     }
 
     public Set<Method> getClassMethods() {
@@ -1277,6 +1277,14 @@ public interface ServerLogger extends BasicLogger {
     @Message(id = 266, value = "Server home is set to '%s', but server real home is '%s' - unpredictable results may occur.")
     void serverHomeMismatch(Path passed, Path real);
 
+    @LogMessage(level = WARN)
+    @Message(id = 267, value = "Invalid value '%s' for system property '%s' -- value must be a non-negative number of bytes; using the default of %d")
+    void invalidAnnotationIndexCacheSize(String val, String sysProp, long defaultValue);
+
+    @LogMessage(level = WARN)
+    @Message(id = 268, value = "Invalid value '%s' for system property '%s' -- value must be a non-negative number of threads; using the default of %d")
+    void invalidAnnotationIndexingParallelism(String val, String sysProp, int defaultValue);
+
     ////////////////////////////////////////////////
     //Messages without IDs
 
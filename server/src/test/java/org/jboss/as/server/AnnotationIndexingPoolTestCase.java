@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests of the pool {@link ServerService} uses to index the resource roots of a deployment in parallel.
+ */
+public class AnnotationIndexingPoolTestCase {
+
+    @After
+    public void clearProperty() {
+        System.clearProperty(ServerService.ANNOTATION_INDEXING_PARALLELISM);
+    }
+
+    @Test
+    public void testConfiguredParallelism() {
+        System.setProperty(ServerService.ANNOTATION_INDEXING_PARALLELISM, "3");
+        assertParallelism(3);
+    }
+
+    @Test
+    public void testSequentialIndexing() {
+        System.setProperty(ServerService.ANNOTATION_INDEXING_PARALLELISM, "0");
+        assertNull(ServerService.createAnnotationIndexingPool());
+        System.setProperty(ServerService.ANNOTATION_INDEXING_PARALLELISM, "1");
+        assertNull(ServerService.createAnnotationIndexingPool());
+    }
+
+    @Test
+    public void testInvalidValueFallsBackToDefault() {
+        final int defaultParallelism = Runtime.getRuntime().availableProcessors();
+        System.setProperty(ServerService.ANNOTATION_INDEXING_PARALLELISM, "-2");
+        assertParallelism(defaultParallelism);
+        System.setProperty(ServerService.ANNOTATION_INDEXING_PARALLELISM, "many");
+        assertParallelism(defaultParallelism);
+    }
+
+    private static void assertParallelism(int expected) {
+        final ForkJoinPool pool = ServerService.createAnnotationIndexingPool();
+        if (expected <= 1) {
+            assertNull(pool);
+            return;
+        }
+        try {
+            assertEquals(expected, pool.getParallelism());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
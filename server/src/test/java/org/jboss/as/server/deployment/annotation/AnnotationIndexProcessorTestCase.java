@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.server.deployment.annotation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentPhaseContext;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.vfs.VFS;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests of {@link AnnotationIndexProcessor}.
+ */
+public class AnnotationIndexProcessorTestCase {
+
+    private static final Class<?>[] CLASSES = {AnnotationIndexProcessorTestCase.class, ResourceRootIndexCacheTestCase.class,
+            AnnotationIndexProcessor.class};
+
+    private Path dir;
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("annotation-index");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (pool != null) {
+            pool.shutdown();
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelIndexing() throws Exception {
+        pool = new ForkJoinPool(2);
+        checkIndexes(new AnnotationIndexProcessor(null, pool));
+    }
+
+    @Test
+    public void testSequentialIndexing() throws Exception {
+        checkIndexes(new AnnotationIndexProcessor());
+    }
+
+    private void checkIndexes(AnnotationIndexProcessor processor) throws Exception {
+        final ResourceRoot[] roots = new ResourceRoot[CLASSES.length];
+        for (int i = 0; i < CLASSES.length; i++) {
+            roots[i] = createResourceRoot("root" + i, CLASSES[i]);
+        }
+        final DeploymentUnit deploymentUnit = Mockito.mock(DeploymentUnit.class);
+        Mockito.when(deploymentUnit.getAttachment(Attachments.DEPLOYMENT_ROOT)).thenReturn(roots[0]);
+        final List<ResourceRoot> resourceRoots = Arrays.asList(roots).subList(1, roots.length);
+        Mockito.when(deploymentUnit.getAttachmentList(Attachments.RESOURCE_ROOTS)).thenReturn(resourceRoots);
+        final DeploymentPhaseContext phaseContext = Mockito.mock(DeploymentPhaseContext.class);
+        Mockito.when(phaseContext.getDeploymentUnit()).thenReturn(deploymentUnit);
+
+        processor.deploy(phaseContext);
+
+        // Every root gets an index of its own classes only
+        for (int i = 0; i < CLASSES.length; i++) {
+            final Index index = roots[i].getAttachment(Attachments.ANNOTATION_INDEX);
+            assertNotNull(index);
+            assertEquals(1, index.getKnownClasses().size());
+            for (int j = 0; j < CLASSES.length; j++) {
+                final DotName name = DotName.createSimple(CLASSES[j].getName());
+                if (i == j) {
+                    assertNotNull(index.getClassByName(name));
+                } else {
+                    assertNull(index.getClassByName(name));
+                }
+            }
+        }
+    }
+
+    private ResourceRoot createResourceRoot(String name, Class<?> clazz) throws IOException {
+        final Path root = dir.resolve(name);
+        final String resource = clazz.getName().replace('.', '/') + ".class";
+        final Path classFile = root.resolve(resource);
+        Files.createDirectories(classFile.getParent());
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(resource)) {
+            Files.copy(in, classFile);
+        }
+        return new ResourceRoot(name, VFS.getChild(root.toString()), null);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.server.deployment.annotation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ResourceRootIndexCache}.
+ */
+public class ResourceRootIndexCacheTestCase {
+
+    private static final DotName THIS_CLASS = DotName.createSimple(ResourceRootIndexCacheTestCase.class.getName());
+
+    private Path dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("index-cache");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testReadWrite() throws IOException {
+        ResourceRootIndexCache cache = new ResourceRootIndexCache(dir, ResourceRootIndexCache.DEFAULT_MAX_SIZE);
+        assertNull(cache.read("a"));
+        cache.write("a", createIndex());
+        Index index = cache.read("a");
+        assertNotNull(index);
+        assertNotNull(index.getClassByName(THIS_CLASS));
+    }
+
+    @Test
+    public void testCorruptEntryIsDiscarded() throws IOException {
+        ResourceRootIndexCache cache = new ResourceRootIndexCache(dir, ResourceRootIndexCache.DEFAULT_MAX_SIZE);
+        Files.write(dir.resolve("a.idx"), new byte[] {1, 2, 3});
+        assertNull(cache.read("a"));
+        assertEquals(0, count());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws IOException {
+        Index index = createIndex();
+        ResourceRootIndexCache unbounded = new ResourceRootIndexCache(dir, ResourceRootIndexCache.DEFAULT_MAX_SIZE);
+        unbounded.write("a", index);
+        long entrySize = Files.size(dir.resolve("a.idx"));
+        Files.setLastModifiedTime(dir.resolve("a.idx"), FileTime.fromMillis(1000));
+
+        // Room for two entries
+        ResourceRootIndexCache cache = new ResourceRootIndexCache(dir, entrySize * 2);
+        cache.write("b", index);
+        Files.setLastModifiedTime(dir.resolve("b.idx"), FileTime.fromMillis(2000));
+        cache.write("c", index);
+
+        assertEquals(2, count());
+        assertNull(cache.read("a"));
+        assertNotNull(cache.read("b"));
+        assertNotNull(cache.read("c"));
+    }
+
+    private long count() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    private static Index createIndex() throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream in = ResourceRootIndexCacheTestCase.class.getResourceAsStream(ResourceRootIndexCacheTestCase.class.getSimpleName() + ".class")) {
+            indexer.index(in);
+        }
+        return indexer.complete();
+    }
+}